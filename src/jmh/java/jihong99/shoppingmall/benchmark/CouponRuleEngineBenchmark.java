@@ -0,0 +1,117 @@
+package jihong99.shoppingmall.benchmark;
+
+import jihong99.shoppingmall.entity.Coupon;
+import jihong99.shoppingmall.entity.enums.DiscountType;
+import jihong99.shoppingmall.entity.enums.Tiers;
+import jihong99.shoppingmall.service.CouponRules;
+import jihong99.shoppingmall.service.CouponRules.CartLine;
+import jihong99.shoppingmall.service.CouponRules.CouponDiscount;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Microbenchmark of finding the best coupon for a cart.
+ *
+ * <p>The catalog holds {@code coupons} coupons spread over every tier and 50 categories, with a third of them
+ * applying to the whole cart, and the user holds 30 of them. The {@code compiled} strategy evaluates the cart with
+ * {@link CouponRules}; the {@code entityScan} strategy checks each held coupon entity against the cart in turn,
+ * summing its category subtotal from the cart lines, as checkout would with coupons loaded through JPA (the query
+ * itself is not included).</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CouponRuleEngineBenchmark {
+
+    private static final int CATEGORIES = 50;
+    private static final int HELD_COUPONS = 30;
+
+    @Param({"1", "10", "100"})
+    public int cartItems;
+
+    @Param({"100", "10000"})
+    public int coupons;
+
+    @Param({"compiled", "entityScan"})
+    public String strategy;
+
+    private CouponRules rules;
+    private Map<Long, Coupon> couponsById;
+    private long[] heldCouponIds;
+    private List<CartLine> cart;
+    private LocalDate today;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        Tiers[] tiers = Tiers.values();
+        couponsById = new HashMap<>();
+        for (long id = 1; id <= coupons; id++) {
+            boolean percentage = random.nextBoolean();
+            couponsById.put(id, Coupon.builder()
+                    .id(id)
+                    .name("Coupon " + id)
+                    .content("Benchmark coupon")
+                    .expirationDate(LocalDate.now().plusDays(random.nextInt(60) - 10))
+                    .tier(random.nextInt(3) == 0 ? null : tiers[random.nextInt(tiers.length)])
+                    .minimumAmount(random.nextInt(4) == 0 ? null : (long) random.nextInt(100_000))
+                    .categoryId(random.nextInt(3) == 0 ? null : (long) random.nextInt(CATEGORIES))
+                    .discountType(percentage ? DiscountType.PERCENTAGE : DiscountType.FIXED)
+                    .discountValue(percentage ? 1 + random.nextInt(50) : 1_000 + random.nextInt(20_000))
+                    .build());
+        }
+        rules = CouponRules.compile(couponsById.values());
+        heldCouponIds = random.longs(HELD_COUPONS, 1, coupons + 1).distinct().sorted().toArray();
+        cart = new ArrayList<>(cartItems);
+        for (int i = 0; i < cartItems; i++) {
+            cart.add(new CartLine(1_000 + random.nextInt(50_000), 1 + random.nextInt(3),
+                    new long[]{random.nextInt(CATEGORIES)}));
+        }
+        today = LocalDate.now();
+    }
+
+    @Benchmark
+    public Optional<CouponDiscount> findBestDiscount() {
+        if ("compiled".equals(strategy)) {
+            return rules.findBestDiscount(Tiers.SILVER, heldCouponIds, cart, today);
+        }
+        return entityScan(Tiers.SILVER);
+    }
+
+    private Optional<CouponDiscount> entityScan(Tiers tier) {
+        long total = 0;
+        for (CartLine line : cart) {
+            total += line.price() * line.quantity();
+        }
+        CouponDiscount best = null;
+        for (long couponId : heldCouponIds) {
+            Coupon coupon = couponsById.get(couponId);
+            if (coupon.getExpirationDate().isBefore(today)
+                    || (coupon.getTier() != null && coupon.getTier() != tier)
+                    || (coupon.getMinimumAmount() != null && total < coupon.getMinimumAmount())) {
+                continue;
+            }
+            long base = total;
+            if (coupon.getCategoryId() != null) {
+                base = 0;
+                for (CartLine line : cart) {
+                    for (long categoryId : line.categoryIds()) {
+                        if (categoryId == coupon.getCategoryId()) {
+                            base += line.price() * line.quantity();
+                        }
+                    }
+                }
+            }
+            long amount = coupon.getDiscountType() == DiscountType.PERCENTAGE
+                    ? base * coupon.getDiscountValue() / 100
+                    : Math.min(coupon.getDiscountValue(), base);
+            if (amount > 0 && (best == null || amount > best.amount())) {
+                best = new CouponDiscount(couponId, amount);
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+}
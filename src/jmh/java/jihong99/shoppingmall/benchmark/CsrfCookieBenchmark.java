@@ -0,0 +1,90 @@
+package jihong99.shoppingmall.benchmark;
+
+import jakarta.servlet.http.Cookie;
+import jihong99.shoppingmall.ShoppingmallApplication;
+import jihong99.shoppingmall.config.auth.providers.JwtTokenProvider;
+import jihong99.shoppingmall.entity.Users;
+import jihong99.shoppingmall.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Integration benchmark comparing eager and deferred CSRF cookie emission.
+ *
+ * <p>Each trial boots the application with the test profile and repeatedly calls {@code GET /api/users} with a
+ * bearer token and an existing {@code XSRF-TOKEN} cookie, as a browser client does after its first request.
+ * Besides throughput, the {@code setCookieBytes} counter reports the Set-Cookie header bytes written per request.
+ * Allocation per request is reported by the {@code gc} profiler as {@code gc.alloc.rate.norm}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class CsrfCookieBenchmark {
+
+    @Param({"false", "true"})
+    public boolean deferredCookie;
+
+    private ConfigurableApplicationContext context;
+    private MockMvc mockMvc;
+    private String authorization;
+    private String userId;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class ResponseCounters {
+        public long setCookieBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            setCookieBytes = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ShoppingmallApplication.class)
+                .profiles("test")
+                .properties("server.port=0",
+                        "spring.jpa.show-sql=false",
+                        "security.csrf.deferred-cookie=" + deferredCookie)
+                .run();
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context)
+                .apply(springSecurity())
+                .build();
+
+        Users user = context.getBean(UserRepository.class).findByIdentification("abc12345").orElseThrow();
+        authorization = "Bearer " + context.getBean(JwtTokenProvider.class).generateAccessToken(user);
+        userId = user.getId().toString();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int getUserDetails(ResponseCounters counters) throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(get("/api/users")
+                        .param("userId", userId)
+                        .header("Authorization", authorization)
+                        .cookie(new Cookie("XSRF-TOKEN", "existing-token")))
+                .andReturn()
+                .getResponse();
+        for (String setCookie : response.getHeaders(HttpHeaders.SET_COOKIE)) {
+            counters.setCookieBytes += HttpHeaders.SET_COOKIE.length() + 2 + setCookie.length();
+        }
+        return response.getStatus();
+    }
+}
@@ -0,0 +1,118 @@
+package jihong99.shoppingmall.benchmark;
+
+import jihong99.shoppingmall.service.ItemSearchIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Microbenchmark of searching items by name and keyword.
+ *
+ * <p>{@code items} items are generated with three-word names and two-tag keywords over a vocabulary of 20,000
+ * words whose frequencies follow a Zipf-like distribution, so a query mixes common and rare words as real product
+ * text does. Each item is in one of 100 categories. The {@code index} strategy searches {@link ItemSearchIndex}; the
+ * {@code scan} strategy checks every item's lower-cased name and keyword for each query word, as
+ * {@code LIKE '%word%'} over ITEM would (the query itself is not included). Both return the first page of 20.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ItemSearchBenchmark {
+
+    private static final int VOCABULARY = 20_000;
+    private static final int CATEGORIES = 100;
+    private static final int QUERIES = 1_000;
+    private static final int PAGE_SIZE = 20;
+    private static final long[] ALL_CATEGORIES = new long[0];
+
+    @Param({"1000000"})
+    public int items;
+
+    @Param({"index", "scan"})
+    public String strategy;
+
+    @Param({"false", "true"})
+    public boolean categoryFilter;
+
+    private ItemSearchIndex index;
+    private String[] names;
+    private String[] keywords;
+    private long[] categories;
+    private String[][] queries;
+    private long[][] queryCategories;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        String[] words = new String[VOCABULARY];
+        for (int i = 0; i < VOCABULARY; i++) {
+            words[i] = "w" + Integer.toString(i, 36);
+        }
+        index = new ItemSearchIndex();
+        names = new String[items];
+        keywords = new String[items];
+        categories = new long[items];
+        for (int i = 0; i < items; i++) {
+            String name = word(words, random) + " " + word(words, random) + " " + word(words, random);
+            String keyword = "#" + word(words, random) + "#" + word(words, random);
+            long category = random.nextInt(CATEGORIES);
+            index.index(i + 1, name, keyword, new long[]{category});
+            names[i] = name.toLowerCase(Locale.ROOT);
+            keywords[i] = keyword.toLowerCase(Locale.ROOT);
+            categories[i] = category;
+        }
+        queries = new String[QUERIES][];
+        queryCategories = new long[QUERIES][];
+        for (int i = 0; i < QUERIES; i++) {
+            queries[i] = new String[]{word(words, random), word(words, random)};
+            queryCategories[i] = categoryFilter ? new long[]{random.nextInt(CATEGORIES)} : ALL_CATEGORIES;
+        }
+    }
+
+    @Benchmark
+    public long search() {
+        int query = next++ % QUERIES;
+        if ("index".equals(strategy)) {
+            return index.search(String.join(" ", queries[query]), queryCategories[query], 0, PAGE_SIZE).totalHits();
+        }
+        return scan(queries[query], queryCategories[query]);
+    }
+
+    private long scan(String[] words, long[] filter) {
+        List<Long> page = new ArrayList<>(PAGE_SIZE);
+        long hits = 0;
+        for (int i = 0; i < items; i++) {
+            if (filter.length > 0 && categories[i] != filter[0]) {
+                continue;
+            }
+            boolean matches = true;
+            for (String word : words) {
+                if (!names[i].contains(word) && !keywords[i].contains(word)) {
+                    matches = false;
+                    break;
+                }
+            }
+            if (matches) {
+                hits++;
+                if (page.size() < PAGE_SIZE) {
+                    page.add(i + 1L);
+                }
+            }
+        }
+        return hits + page.size();
+    }
+
+    /**
+     * Picks a word with probability roughly proportional to 1 / rank.
+     */
+    private static String word(String[] words, Random random) {
+        int rank = (int) Math.pow(words.length, random.nextDouble());
+        return words[Math.min(rank, words.length) - 1];
+    }
+}
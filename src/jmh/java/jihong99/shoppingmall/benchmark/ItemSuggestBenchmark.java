@@ -0,0 +1,89 @@
+package jihong99.shoppingmall.benchmark;
+
+import jihong99.shoppingmall.service.ItemSuggestIndex;
+import jihong99.shoppingmall.service.ItemSuggestIndex.Candidate;
+import jihong99.shoppingmall.utils.HangulJamo;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Microbenchmark of suggesting item names for a typed prefix.
+ *
+ * <p>{@code items} items are generated with names of two to four Korean words of two or three syllables, drawn from
+ * the 399 syllables without a final consonant, and a random popularity. Queries are the first one to four
+ * syllables of a random name, cut halfway through the last syllable for a quarter of them, plus initial consonant
+ * queries of two or three consonants. Every query asks for the top 10. With {@code pendingChanges} set, that many
+ * items are renamed after the load and not yet rebuilt, so the pending overlay is searched too.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ItemSuggestBenchmark {
+
+    private static final int SYLLABLES = 399;
+    private static final int FINAL_COUNT = 28;
+    private static final int QUERIES = 1_000;
+    private static final int LIMIT = 10;
+
+    @Param({"1000000"})
+    public int items;
+
+    @Param({"0", "10000"})
+    public int pendingChanges;
+
+    private ItemSuggestIndex index;
+    private String[] queries;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        List<Candidate> candidates = new ArrayList<>(items);
+        String[] names = new String[items];
+        for (int i = 0; i < items; i++) {
+            names[i] = name(random);
+            candidates.add(new Candidate(i + 1, names[i], random.nextInt(100_000)));
+        }
+        index = new ItemSuggestIndex(Long.MAX_VALUE, 30);
+        index.load(candidates);
+        for (int i = 0; i < pendingChanges; i++) {
+            index.put(random.nextInt(items) + 1, name(random));
+        }
+        queries = new String[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            String name = names[random.nextInt(items)];
+            if (i % 5 == 0) {
+                queries[i] = HangulJamo.initials(name).substring(0, 2 + random.nextInt(2));
+            } else {
+                String prefix = name.substring(0, 1 + random.nextInt(4));
+                String jamo = HangulJamo.decompose(prefix);
+                queries[i] = i % 4 == 0 ? jamo.substring(0, jamo.length() - 1) : prefix;
+            }
+        }
+    }
+
+    @Benchmark
+    public int suggest() {
+        return index.suggest(queries[next++ % QUERIES], LIMIT).size();
+    }
+
+    private static String name(Random random) {
+        StringBuilder name = new StringBuilder();
+        int words = 2 + random.nextInt(3);
+        for (int word = 0; word < words; word++) {
+            if (word > 0) {
+                name.append(' ');
+            }
+            int syllables = 2 + random.nextInt(2);
+            for (int syllable = 0; syllable < syllables; syllable++) {
+                name.append((char) (0xAC00 + random.nextInt(SYLLABLES) * FINAL_COUNT));
+            }
+        }
+        return name.toString();
+    }
+}
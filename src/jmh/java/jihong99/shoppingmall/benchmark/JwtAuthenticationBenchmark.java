@@ -0,0 +1,72 @@
+package jihong99.shoppingmall.benchmark;
+
+import jihong99.shoppingmall.ShoppingmallApplication;
+import jihong99.shoppingmall.config.auth.providers.JwtTokenProvider;
+import jihong99.shoppingmall.entity.Users;
+import jihong99.shoppingmall.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Integration benchmark comparing authenticated request throughput with and without
+ * stateless (claims-only) JWT authentication.
+ *
+ * <p>Each trial boots the application with the test profile, issues an access token for a seeded user
+ * and repeatedly calls {@code GET /api/users} through the full security filter chain. Results are
+ * reported as requests per second for both values of {@code security.jwt.stateless-authentication}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class JwtAuthenticationBenchmark {
+
+    @Param({"false", "true"})
+    public boolean statelessAuthentication;
+
+    private ConfigurableApplicationContext context;
+    private MockMvc mockMvc;
+    private String authorization;
+    private String userId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ShoppingmallApplication.class)
+                .profiles("test")
+                .properties("server.port=0",
+                        "spring.jpa.show-sql=false",
+                        "security.jwt.stateless-authentication=" + statelessAuthentication)
+                .run();
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context)
+                .apply(springSecurity())
+                .build();
+
+        Users user = context.getBean(UserRepository.class).findByIdentification("abc12345").orElseThrow();
+        authorization = "Bearer " + context.getBean(JwtTokenProvider.class).generateAccessToken(user);
+        userId = user.getId().toString();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int getUserDetails() throws Exception {
+        return mockMvc.perform(get("/api/users")
+                        .param("userId", userId)
+                        .header("Authorization", authorization))
+                .andReturn()
+                .getResponse()
+                .getStatus();
+    }
+}
@@ -0,0 +1,111 @@
+package jihong99.shoppingmall.benchmark;
+
+import jihong99.shoppingmall.ShoppingmallApplication;
+import jihong99.shoppingmall.entity.Coupon;
+import jihong99.shoppingmall.entity.UserCoupon;
+import jihong99.shoppingmall.entity.Users;
+import jihong99.shoppingmall.entity.enums.Tiers;
+import jihong99.shoppingmall.repository.CouponRepository;
+import jihong99.shoppingmall.repository.UserCouponRepository;
+import jihong99.shoppingmall.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Integration benchmark comparing the per-entity tier distribution loop with the set-based INSERT ... SELECT.
+ *
+ * <p>Each trial boots the application with the test profile and seeds the given number of users of one tier.
+ * Each invocation issues a fresh coupon to all of them and reports the wall time of one distribution. The
+ * {@code entityLoop} strategy reproduces the previous implementation: load every user of the tier and save one
+ * {@link UserCoupon} per user in a single transaction.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class TierCouponDistributionBenchmark {
+
+    private static final Tiers TIER = Tiers.GOLD;
+    private static final int SEED_BATCH_SIZE = 10000;
+
+    @Param({"10000", "100000", "1000000"})
+    public int users;
+
+    @Param({"entityLoop", "setBased"})
+    public String strategy;
+
+    private ConfigurableApplicationContext context;
+    private UserRepository userRepository;
+    private CouponRepository couponRepository;
+    private UserCouponRepository userCouponRepository;
+    private TransactionTemplate transactionTemplate;
+    private JdbcTemplate jdbcTemplate;
+    private Coupon coupon;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ShoppingmallApplication.class)
+                .profiles("test")
+                .properties("server.port=0",
+                        "spring.jpa.show-sql=false")
+                .run();
+        userRepository = context.getBean(UserRepository.class);
+        couponRepository = context.getBean(CouponRepository.class);
+        userCouponRepository = context.getBean(UserCouponRepository.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        coupon = couponRepository.save(Coupon.builder()
+                .name("Benchmark Coupon")
+                .content("Issued by the tier distribution benchmark")
+                .expirationDate(LocalDate.now().plusDays(10))
+                .build());
+        seedUsers();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @TearDown(Level.Invocation)
+    public void deleteIssuedCoupons() {
+        jdbcTemplate.update("DELETE FROM user_coupon WHERE coupon_id = ?", coupon.getId());
+    }
+
+    @Benchmark
+    public int distributeCouponToTier() {
+        if ("setBased".equals(strategy)) {
+            return transactionTemplate.execute(status -> userCouponRepository.insertForTier(coupon.getId(), TIER.name(), 0L, Long.MAX_VALUE));
+        }
+        return transactionTemplate.execute(status -> {
+            List<Users> tierUsers = userRepository.findByTier(TIER);
+            tierUsers.forEach(user -> userCouponRepository.save(UserCoupon.createUserCoupon(user, coupon)));
+            return tierUsers.size();
+        });
+    }
+
+    private void seedUsers() {
+        List<Integer> batch = new ArrayList<>(SEED_BATCH_SIZE);
+        for (int i = 0; i < users; i++) {
+            batch.add(i);
+            if (batch.size() == SEED_BATCH_SIZE || i == users - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO users (identification, tier, role) VALUES (?, ?, 'USER')",
+                        batch, batch.size(), (preparedStatement, index) -> {
+                            preparedStatement.setString(1, "benchmark" + index);
+                            preparedStatement.setString(2, TIER.name());
+                        });
+                batch.clear();
+            }
+        }
+    }
+}
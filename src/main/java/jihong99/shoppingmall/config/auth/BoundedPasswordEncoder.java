@@ -0,0 +1,97 @@
+package jihong99.shoppingmall.config.auth;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jihong99.shoppingmall.exception.PasswordHashingUnavailableException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+import static jihong99.shoppingmall.constants.Constants.MESSAGE_503_PasswordHashingUnavailable;
+
+/**
+ * Password encoder that runs every hash on a dedicated, bounded executor.
+ *
+ * <p>BCrypt is CPU-bound, so hashing on request threads lets a login burst pin every worker thread and
+ * starve cheap reads. This encoder delegates to another {@link PasswordEncoder} on a fixed pool sized to the
+ * core count with a bounded queue. When the queue is full, the call fails fast with a
+ * {@link PasswordHashingUnavailableException} (503) instead of piling up more work.</p>
+ *
+ * <p>Queue depth, hash latency and rejections are published as {@code password.hashing.*} metrics.</p>
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("password-hashing-");
+        threadFactory.setDaemon(true);
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+        this.encodeTimer = Timer.builder("password.hashing.latency")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hashing.latency")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hashing.rejected")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.queue.depth", executor, pool -> pool.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Stops the hashing threads. Called by Spring when the application context closes.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T execute(Timer timer, Supplier<T> hashing) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timer.record(hashing));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new PasswordHashingUnavailableException(MESSAGE_503_PasswordHashingUnavailable);
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new PasswordHashingUnavailableException(MESSAGE_503_PasswordHashingUnavailable);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
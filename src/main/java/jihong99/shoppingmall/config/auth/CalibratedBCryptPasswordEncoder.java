@@ -0,0 +1,101 @@
+package jihong99.shoppingmall.config.auth;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt encoder whose cost is calibrated against the hardware it runs on.
+ *
+ * <p>{@link #calibrate(long, int, int)} measures the hash time at increasing costs and picks the highest cost
+ * whose hash still completes within the latency target, never going below the configured minimum cost. Stored
+ * hashes produced with a lower cost report {@link #upgradeEncoding(String)} as true, so they are rehashed on the
+ * user's next successful login.</p>
+ *
+ * <p>Hashes with a higher cost are left alone. Each instance calibrates on its own, so instances may settle on
+ * different costs; rehashing in both directions would make them rewrite each other's hashes on every login, and a
+ * slow startup would weaken stored hashes.</p>
+ */
+public class CalibratedBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CalibratedBCryptPasswordEncoder.class);
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("\\A\\$2(a|y|b)?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}");
+    private static final String CALIBRATION_PASSWORD = "calibration!@#1234";
+    private static final int CALIBRATION_ROUNDS = 3;
+
+    private final int strength;
+
+    public CalibratedBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    /**
+     * Creates an encoder with the highest cost whose hash time stays under the latency target.
+     *
+     * <p>The cost starts at {@code minStrength} and is raised one step at a time. Each step doubles the hash time,
+     * so calibration stops as soon as the next cost would exceed the target. The minimum cost is used even if it
+     * is already slower than the target, so it is the floor of the cost however slow the hardware is.</p>
+     *
+     * @param targetLatencyMillis the maximum acceptable time of a single hash, in milliseconds
+     * @param minStrength the lowest cost that may be chosen
+     * @param maxStrength the highest cost that may be chosen
+     * @return the calibrated encoder
+     * @throws IllegalArgumentException if the minimum cost is above the maximum
+     */
+    public static CalibratedBCryptPasswordEncoder calibrate(long targetLatencyMillis, int minStrength, int maxStrength) {
+        if (minStrength > maxStrength) {
+            throw new IllegalArgumentException("BCrypt min-strength " + minStrength + " is above max-strength " + maxStrength);
+        }
+        int strength = minStrength;
+        if (minStrength < maxStrength) {
+            long hashMillis = measureHashMillis(strength);
+            while (strength < maxStrength && hashMillis * 2 <= targetLatencyMillis) {
+                strength++;
+                hashMillis = measureHashMillis(strength);
+                if (hashMillis > targetLatencyMillis) {
+                    strength--;
+                    break;
+                }
+            }
+        }
+        LOGGER.info("BCrypt cost calibrated to {} (target {} ms)", strength, targetLatencyMillis);
+        return new CalibratedBCryptPasswordEncoder(strength);
+    }
+
+    /**
+     * Returns true if the stored hash was produced with a cost lower than the calibrated one.
+     *
+     * @param encodedPassword the stored password hash
+     * @return true if the password should be rehashed
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+        if (!matcher.matches()) {
+            return false;
+        }
+        return Integer.parseInt(matcher.group(2)) < strength;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    private static long measureHashMillis(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long fastest = Long.MAX_VALUE;
+        for (int round = 0; round < CALIBRATION_ROUNDS; round++) {
+            long start = System.nanoTime();
+            encoder.encode(CALIBRATION_PASSWORD);
+            fastest = Math.min(fastest, (System.nanoTime() - start) / 1_000_000);
+        }
+        return fastest;
+    }
+}
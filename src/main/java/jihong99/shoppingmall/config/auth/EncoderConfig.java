@@ -1,15 +1,46 @@
 package jihong99.shoppingmall.config.auth;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Configuration
 public class EncoderConfig {
 
+    @Value("${security.password-hashing.threads:0}")
+    private int hashingThreads;
+
+    @Value("${security.password-hashing.queue-capacity:100}")
+    private int hashingQueueCapacity;
+
+    @Value("${security.password-hashing.target-latency:250}")
+    private long hashingTargetLatency;
+
+    @Value("${security.password-hashing.min-strength:10}")
+    private int minStrength;
+
+    @Value("${security.password-hashing.max-strength:16}")
+    private int maxStrength;
+
+    /**
+     * Creates the application's PasswordEncoder.
+     *
+     * <p>BCrypt hashing runs on a dedicated executor sized to the core count (unless
+     * {@code security.password-hashing.threads} is set) with a bounded queue, so that login and sign-up
+     * bursts are rejected with 503 instead of occupying every request thread.</p>
+     *
+     * <p>The BCrypt cost is calibrated at startup to the highest value whose hash time stays under
+     * {@code security.password-hashing.target-latency}.</p>
+     *
+     * @param meterRegistry the registry the hashing metrics are published to
+     * @return the PasswordEncoder bean
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        int threads = hashingThreads > 0 ? hashingThreads : Runtime.getRuntime().availableProcessors();
+        PasswordEncoder bcryptPasswordEncoder = CalibratedBCryptPasswordEncoder.calibrate(hashingTargetLatency, minStrength, maxStrength);
+        return new BoundedPasswordEncoder(bcryptPasswordEncoder, threads, hashingQueueCapacity, meterRegistry);
     }
-}
\ No newline at end of file
+}
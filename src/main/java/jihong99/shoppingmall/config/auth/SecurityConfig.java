@@ -1,9 +1,15 @@
 package jihong99.shoppingmall.config.auth;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import jihong99.shoppingmall.config.auth.filters.CsrfCookieFilter;
 import jihong99.shoppingmall.config.auth.filters.JwtAuthenticationFilter;
+import jihong99.shoppingmall.config.auth.filters.RateLimitFilter;
 import jihong99.shoppingmall.config.auth.providers.UsernamePwdAuthenticationProvider;
+import jihong99.shoppingmall.config.auth.ratelimit.RateLimitRule;
+import jihong99.shoppingmall.config.auth.ratelimit.TokenBucketRateLimiter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -16,8 +22,11 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 import org.springframework.security.web.csrf.CookieCsrfTokenRepository;
+import org.springframework.security.web.csrf.CsrfFilter;
 import org.springframework.security.web.csrf.CsrfTokenRequestAttributeHandler;
 
+import java.util.List;
+
 import static jihong99.shoppingmall.entity.enums.Roles.*;
 import static jihong99.shoppingmall.entity.enums.Roles.SUPER_ADMIN;
 
@@ -31,12 +40,41 @@ public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final CsrfCookieFilter csrfCookieFilter;
     private final UsernamePwdAuthenticationProvider authenticationProvider;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${security.rate-limit.enabled:true}")
+    private boolean rateLimitEnabled;
+
+    @Value("${security.rate-limit.max-keys:100000}")
+    private long rateLimitMaxKeys;
+
+    @Value("${security.rate-limit.max-body-bytes:4096}")
+    private int rateLimitMaxBodyBytes;
+
+    @Value("${security.rate-limit.login.ip.capacity:20}")
+    private int loginIpCapacity;
+
+    @Value("${security.rate-limit.login.ip.refill-per-minute:20}")
+    private int loginIpRefillPerMinute;
+
+    @Value("${security.rate-limit.login.identification.capacity:5}")
+    private int loginIdentificationCapacity;
+
+    @Value("${security.rate-limit.login.identification.refill-per-minute:5}")
+    private int loginIdentificationRefillPerMinute;
+
+    @Value("${security.rate-limit.check-id.ip.capacity:30}")
+    private int checkIdIpCapacity;
+
+    @Value("${security.rate-limit.check-id.ip.refill-per-minute:60}")
+    private int checkIdIpRefillPerMinute;
 
     /**
      * Configures the security filter chain for the application.
      *
      * <p>This method sets up the security context, session management, CORS, CSRF, and request authorization configurations.
-     * It also adds custom filters for CSRF and JWT authentication.</p>
+     * It also adds custom filters for rate limiting, CSRF and JWT authentication.</p>
      *
      * @param http the HttpSecurity object to configure
      * @return the configured SecurityFilterChain object
@@ -47,6 +85,9 @@ public class SecurityConfig {
         CsrfTokenRequestAttributeHandler requestHandler = new CsrfTokenRequestAttributeHandler();
         requestHandler.setCsrfRequestAttributeName("_csrf");
         CookieCsrfTokenRepository csrfTokenRepository = CookieCsrfTokenRepository.withHttpOnlyFalse();
+        if (rateLimitEnabled) {
+            http.addFilterBefore(rateLimitFilter(), CsrfFilter.class);
+        }
 
         http
                 .securityContext(httpSecuritySecurityContextConfigurer -> httpSecuritySecurityContextConfigurer
@@ -60,17 +101,37 @@ public class SecurityConfig {
                 .addFilterAfter(csrfCookieFilter, BasicAuthenticationFilter.class)
                 .addFilterBefore(jwtAuthenticationFilter, BasicAuthenticationFilter.class)
                 .authorizeHttpRequests(requests -> requests
-                        .requestMatchers("/api/signup", "/api/users/check-id", "/api/login", "/h2-console/**", "/api/refresh-token","/api/csrf-token", "/api/categories").permitAll()
+                        .requestMatchers("/api/signup", "/api/users/check-id", "/api/login", "/h2-console/**", "/api/refresh-token","/api/csrf-token", "/api/categories", "/actuator/health").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/items", "/api/items/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/users/**").hasAnyRole(USER.name(), ADMIN.name(), SUPER_ADMIN.name())
                         .requestMatchers(HttpMethod.POST, "/api/logout", "/api/users/**").hasAnyRole(USER.name(), ADMIN.name(), SUPER_ADMIN.name())
                         .requestMatchers(HttpMethod.DELETE, "/api/users/**").hasAnyRole(USER.name(), ADMIN.name(), SUPER_ADMIN.name())
                         .requestMatchers(HttpMethod.PUT, "/api/users/**").hasAnyRole(USER.name(), ADMIN.name(), SUPER_ADMIN.name())
-                        .requestMatchers("/api/admin/**").hasRole(ADMIN.name())
+                        .requestMatchers("/api/admin/**", "/actuator/**").hasRole(ADMIN.name())
                         .requestMatchers("/api/super-admin/**").hasRole(SUPER_ADMIN.name()))
                 .headers(headers -> headers.frameOptions(frameOptionsConfig -> frameOptionsConfig.disable())); // access h2 console
         return http.build();
     }
 
+    /**
+     * Creates the rate limit filter for the public endpoints that check credentials or identifications.
+     *
+     * <p>Login is limited both per client IP and per identification, so a burst against one account is throttled
+     * even when it comes from many addresses. The ID duplication check is limited per client IP only.</p>
+     *
+     * @return the rate limit filter
+     */
+    private RateLimitFilter rateLimitFilter() {
+        List<RateLimitRule> rules = List.of(
+                RateLimitRule.of(HttpMethod.POST, "/api/login",
+                        new TokenBucketRateLimiter(loginIpCapacity, loginIpRefillPerMinute, rateLimitMaxKeys),
+                        new TokenBucketRateLimiter(loginIdentificationCapacity, loginIdentificationRefillPerMinute, rateLimitMaxKeys)),
+                RateLimitRule.of(HttpMethod.POST, "/api/users/check-id",
+                        new TokenBucketRateLimiter(checkIdIpCapacity, checkIdIpRefillPerMinute, rateLimitMaxKeys),
+                        null));
+        return new RateLimitFilter(rules, objectMapper, meterRegistry, rateLimitMaxBodyBytes);
+    }
+
     /**
      * Creates an AuthenticationManager bean.
      *
@@ -5,17 +5,24 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.web.csrf.CsrfToken;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Set;
 /**
  * This method is called for every request to ensure CSRF token is added to the response headers.
  *
  * <p>The filter retrieves the CSRF token from the request attributes and sets it as a response header.
  * This is important for securing the application against Cross-Site Request Forgery (CSRF) attacks.</p>
  *
+ * <p>When {@code security.csrf.deferred-cookie} is enabled, the cookie is only written when the client does not
+ * hold the current token yet. Safe requests that already carry the cookie never resolve the token at all, and the
+ * cookie is never written twice when the token repository already wrote it for a newly generated token.</p>
+ *
  * @param request  the HttpServletRequest object
  * @param response the HttpServletResponse object
  * @param filterChain the FilterChain object
@@ -24,14 +31,59 @@ import java.io.IOException;
  */
 @Component
 public class CsrfCookieFilter extends OncePerRequestFilter {
+    private static final String CSRF_COOKIE_NAME = "XSRF-TOKEN";
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+
+    @Value("${security.csrf.deferred-cookie:true}")
+    private boolean deferredCookie;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         CsrfToken csrfToken = (CsrfToken) request.getAttribute(CsrfToken.class.getName());
-        if(null != csrfToken.getHeaderName()){
-            Cookie cookie = new Cookie("XSRF-TOKEN", csrfToken.getToken());
-            cookie.setPath("/");
-            response.addCookie(cookie);
+        if (deferredCookie) {
+            addCookieIfChanged(request, response, csrfToken);
+        } else if (null != csrfToken.getHeaderName()) {
+            addCookie(response, csrfToken.getToken());
         }
         filterChain.doFilter(request, response);
     }
+
+    private void addCookieIfChanged(HttpServletRequest request, HttpServletResponse response, CsrfToken csrfToken) {
+        String cookieToken = getCookieToken(request);
+        if (csrfToken == null || (cookieToken != null && SAFE_METHODS.contains(request.getMethod()))) {
+            return;
+        }
+        String token = csrfToken.getToken();
+        if (!token.equals(cookieToken) && !isCookieWritten(response)) {
+            addCookie(response, token);
+        }
+    }
+
+    private String getCookieToken(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (CSRF_COOKIE_NAME.equals(cookie.getName())) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+
+    private boolean isCookieWritten(HttpServletResponse response) {
+        for (String setCookie : response.getHeaders(HttpHeaders.SET_COOKIE)) {
+            if (setCookie.startsWith(CSRF_COOKIE_NAME + "=")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void addCookie(HttpServletResponse response, String token) {
+        Cookie cookie = new Cookie(CSRF_COOKIE_NAME, token);
+        cookie.setPath("/");
+        response.addCookie(cookie);
+    }
 }
@@ -1,15 +1,20 @@
 package jihong99.shoppingmall.config.auth.filters;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import jihong99.shoppingmall.config.auth.providers.AccessTokenDenylist;
 import jihong99.shoppingmall.config.auth.providers.JwtTokenProvider;
+import jihong99.shoppingmall.config.auth.providers.VerifiedToken;
 import jihong99.shoppingmall.config.auth.service.UserDetailsServiceImpl;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -18,10 +23,19 @@ import java.io.IOException;
 /**
  * This method is called for every request to perform JWT authentication.
  *
- * <p>The filter extracts the JWT token from the Authorization header, validates it, and sets the
+ * <p>The filter extracts the JWT token from the Authorization header, verifies it once, and sets the
  * authentication in the security context if the token is valid. This ensures that the user is authenticated
  * for the current request.</p>
  *
+ * <p>When {@code security.jwt.stateless-authentication} is enabled, the principal is built straight from the
+ * verified token claims instead of being loaded from the database. A role change therefore only takes effect
+ * once the user's current access token expires. Tokens missing the ID or role claim, or carrying an unknown role,
+ * still fall back to {@link UserDetailsServiceImpl}. A token whose user no longer exists leaves the request
+ * unauthenticated.</p>
+ *
+ * <p>Only access tokens authenticate a request. Refresh tokens and tokens revoked on logout are ignored, as if no
+ * token had been sent.</p>
+ *
  * @param request  the HttpServletRequest object
  * @param response the HttpServletResponse object
  * @param filterChain the FilterChain object
@@ -36,22 +50,44 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private UserDetailsServiceImpl userDetailsServiceImpl;
 
+    @Autowired
+    private AccessTokenDenylist accessTokenDenylist;
+
+    @Value("${security.jwt.stateless-authentication:false}")
+    private boolean statelessAuthentication;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException, IOException {
         String token = request.getHeader("Authorization");
         if (token != null && token.startsWith("Bearer ")) {
-            token = token.substring(7);
-            String identification = jwtTokenProvider.getIdentificationFromToken(token);
-            if (identification != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = userDetailsServiceImpl.loadUserByUsername(identification);
-                if (jwtTokenProvider.validateToken(token)) {
-                    UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
-                            userDetails, null, userDetails.getAuthorities());
-                    authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+            VerifiedToken verifiedToken = jwtTokenProvider.verifyToken(token.substring(7));
+            if (verifiedToken.isAccessToken() && !accessTokenDenylist.isRevoked(verifiedToken.getClaims().getId())
+                    && SecurityContextHolder.getContext().getAuthentication() == null) {
+                UserDetails userDetails = loadUserDetails(verifiedToken.getClaims());
+                if (userDetails == null) {
+                    filterChain.doFilter(request, response);
+                    return;
                 }
+                UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
+                        userDetails, null, userDetails.getAuthorities());
+                authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authenticationToken);
             }
         }
         filterChain.doFilter(request, response);
     }
+
+    private UserDetails loadUserDetails(Claims claims) {
+        if (statelessAuthentication) {
+            UserDetails principal = jwtTokenProvider.getPrincipalFromClaims(claims);
+            if (principal != null) {
+                return principal;
+            }
+        }
+        try {
+            return userDetailsServiceImpl.loadUserByUsername(claims.getSubject());
+        } catch (UsernameNotFoundException e) {
+            return null;
+        }
+    }
 }
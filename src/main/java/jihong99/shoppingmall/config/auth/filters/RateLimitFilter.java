@@ -0,0 +1,233 @@
+package jihong99.shoppingmall.config.auth.filters;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jihong99.shoppingmall.config.auth.ratelimit.RateLimitRule;
+import jihong99.shoppingmall.config.auth.ratelimit.TokenBucketRateLimiter;
+import jihong99.shoppingmall.dto.ErrorResponseDto;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static jihong99.shoppingmall.constants.Constants.MESSAGE_413_RequestBodyTooLarge;
+import static jihong99.shoppingmall.constants.Constants.MESSAGE_429_TooManyRequests;
+
+/**
+ * This method is called for every request to throttle credential and identification checks.
+ *
+ * <p>Requests to an endpoint with a {@link RateLimitRule} take a token from the bucket of the client IP and,
+ * if the rule asks for it, from the bucket of the {@code identification} in the JSON body. When either bucket is
+ * empty the request is rejected with 429 and a Retry-After header, before any password hashing or database
+ * lookup happens. Rejections are counted under {@code rate.limit.rejected}, tagged by endpoint and key.</p>
+ *
+ * <p>To read the identification, the body is buffered in memory before any limit on it applies, so at most
+ * {@code maxBodyBytes} are read. Larger bodies are rejected with 413 without being parsed; a declared
+ * Content-Length over the cap is rejected without reading the body at all.</p>
+ *
+ * <p>The client IP is the remote address of the request. Behind a proxy, it must be resolved from the forwarded
+ * headers by the server (e.g. {@code server.forward-headers-strategy}).</p>
+ *
+ * @param request  the HttpServletRequest object
+ * @param response the HttpServletResponse object
+ * @param filterChain the FilterChain object
+ * @throws ServletException if an error occurs during the servlet processing
+ * @throws IOException if an input or output error is detected
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final int DEFAULT_MAX_BODY_BYTES = 4096;
+
+    private final List<RateLimitRule> rules;
+    private final ObjectMapper objectMapper;
+    private final int maxBodyBytes;
+    private final Map<String, Counter> rejectionCounters = new HashMap<>();
+
+    public RateLimitFilter(List<RateLimitRule> rules, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this(rules, objectMapper, meterRegistry, DEFAULT_MAX_BODY_BYTES);
+    }
+
+    public RateLimitFilter(List<RateLimitRule> rules, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                           int maxBodyBytes) {
+        this.rules = rules;
+        this.objectMapper = objectMapper;
+        this.maxBodyBytes = maxBodyBytes;
+        for (RateLimitRule rule : rules) {
+            for (String key : List.of("ip", "identification")) {
+                rejectionCounters.put(counterKey(rule, key), Counter.builder("rate.limit.rejected")
+                        .tag("endpoint", rule.getPath())
+                        .tag("key", key)
+                        .register(meterRegistry));
+            }
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        RateLimitRule rule = findRule(request);
+        if (rule == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (rule.getIpLimiter() != null
+                && isRejected(rule, "ip", rule.getIpLimiter(), request.getRemoteAddr(), request, response)) {
+            return;
+        }
+        HttpServletRequest filteredRequest = request;
+        if (rule.getIdentificationLimiter() != null) {
+            if (request.getContentLengthLong() > maxBodyBytes) {
+                writeError(request, response, HttpStatus.PAYLOAD_TOO_LARGE, MESSAGE_413_RequestBodyTooLarge);
+                return;
+            }
+            byte[] body = request.getInputStream().readNBytes(maxBodyBytes + 1);
+            if (body.length > maxBodyBytes) {
+                writeError(request, response, HttpStatus.PAYLOAD_TOO_LARGE, MESSAGE_413_RequestBodyTooLarge);
+                return;
+            }
+            CachedBodyHttpServletRequest cachedRequest = new CachedBodyHttpServletRequest(request, body);
+            String identification = readIdentification(cachedRequest.getBody());
+            if (identification != null
+                    && isRejected(rule, "identification", rule.getIdentificationLimiter(), identification, request, response)) {
+                return;
+            }
+            filteredRequest = cachedRequest;
+        }
+        filterChain.doFilter(filteredRequest, response);
+    }
+
+    private RateLimitRule findRule(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (RateLimitRule rule : rules) {
+            if (rule.matches(request.getMethod(), path)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private boolean isRejected(RateLimitRule rule, String keyName, TokenBucketRateLimiter limiter, String key,
+                               HttpServletRequest request, HttpServletResponse response) throws IOException {
+        long waitNanos = limiter.tryAcquire(key);
+        if (waitNanos == 0) {
+            return false;
+        }
+        rejectionCounters.get(counterKey(rule, keyName)).increment();
+        long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        writeError(request, response, HttpStatus.TOO_MANY_REQUESTS, MESSAGE_429_TooManyRequests);
+        return true;
+    }
+
+    private void writeError(HttpServletRequest request, HttpServletResponse response, HttpStatus status,
+                            String message) throws IOException {
+        ErrorResponseDto errorResponseDto = new ErrorResponseDto(
+                "uri=" + request.getRequestURI(),
+                status,
+                message,
+                LocalDateTime.now()
+        );
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), errorResponseDto);
+    }
+
+    private String readIdentification(byte[] body) {
+        if (body.length == 0) {
+            return null;
+        }
+        try {
+            JsonNode identification = objectMapper.readTree(body).get("identification");
+            return identification != null && identification.isTextual() ? identification.asText() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static String counterKey(RateLimitRule rule, String keyName) {
+        return rule.getPath() + "|" + keyName;
+    }
+
+    /**
+     * Request whose body was read once up front, so it can be inspected here and still be bound by the controller.
+     */
+    private static class CachedBodyHttpServletRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyHttpServletRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        byte[] getBody() {
+            return body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream inputStream = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return inputStream.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                /**
+                 * Notifies the listener right away, since the whole body is already in memory.
+                 */
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        readListener.onDataAvailable();
+                        readListener.onAllDataRead();
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return inputStream.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return inputStream.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding() != null ? getCharacterEncoding() : StandardCharsets.UTF_8.name();
+            return new BufferedReader(new InputStreamReader(getInputStream(), Charset.forName(encoding)));
+        }
+    }
+}
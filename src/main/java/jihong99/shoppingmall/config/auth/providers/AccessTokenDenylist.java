@@ -0,0 +1,87 @@
+package jihong99.shoppingmall.config.auth.providers;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+
+/**
+ * In-memory denylist of revoked access tokens, keyed by token ID (jti).
+ *
+ * <p>A revoked token is kept only for its remaining lifetime, since an expired token is rejected anyway. Lookups
+ * first probe a Bloom filter, so the common case of a token that was never revoked costs a few lock-free bit reads
+ * and no hashing into the exact set. Only a Bloom filter hit is confirmed against the exact set.</p>
+ *
+ * <p>Expired entries leave the exact set on their own. The Bloom filter cannot forget entries, so it is rebuilt
+ * from the live entries on a schedule.</p>
+ */
+@Component
+public class AccessTokenDenylist {
+
+    @Value("${security.jwt.denylist.expected-size:100000}")
+    private long expectedSize;
+
+    @Value("${security.jwt.denylist.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    private Cache<String, Long> revokedTokens;
+
+    private volatile JtiBloomFilter bloomFilter;
+
+    @PostConstruct
+    public void init() {
+        revokedTokens = Caffeine.newBuilder()
+                .expireAfter(Expiry.creating((String jti, Long expiresAt) ->
+                        Duration.ofMillis(Math.max(0, expiresAt - System.currentTimeMillis()))))
+                .build();
+        bloomFilter = new JtiBloomFilter(expectedSize, falsePositiveRate);
+    }
+
+    /**
+     * Revokes the access token with the specified ID until it expires.
+     *
+     * @param jti The ID of the token to be revoked
+     * @param expiration The expiration time of the token
+     */
+    public synchronized void revoke(String jti, Date expiration) {
+        if (jti == null || expiration == null || expiration.getTime() <= System.currentTimeMillis()) {
+            return;
+        }
+        revokedTokens.put(jti, expiration.getTime());
+        bloomFilter.put(jti);
+    }
+
+    /**
+     * Checks whether the access token with the specified ID was revoked.
+     *
+     * @param jti The ID of the token to be checked
+     * @return true if the token was revoked and has not expired yet
+     */
+    public boolean isRevoked(String jti) {
+        if (jti == null || !bloomFilter.mightContain(jti)) {
+            return false;
+        }
+        return revokedTokens.getIfPresent(jti) != null;
+    }
+
+    /**
+     * Rebuilds the Bloom filter from the tokens that are still revoked.
+     *
+     * <p>This drops the bits of expired tokens, and grows the filter if more tokens are revoked than expected.
+     * Revocations are blocked while the new filter is built, so no revoked token is ever missing from it.</p>
+     */
+    @Scheduled(fixedDelayString = "${security.jwt.denylist.rebuild-interval:600000}")
+    public synchronized void rebuildBloomFilter() {
+        revokedTokens.cleanUp();
+        long liveEntries = revokedTokens.estimatedSize();
+        JtiBloomFilter rebuilt = new JtiBloomFilter(Math.max(expectedSize, liveEntries * 2), falsePositiveRate);
+        revokedTokens.asMap().keySet().forEach(rebuilt::put);
+        bloomFilter = rebuilt;
+    }
+}
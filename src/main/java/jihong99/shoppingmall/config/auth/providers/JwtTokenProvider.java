@@ -1,70 +1,151 @@
 package jihong99.shoppingmall.config.auth.providers;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import jakarta.annotation.PostConstruct;
+import jihong99.shoppingmall.dto.UserPrincipalDto;
+import jihong99.shoppingmall.entity.RefreshSession;
 import jihong99.shoppingmall.entity.Users;
+import jihong99.shoppingmall.entity.enums.Roles;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
 @Component
 public class JwtTokenProvider {
 
+    /**
+     * The claim telling access tokens from refresh tokens, so neither can be used in place of the other.
+     */
+    public static final String TOKEN_TYPE_CLAIM = "typ";
+
+    public static final String ACCESS_TOKEN_TYPE = "access";
+
+    public static final String REFRESH_TOKEN_TYPE = "refresh";
+
     @Value("${security.jwt.secret-key}")
     private String secretKey;
 
     @Value("${security.jwt.access-token-expiration-time}")
     private long accessTokenExpirationTime;
 
-    @Value("${security.jwt.refresh-token-expiration-time}")
-    private long refreshTokenExpirationTime;
+    @Value("${security.jwt.verified-token-cache-size:10000}")
+    private long verifiedTokenCacheSize;
+
+    private JwtParser jwtParser;
+
+    private Cache<String, Claims> verifiedTokenCache;
+
+    /**
+     * Builds the JWT parser and the verified-token cache once.
+     *
+     * <p>The parser decodes the secret key a single time and is reused for every verification. Verified
+     * tokens are cached by their SHA-256 digest until their own expiration time, so repeated requests
+     * carrying the same token skip signature verification entirely.</p>
+     */
+    @PostConstruct
+    public void init() {
+        jwtParser = Jwts.parser().setSigningKey(secretKey);
+        verifiedTokenCache = Caffeine.newBuilder()
+                .maximumSize(verifiedTokenCacheSize)
+                .expireAfter(Expiry.creating((String digest, Claims claims) ->
+                        Duration.ofMillis(Math.max(0, claims.getExpiration().getTime() - System.currentTimeMillis()))))
+                .build();
+    }
 
     /**
      * Generates an access token for the specified user.
      *
-     * <p>This method creates a JWT access token containing the user's ID and identification. The token is
-     * signed with the secret key and has an expiration time set by the application properties.</p>
+     * <p>This method creates a JWT access token containing the user's ID, identification and role, with a unique
+     * token ID so it can be revoked on logout. The token is signed with the secret key and has an expiration time
+     * set by the application properties.</p>
      *
      * @param user The user for whom the access token is to be generated
      * @return The generated JWT access token as a string
      */
     public String generateAccessToken(Users user) {
-        Map<String, Object> claims = new HashMap<>();
-        claims.put("id", user.getId());
-        claims.put("identification", user.getIdentification());
-        return Jwts.builder()
-                .setClaims(claims)
-                .setSubject(user.getIdentification())
-                .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + accessTokenExpirationTime))
-                .signWith(SignatureAlgorithm.HS256, secretKey)
-                .compact();
+        return buildAccessToken(user.getId(), user.getIdentification(), user.getRole());
+    }
+
+    /**
+     * Generates an access token for the specified principal.
+     *
+     * <p>This method issues the same token as {@link #generateAccessToken(Users)} without requiring the user
+     * entity, so a token can be refreshed from the cached principal alone.</p>
+     *
+     * @param principal The principal for whom the access token is to be generated
+     * @return The generated JWT access token as a string
+     */
+    public String generateAccessToken(UserPrincipalDto principal) {
+        return buildAccessToken(principal.getId(), principal.getIdentification(), principal.getRole());
     }
 
     /**
-     * Generates a refresh token for the specified user.
+     * Generates a refresh token for the specified refresh session.
      *
-     * <p>This method creates a JWT refresh token containing the user's identification. The token is signed
-     * with the secret key and has an expiration time set by the application properties.</p>
+     * <p>This method creates a JWT refresh token whose subject is the user's identification and whose ID is the
+     * session ID. The token is typed as a refresh token, so it is never accepted as a bearer token, and it expires
+     * together with the session.</p>
      *
-     * @param user The user for whom the refresh token is to be generated
+     * @param session The refresh session the token is to be issued for
      * @return The generated JWT refresh token as a string
      */
-    public String generateRefreshToken(Users user) {
-        Map<String, Object> claims = new HashMap<>();
+    public String generateRefreshToken(RefreshSession session) {
         return Jwts.builder()
-                .setClaims(claims)
-                .setSubject(user.getIdentification())
+                .claim(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE)
+                .setSubject(session.getIdentification())
+                .setId(session.getId())
                 .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + refreshTokenExpirationTime))
+                .setExpiration(Date.from(session.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant()))
                 .signWith(SignatureAlgorithm.HS256, secretKey)
                 .compact();
     }
 
+    /**
+     * Verifies the specified JWT token with a single parse.
+     *
+     * <p>This method returns the verified claims together with the validity result. Tokens that were already
+     * verified are served from the cache without recomputing the signature. Invalid tokens are never cached.</p>
+     *
+     * @param token The JWT token to be verified
+     * @return The verification result holding the claims if the token is valid
+     */
+    public VerifiedToken verifyToken(String token) {
+        if (token == null || token.isEmpty()) {
+            return VerifiedToken.invalid();
+        }
+        String digest = digest(token);
+        Claims cachedClaims = verifiedTokenCache.getIfPresent(digest);
+        if (cachedClaims != null) {
+            return VerifiedToken.valid(cachedClaims);
+        }
+        try {
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            if (claims.getExpiration() != null) {
+                verifiedTokenCache.put(digest, claims);
+            }
+            return VerifiedToken.valid(claims);
+        } catch (JwtException | IllegalArgumentException e) {
+            return VerifiedToken.invalid();
+        }
+    }
+
     /**
      * Validates the specified JWT token.
      *
@@ -74,24 +155,73 @@ public class JwtTokenProvider {
      * @return True if the token is valid, false otherwise
      */
     public boolean validateToken(String token) {
-        try {
-            Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token);
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        return verifyToken(token).isValid();
     }
 
     /**
      * Extracts the user's identification from the specified JWT token.
      *
-     * <p>This method parses the JWT token to extract the subject (user's identification) using the secret key.</p>
+     * <p>This method verifies the JWT token to extract the subject (user's identification).</p>
      *
      * @param token The JWT token from which the identification is to be extracted
-     * @return The user's identification extracted from the token
+     * @return The user's identification extracted from the token, or null if the token is invalid
      */
     public String getIdentificationFromToken(String token) {
-        Claims claims = Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody();
-        return claims.getSubject();
+        VerifiedToken verifiedToken = verifyToken(token);
+        return verifiedToken.isValid() ? verifiedToken.getClaims().getSubject() : null;
+    }
+
+    /**
+     * Builds an authenticated principal from verified access token claims.
+     *
+     * <p>This method reads the user's ID, identification and role claims embedded by {@link #generateAccessToken(Users)}.
+     * It returns null for any token that is not an access token. For an access token it also returns null when the
+     * token was issued without those claims (e.g. before the role claim existed) or with a role this version does
+     * not know, so callers can fall back to loading the user from the database.</p>
+     *
+     * @param claims The verified claims from which the principal is to be built
+     * @return The principal built from the token claims, or null if the claims are incomplete
+     */
+    public UserPrincipalDto getPrincipalFromClaims(Claims claims) {
+        if (!ACCESS_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM))) {
+            return null;
+        }
+        Object id = claims.get("id");
+        Object role = claims.get("role");
+        if (!(id instanceof Number) || role == null) {
+            return null;
+        }
+        try {
+            return UserPrincipalDto.of(((Number) id).longValue(), claims.getSubject(), Roles.valueOf(role.toString()));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private String buildAccessToken(Long id, String identification, Roles role) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(TOKEN_TYPE_CLAIM, ACCESS_TOKEN_TYPE);
+        claims.put("id", id);
+        claims.put("identification", identification);
+        if (role != null) {
+            claims.put("role", role.name());
+        }
+        return Jwts.builder()
+                .setClaims(claims)
+                .setSubject(identification)
+                .setId(UUID.randomUUID().toString())
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + accessTokenExpirationTime))
+                .signWith(SignatureAlgorithm.HS256, secretKey)
+                .compact();
+    }
+
+    private String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
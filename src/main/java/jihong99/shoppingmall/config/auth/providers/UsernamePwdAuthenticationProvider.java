@@ -28,6 +28,9 @@ public class UsernamePwdAuthenticationProvider implements AuthenticationProvider
      * authentication token containing the user's details. If the credentials are invalid, it throws a
      * BadCredentialsException.</p>
      *
+     * <p>If the stored hash was produced with a lower BCrypt cost than the calibrated one, the password is
+     * transparently rehashed after the successful match.</p>
+     *
      * @param authentication The authentication request object containing the username and password
      * @return A fully authenticated object including credentials
      * @throws AuthenticationException if authentication fails
@@ -41,6 +44,7 @@ public class UsernamePwdAuthenticationProvider implements AuthenticationProvider
                 .orElseThrow(() -> new BadCredentialsException("No user registered with this details!"));
 
         if(passwordEncoder.matches(password, user.getPassword())){
+            rehashIfNeeded(user, password);
             UserDetailsDto userDetailsDto = new UserDetailsDto(user);
             return new UsernamePasswordAuthenticationToken(userDetailsDto, password, userDetailsDto.getAuthorities());
         } else {
@@ -60,4 +64,11 @@ public class UsernamePwdAuthenticationProvider implements AuthenticationProvider
     public boolean supports(Class<?> authentication) {
         return (UsernamePasswordAuthenticationToken.class.isAssignableFrom(authentication));
     }
+
+    private void rehashIfNeeded(Users user, String password) {
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            user.updatePassword(passwordEncoder.encode(password));
+            userRepository.save(user);
+        }
+    }
 }
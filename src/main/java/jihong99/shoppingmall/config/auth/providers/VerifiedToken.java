@@ -0,0 +1,47 @@
+package jihong99.shoppingmall.config.auth.providers;
+
+import io.jsonwebtoken.Claims;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import static jihong99.shoppingmall.config.auth.providers.JwtTokenProvider.*;
+
+/**
+ * Result of verifying a JWT token once.
+ *
+ * <p>Holds the validity result together with the verified claims so callers never have to parse
+ * the same token a second time. Claims are null when the token is invalid.</p>
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class VerifiedToken {
+
+    private static final VerifiedToken INVALID = new VerifiedToken(false, null);
+
+    private final boolean valid;
+
+    private final Claims claims;
+
+    public static VerifiedToken valid(Claims claims) {
+        return new VerifiedToken(true, claims);
+    }
+
+    public static VerifiedToken invalid() {
+        return INVALID;
+    }
+
+    /**
+     * @return true if the token is valid and was issued as an access token
+     */
+    public boolean isAccessToken() {
+        return valid && ACCESS_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM));
+    }
+
+    /**
+     * @return true if the token is valid and was issued as a refresh token
+     */
+    public boolean isRefreshToken() {
+        return valid && REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM));
+    }
+}
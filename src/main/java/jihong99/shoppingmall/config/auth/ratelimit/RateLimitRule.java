@@ -0,0 +1,34 @@
+package jihong99.shoppingmall.config.auth.ratelimit;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpMethod;
+
+/**
+ * Rate limits applied to one endpoint.
+ *
+ * <p>Requests are limited per client IP and, for endpoints whose JSON body carries an {@code identification},
+ * per identification as well. Either limiter may be null to skip that key.</p>
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class RateLimitRule {
+
+    private final HttpMethod method;
+
+    private final String path;
+
+    private final TokenBucketRateLimiter ipLimiter;
+
+    private final TokenBucketRateLimiter identificationLimiter;
+
+    public static RateLimitRule of(HttpMethod method, String path, TokenBucketRateLimiter ipLimiter,
+                                   TokenBucketRateLimiter identificationLimiter) {
+        return new RateLimitRule(method, path, ipLimiter, identificationLimiter);
+    }
+
+    public boolean matches(String requestMethod, String requestPath) {
+        return method.matches(requestMethod) && path.equals(requestPath);
+    }
+}
@@ -0,0 +1,66 @@
+package jihong99.shoppingmall.config.auth.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token bucket per key.
+ *
+ * <p>Each bucket is a single {@link AtomicLong} holding the theoretical arrival time of the next request
+ * (the GCRA form of a token bucket), so taking a token is one compare-and-set and threads hitting different keys
+ * never contend. A bucket allows {@code capacity} requests in a burst and refills at {@code refillPerMinute}.</p>
+ *
+ * <p>A bucket that was not touched for the time it takes to refill completely is full again, so it is evicted
+ * without changing any outcome. The number of tracked keys is also bounded, so spraying keys cannot exhaust memory.</p>
+ */
+public class TokenBucketRateLimiter {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final LongSupplier nanoClock;
+    private final Cache<String, AtomicLong> buckets;
+
+    public TokenBucketRateLimiter(int capacity, int refillPerMinute, long maxKeys) {
+        this(capacity, refillPerMinute, maxKeys, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(int capacity, int refillPerMinute, long maxKeys, LongSupplier nanoClock) {
+        if (capacity < 1 || refillPerMinute < 1) {
+            throw new IllegalArgumentException("capacity and refillPerMinute must be positive");
+        }
+        this.emissionIntervalNanos = TimeUnit.MINUTES.toNanos(1) / refillPerMinute;
+        this.burstToleranceNanos = emissionIntervalNanos * (capacity - 1);
+        this.nanoClock = nanoClock;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofNanos(emissionIntervalNanos * capacity))
+                .build();
+    }
+
+    /**
+     * Takes a token from the bucket of the specified key.
+     *
+     * @param key the key to be limited, e.g. a client IP or an identification
+     * @return 0 if a token was taken, otherwise the nanoseconds until the next token is available
+     */
+    public long tryAcquire(String key) {
+        AtomicLong theoreticalArrival = buckets.get(key, k -> new AtomicLong(nanoClock.getAsLong()));
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long arrival = theoreticalArrival.get();
+            long start = arrival - now > 0 ? arrival : now;
+            long wait = start - now - burstToleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(arrival, start + emissionIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+}
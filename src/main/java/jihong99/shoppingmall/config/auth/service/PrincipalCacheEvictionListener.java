@@ -0,0 +1,54 @@
+package jihong99.shoppingmall.config.auth.service;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import jihong99.shoppingmall.entity.Users;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA entity listener that keeps the principal cache of {@link UserDetailsServiceImpl} consistent.
+ *
+ * <p>The cached principal is evicted after an update that changed the user's role or password, and after
+ * the user is deleted. Other updates (e.g. points or phone number) leave the cache untouched.</p>
+ *
+ * <p>The callbacks run at flush time, inside the still-open transaction, so the eviction is deferred until the
+ * transaction commits. Evicting earlier would let a concurrent request reload the old role or password hash before
+ * the commit and cache it for the full time-to-live. A load already running when the eviction happens is waited for
+ * and its result discarded by the cache.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class PrincipalCacheEvictionListener {
+
+    private final ObjectProvider<UserDetailsServiceImpl> userDetailsServiceProvider;
+
+    @PostUpdate
+    public void afterUpdate(Users user) {
+        if (user.isPrincipalChanged()) {
+            user.clearPrincipalChanged();
+            evictAfterCommit(user.getIdentification());
+        }
+    }
+
+    @PostRemove
+    public void afterRemove(Users user) {
+        evictAfterCommit(user.getIdentification());
+    }
+
+    private void evictAfterCommit(String identification) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    userDetailsServiceProvider.getObject().evictPrincipal(identification);
+                }
+            });
+        } else {
+            userDetailsServiceProvider.getObject().evictPrincipal(identification);
+        }
+    }
+}
@@ -1,25 +1,64 @@
 package jihong99.shoppingmall.config.auth.service;
 
-import jihong99.shoppingmall.dto.UserDetailsDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jihong99.shoppingmall.dto.UserPrincipalDto;
 import jihong99.shoppingmall.entity.Users;
 import jihong99.shoppingmall.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+
 @Service
 @RequiredArgsConstructor
 public class UserDetailsServiceImpl implements UserDetailsService {
+    private static final String PRINCIPAL_CACHE_NAME = "principalCache";
+
     private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${security.principal-cache.maximum-size:10000}")
+    private long principalCacheMaximumSize;
+
+    @Value("${security.principal-cache.time-to-live:600000}")
+    private long principalCacheTimeToLive;
+
+    private Cache<String, UserPrincipalDto> principalCache;
+
+    /**
+     * Builds the principal cache and registers its metrics.
+     *
+     * <p>The cache is bounded both by size and by time-to-live, and reports its size, hit/miss counts
+     * and hit rate under the {@code principalCache} cache name.</p>
+     */
+    @PostConstruct
+    public void init() {
+        principalCache = Caffeine.newBuilder()
+                .maximumSize(principalCacheMaximumSize)
+                .expireAfterWrite(Duration.ofMillis(principalCacheTimeToLive))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, principalCache, PRINCIPAL_CACHE_NAME);
+        Gauge.builder("cache.hit.rate", principalCache, cache -> cache.stats().hitRate())
+                .tag("cache", PRINCIPAL_CACHE_NAME)
+                .register(meterRegistry);
+    }
 
     /**
      * Loads the user details based on the given username (identification).
      *
-     * <p>This method retrieves the user from the repository using the provided identification. If the user is found,
-     * it returns a UserDetailsDto containing the user's details. If the user is not found, it throws a
-     * UsernameNotFoundException.</p>
+     * <p>This method first looks up the principal cache. On a miss, it retrieves the user from the repository
+     * using the provided identification and caches a {@link UserPrincipalDto} holding only the user's ID,
+     * identification and role. If the user is not found, it throws a UsernameNotFoundException.</p>
      *
      * @param identification The username or identification of the user to load
      * @return A UserDetails object containing the user's information
@@ -27,8 +66,37 @@ public class UserDetailsServiceImpl implements UserDetailsService {
      */
     @Override
     public UserDetails loadUserByUsername(String identification) throws UsernameNotFoundException {
+        return getPrincipal(identification);
+    }
+
+    /**
+     * Returns the principal of the specified user, from the cache when possible.
+     *
+     * @param identification The identification of the user
+     * @return The principal holding the user's ID, identification and role
+     * @throws UsernameNotFoundException if the user cannot be found
+     */
+    public UserPrincipalDto getPrincipal(String identification) {
+        return principalCache.get(identification, this::loadPrincipal);
+    }
+
+    /**
+     * Removes the cached principal of the specified user.
+     *
+     * <p>This method is called whenever the user's role or password changes, or the user is deleted,
+     * so that the next request reloads the principal from the database.</p>
+     *
+     * @param identification The identification of the user whose principal is to be evicted
+     */
+    public void evictPrincipal(String identification) {
+        if (identification != null) {
+            principalCache.invalidate(identification);
+        }
+    }
+
+    private UserPrincipalDto loadPrincipal(String identification) {
         Users user = userRepository.findByIdentification(identification)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with identification: " + identification));
-        return new UserDetailsDto(user);
+        return UserPrincipalDto.of(user.getId(), user.getIdentification(), user.getRole());
     }
 }
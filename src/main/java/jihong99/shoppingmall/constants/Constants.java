@@ -18,6 +18,7 @@ public class Constants {
     public static final String MESSAGE_200_UpdateItemSuccess = "Item updated successfully.";
     public static final String MESSAGE_200_DeleteItemSuccess = "Item deleted successfully.";
     public static final String MESSAGE_200_DistributeCouponSuccess = "Coupon distributed sucessfully.";
+    public static final String MESSAGE_200_ClaimCouponSuccess = "Coupon claimed successfully.";
     public static final String MESSAGE_400_duplicatedId = "The ID already exists.";
     public static final String MESSAGE_400_duplicatedCoupon = "Coupon already exists.";
     public static final String MESSAGE_400_InvalidExpirationDate = "expiration date is invalid.";
@@ -25,8 +26,23 @@ public class Constants {
     public static final String MESSAGE_400_InvalidRefreshToken = "Refresh Token is invalid or not found";
     public static final String MESSAGE_404_UserNotFound = "User not found.";
     public static final String MESSAGE_404_CategoryNotFound = "Category not found.";
+    public static final String MESSAGE_404_CategoriesNotFound = "Categories not found: %s";
     public static final String MESSAGE_404_ItemNotFound = "Item not found.";
     public static final String MESSAGE_404_DeliveryAddressNotFound = "Delivery address not found.";
     public static final String MESSAGE_404_CouponNotFound = "Coupon not found.";
+    public static final String MESSAGE_404_DistributionJobNotFound = "Coupon distribution job not found.";
+    public static final String MESSAGE_404_CouponCodeJobNotFound = "Coupon code job not found.";
+    public static final String MESSAGE_404_LimitedCouponNotFound = "Limited coupon not found.";
+    public static final String MESSAGE_400_CouponExpired = "Coupon has expired.";
+    public static final String MESSAGE_400_ImportInvalidInteger = "Must be an integer.";
+    public static final String MESSAGE_400_ImportInvalidIntegerList = "Must be integers separated by ';'.";
+    public static final String MESSAGE_400_ImportMalformedRow = "Malformed row: %s";
+    public static final String MESSAGE_409_CouponSoldOut = "Coupon is sold out.";
+    public static final String MESSAGE_409_CouponAlreadyClaimed = "Coupon has already been claimed.";
+    public static final String MESSAGE_409_LimitedCouponNotDistributable = "Limited coupons can only be claimed.";
+    public static final String MESSAGE_413_RequestBodyTooLarge = "Request body is too large.";
+    public static final String MESSAGE_429_TooManyRequests = "Too many requests. Please try again later.";
     public static final String MESSAGE_500_CouponNotFound = "Welcome Coupon not found.";
+    public static final String MESSAGE_500_ImportChunkFailed = "Row could not be written; its chunk was rolled back.";
+    public static final String MESSAGE_503_PasswordHashingUnavailable = "Too many login or sign-up requests. Please try again shortly.";
 }
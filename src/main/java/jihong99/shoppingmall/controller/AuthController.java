@@ -31,13 +31,14 @@ public class AuthController {
      * Refresh the access token.
      *
      * <p>This endpoint allows a user to refresh their access token using a valid refresh token.
-     * The request body must contain the refresh token.</p>
+     * The request body must contain the refresh token. The refresh token is rotated on every call,
+     * so the client must keep the new one from the response.</p>
      *
      * @param request A map containing the refresh token
-     * @return ResponseEntity<Map<String, String>> Response object containing the new access token
+     * @return ResponseEntity<Map<String, String>> Response object containing the new access token and refresh token
      * @success Access token successfully refreshed
      * Response Code: 200
-     * @exception InvalidTokenException Thrown if the refresh token is invalid
+     * @exception InvalidTokenException Thrown if the refresh token is invalid, revoked or already used
      * Response Code: 400
      * @exception NotFoundException Thrown if the user associated with the refresh token is not found
      * Response Code: 404
@@ -1,27 +1,37 @@
 package jihong99.shoppingmall.controller;
 
 import jakarta.validation.Valid;
+import jihong99.shoppingmall.dto.CouponCodeJobResponseDto;
+import jihong99.shoppingmall.dto.CouponCodeRequestDto;
+import jihong99.shoppingmall.dto.CouponDistributionJobResponseDto;
 import jihong99.shoppingmall.dto.CouponRequestDto;
 import jihong99.shoppingmall.dto.CouponResponseDto;
 import jihong99.shoppingmall.dto.PaginatedResponseDto;
 import jihong99.shoppingmall.dto.ResponseDto;
 import jihong99.shoppingmall.entity.enums.Tiers;
+import jihong99.shoppingmall.exception.CouponClaimException;
 import jihong99.shoppingmall.exception.DuplicateNameException;
 import jihong99.shoppingmall.exception.InvalidExpirationDateException;
 import jihong99.shoppingmall.exception.NotFoundException;
+import jihong99.shoppingmall.service.ICouponClaimService;
+import jihong99.shoppingmall.service.ICouponCodeService;
+import jihong99.shoppingmall.service.ICouponDistributionJobService;
 import jihong99.shoppingmall.service.ICouponService;
 import jihong99.shoppingmall.utils.annotation.HasId;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import static jihong99.shoppingmall.constants.Constants.MESSAGE_200_ClaimCouponSuccess;
 import static jihong99.shoppingmall.constants.Constants.MESSAGE_200_DistributeCouponSuccess;
 import static jihong99.shoppingmall.constants.Constants.STATUS_200;
 
@@ -30,6 +40,9 @@ import static jihong99.shoppingmall.constants.Constants.STATUS_200;
 @RequestMapping(path = "/api", produces = MediaType.APPLICATION_JSON_VALUE)
 public class CouponController {
     private final ICouponService icouponService;
+    private final ICouponDistributionJobService icouponDistributionJobService;
+    private final ICouponClaimService icouponClaimService;
+    private final ICouponCodeService icouponCodeService;
 
     /**
      * Creates a new coupon.
@@ -90,6 +103,33 @@ public class CouponController {
                 .body(response);
     }
 
+    /**
+     * Claims a limited coupon for the user, first come first served.
+     *
+     * @param userId the user's id
+     * @param couponId the ID of the coupon to claim
+     * @return a response indicating the result of the claim
+     * @success Coupon successfully claimed
+     * Response Code: 200
+     * @exception InvalidExpirationDateException Thrown if the coupon has expired
+     * Response Code: 400
+     * @exception NotFoundException Thrown if the coupon is not found or is not limited
+     * Response Code: 404
+     * @exception CouponClaimException Thrown if the user already claimed the coupon or it is sold out
+     * Response Code: 409
+     * @exception Exception Internal server error occurred
+     * Response Code: 500
+     * @precondition The authenticated user must have the specified userId
+     */
+    @HasId
+    @PostMapping("/users/coupons/claim")
+    public ResponseEntity<ResponseDto> claimCoupon(@RequestParam Long userId, @RequestParam Long couponId) {
+        icouponClaimService.claimCoupon(couponId, userId);
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(new ResponseDto(STATUS_200, MESSAGE_200_ClaimCouponSuccess));
+    }
+
     /**
      * Retrieves all coupons with pagination.
      *
@@ -126,6 +166,8 @@ public class CouponController {
      * Response Code: 200
      * @exception NotFoundException Thrown if the user or coupon is not found
      * Response Code: 404
+     * @exception CouponClaimException Thrown if the coupon is limited, since limited coupons can only be claimed
+     * Response Code: 409
      * @exception Exception Internal server error occurred
      * Response Code: 500
      * @precondition The authenticated user must have the 'ADMIN' role
@@ -140,47 +182,156 @@ public class CouponController {
     }
 
     /**
-     * Distributes a coupon to users by tier.
+     * Starts distributing a coupon to users by tier.
+     *
+     * <p>The coupons are issued by a background job. This endpoint returns as soon as the job is recorded, and
+     * its progress can be followed with the job status endpoint.</p>
      *
      * @param couponId the ID of the coupon
      * @param tier the tier of users
-     * @return a response indicating the result of the distribution
-     * @success Coupon successfully distributed to the specified tier of users
-     * Response Code: 200
+     * @return the started distribution job
+     * @success Distribution job successfully started
+     * Response Code: 202
      * @exception NotFoundException Thrown if the user or coupon is not found
      * Response Code: 404
+     * @exception CouponClaimException Thrown if the coupon is limited, since limited coupons can only be claimed
+     * Response Code: 409
      * @exception Exception Internal server error occurred
      * Response Code: 500
      * @precondition The authenticated user must have the 'ADMIN' role
      */
     @PostMapping("/admin/coupons/distribute/tier")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ResponseDto> distributeCouponToUsersByTier(@RequestParam Long couponId, @RequestParam Tiers tier) {
-        icouponService.distributeCouponToUsersByTier(couponId, tier);
+    public ResponseEntity<CouponDistributionJobResponseDto> distributeCouponToUsersByTier(@RequestParam Long couponId, @RequestParam Tiers tier) {
+        CouponDistributionJobResponseDto job = icouponDistributionJobService.startDistribution(couponId, tier);
         return ResponseEntity
-                .status(HttpStatus.OK)
-                .body(new ResponseDto(STATUS_200, MESSAGE_200_DistributeCouponSuccess));
+                .status(HttpStatus.ACCEPTED)
+                .body(job);
     }
 
     /**
-     * Distributes a coupon to all users.
+     * Starts distributing a coupon to all users.
+     *
+     * <p>The coupons are issued by a background job. This endpoint returns as soon as the job is recorded, and
+     * its progress can be followed with the job status endpoint.</p>
      *
      * @param couponId the ID of the coupon
-     * @return a response indicating the result of the distribution
-     * @success Coupon successfully distributed to all users
-     * Response Code: 200
+     * @return the started distribution job
+     * @success Distribution job successfully started
+     * Response Code: 202
      * @exception NotFoundException Thrown if the user or coupon is not found
      * Response Code: 404
+     * @exception CouponClaimException Thrown if the coupon is limited, since limited coupons can only be claimed
+     * Response Code: 409
      * @exception Exception Internal server error occurred
      * Response Code: 500
      * @precondition The authenticated user must have the 'ADMIN' role
      */
     @PostMapping("/admin/coupons/distribute/all")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ResponseDto> distributeCouponToAllUsers(@RequestParam Long couponId) {
-        icouponService.distributeCouponToAllUsers(couponId);
+    public ResponseEntity<CouponDistributionJobResponseDto> distributeCouponToAllUsers(@RequestParam Long couponId) {
+        CouponDistributionJobResponseDto job = icouponDistributionJobService.startDistribution(couponId, null);
+        return ResponseEntity
+                .status(HttpStatus.ACCEPTED)
+                .body(job);
+    }
+
+    /**
+     * Retrieves the progress of a coupon distribution job.
+     *
+     * @param jobId the ID of the job
+     * @return the job status with processed and total user counts and throughput
+     * @success Valid response containing the job status
+     * Response Code: 200
+     * @exception NotFoundException Thrown if the job is not found
+     * Response Code: 404
+     * @exception Exception Internal server error occurred
+     * Response Code: 500
+     * @precondition The authenticated user must have the 'ADMIN' role
+     */
+    @GetMapping("/admin/coupons/distribute/jobs/{jobId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CouponDistributionJobResponseDto> getDistributionJob(@PathVariable Long jobId) {
+        CouponDistributionJobResponseDto job = icouponDistributionJobService.getJob(jobId);
         return ResponseEntity
                 .status(HttpStatus.OK)
-                .body(new ResponseDto(STATUS_200, MESSAGE_200_DistributeCouponSuccess));
+                .body(job);
+    }
+
+    /**
+     * Starts generating redeemable codes for a coupon.
+     *
+     * <p>The codes are generated and written by a background job. This endpoint returns as soon as the job is
+     * recorded, and its progress can be followed with the job status endpoint.</p>
+     *
+     * @param couponCodeRequestDto the coupon and the number of codes to generate
+     * @return the started code generation job
+     * @success Code generation job successfully started
+     * Response Code: 202
+     * @exception MethodArgumentNotValidException Validation failed for the request body
+     * Response Code: 400
+     * @exception NotFoundException Thrown if the coupon is not found
+     * Response Code: 404
+     * @exception Exception Internal server error occurred
+     * Response Code: 500
+     * @precondition The authenticated user must have the 'ADMIN' role
+     */
+    @PostMapping("/admin/coupons/codes")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CouponCodeJobResponseDto> generateCouponCodes(@RequestBody @Valid CouponCodeRequestDto couponCodeRequestDto) {
+        CouponCodeJobResponseDto job = icouponCodeService.startGeneration(
+                couponCodeRequestDto.getCouponId(), couponCodeRequestDto.getQuantity());
+        return ResponseEntity
+                .status(HttpStatus.ACCEPTED)
+                .body(job);
+    }
+
+    /**
+     * Retrieves the progress of a coupon code generation job.
+     *
+     * @param jobId the ID of the job
+     * @return the job status with generated and requested code counts and throughput
+     * @success Valid response containing the job status
+     * Response Code: 200
+     * @exception NotFoundException Thrown if the job is not found
+     * Response Code: 404
+     * @exception Exception Internal server error occurred
+     * Response Code: 500
+     * @precondition The authenticated user must have the 'ADMIN' role
+     */
+    @GetMapping("/admin/coupons/codes/jobs/{jobId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CouponCodeJobResponseDto> getCouponCodeJob(@PathVariable Long jobId) {
+        CouponCodeJobResponseDto job = icouponCodeService.getJob(jobId);
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(job);
+    }
+
+    /**
+     * Exports the codes generated by a job as a CSV file.
+     *
+     * <p>The file is streamed while the codes are read, so it can be downloaded before the job completes; it then
+     * contains the codes written so far.</p>
+     *
+     * @param jobId the ID of the job
+     * @return the streamed CSV file
+     * @success CSV file containing the codes
+     * Response Code: 200
+     * @exception NotFoundException Thrown if the job is not found
+     * Response Code: 404
+     * @exception Exception Internal server error occurred
+     * Response Code: 500
+     * @precondition The authenticated user must have the 'ADMIN' role
+     */
+    @GetMapping(path = "/admin/coupons/codes/jobs/{jobId}/export", produces = "text/csv")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportCouponCodes(@PathVariable Long jobId) {
+        icouponCodeService.getJob(jobId);
+        StreamingResponseBody body = outputStream -> icouponCodeService.exportCodes(jobId, outputStream);
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"coupon-codes-" + jobId + ".csv\"")
+                .body(body);
     }
 }
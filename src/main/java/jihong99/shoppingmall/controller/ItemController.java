@@ -1,18 +1,32 @@
 package jihong99.shoppingmall.controller;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import jihong99.shoppingmall.dto.ItemImportResultDto;
 import jihong99.shoppingmall.dto.ItemRequestDto;
 import jihong99.shoppingmall.dto.ItemResponseDto;
+import jihong99.shoppingmall.dto.ItemSuggestionDto;
+import jihong99.shoppingmall.dto.PaginatedResponseDto;
 import jihong99.shoppingmall.dto.ResponseDto;
 import jihong99.shoppingmall.exception.NotFoundException;
+import jihong99.shoppingmall.service.IItemImportService;
 import jihong99.shoppingmall.service.IItemService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
+
+import java.io.InputStream;
+import java.util.List;
 
 import static jihong99.shoppingmall.constants.Constants.*;
 
@@ -24,6 +38,7 @@ import static jihong99.shoppingmall.constants.Constants.*;
 public class ItemController {
 
     private final IItemService iitemService;
+    private final IItemImportService iitemImportService;
     /**
      * Create a new item.
      *
@@ -47,6 +62,51 @@ public class ItemController {
         ItemResponseDto createdItem = iitemService.createItem(itemRequestDto);
         return ResponseEntity.status(HttpStatus.CREATED).body(createdItem);
     }
+    /**
+     * Import items from a CSV body.
+     *
+     * <p>This endpoint allows an admin to create many items at once. The body is read as it arrives and written in
+     * chunks, so it is never held in memory as a whole. The first record is a header naming the columns
+     * {@code name}, {@code price}, {@code inventory}, {@code keyword} and {@code categoryIds}; category IDs are
+     * separated by {@code ;}. Rows that fail validation are skipped and reported, while valid rows are imported.</p>
+     *
+     * @param body the CSV body, encoded in UTF-8
+     * @return ResponseEntity<ItemImportResultDto> Response object containing the row counts, the failed rows and the
+     * throughput
+     * @success Import finished
+     * Response Code: 200
+     * @exception Exception Internal server error occurred
+     * Response Code: 500
+     * @precondition The authenticated user must have the 'ADMIN' role
+     */
+    @PostMapping(path = "/admin/items/import", consumes = "text/csv")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ItemImportResultDto> importItemsFromCsv(InputStream body) {
+        ItemImportResultDto result = iitemImportService.importCsv(body);
+        return ResponseEntity.status(HttpStatus.OK).body(result);
+    }
+    /**
+     * Import items from an NDJSON body.
+     *
+     * <p>This endpoint allows an admin to create many items at once. Each line of the body is an item in the same
+     * form as the item creation request. The body is read as it arrives and written in chunks, so it is never held
+     * in memory as a whole. Rows that fail validation are skipped and reported, while valid rows are imported.</p>
+     *
+     * @param body the NDJSON body, encoded in UTF-8
+     * @return ResponseEntity<ItemImportResultDto> Response object containing the row counts, the failed rows and the
+     * throughput
+     * @success Import finished
+     * Response Code: 200
+     * @exception Exception Internal server error occurred
+     * Response Code: 500
+     * @precondition The authenticated user must have the 'ADMIN' role
+     */
+    @PostMapping(path = "/admin/items/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ItemImportResultDto> importItemsFromNdjson(InputStream body) {
+        ItemImportResultDto result = iitemImportService.importNdjson(body);
+        return ResponseEntity.status(HttpStatus.OK).body(result);
+    }
     /**
      * Update an existing item.
      *
@@ -95,4 +155,97 @@ public class ItemController {
         return ResponseEntity.status(HttpStatus.OK)
                 .body(new ResponseDto(STATUS_200, MESSAGE_200_DeleteItemSuccess));
     }
+    /**
+     * Retrieve an item.
+     *
+     * <p>This endpoint is public. Items are served from the item cache, so repeated views of a product page do not
+     * reach the database.</p>
+     *
+     * @param itemId the ID of the item
+     * @return ResponseEntity<ItemResponseDto> Response object containing the item and its category names
+     * @success Valid response containing the item
+     * Response Code: 200
+     * @exception NotFoundException Thrown if the item is not found
+     * Response Code: 404
+     * @exception Exception Internal server error occurred
+     * Response Code: 500
+     */
+    @GetMapping("/items/{itemId}")
+    public ResponseEntity<ItemResponseDto> getItem(@PathVariable Long itemId) {
+        ItemResponseDto item = iitemService.getItem(itemId);
+        return ResponseEntity.status(HttpStatus.OK).body(item);
+    }
+    /**
+     * Retrieve several items at once.
+     *
+     * <p>This endpoint is public. IDs of items that do not exist are skipped, and the items are returned in the
+     * order of the requested IDs.</p>
+     *
+     * @param ids the IDs of the items, at most 100
+     * @return ResponseEntity<List<ItemResponseDto>> Response object containing the existing items
+     * @success Valid response containing the items
+     * Response Code: 200
+     * @exception HandlerMethodValidationException Thrown if more than 100 IDs are requested
+     * Response Code: 400
+     * @exception Exception Internal server error occurred
+     * Response Code: 500
+     */
+    @GetMapping("/items")
+    public ResponseEntity<List<ItemResponseDto>> getItems(
+            @RequestParam @Size(max = 100, message = "At most 100 items can be requested at once.") List<Long> ids) {
+        List<ItemResponseDto> items = iitemService.getItems(ids);
+        return ResponseEntity.status(HttpStatus.OK).body(items);
+    }
+    /**
+     * Search items by name and keyword.
+     *
+     * <p>This endpoint is public. Items whose name or keyword contains every word of the query are returned, best
+     * match first: words found in the name count more than words found in the keyword, and rare words more than
+     * common ones. The results can be limited to items in any of the given categories.</p>
+     *
+     * @param query the words to search for
+     * @param categoryIds the IDs of the categories to search in, or none for all categories
+     * @param page the page number to retrieve, starting from 0
+     * @param size the number of items per page, at most 100
+     * @return ResponseEntity<PaginatedResponseDto<ItemResponseDto>> Response object containing the page of matching items
+     * @success Valid response containing the matching items
+     * Response Code: 200
+     * @exception HandlerMethodValidationException Thrown if the query is blank or the page is out of range
+     * Response Code: 400
+     * @exception Exception Internal server error occurred
+     * Response Code: 500
+     */
+    @GetMapping("/items/search")
+    public ResponseEntity<PaginatedResponseDto<ItemResponseDto>> searchItems(
+            @RequestParam @NotBlank @Size(max = 100, message = "Query must be at most 100 characters.") String query,
+            @RequestParam(required = false) List<Long> categoryIds,
+            @RequestParam(defaultValue = "0") @Min(0) int page,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size) {
+        Page<ItemResponseDto> items = iitemService.searchItems(query, categoryIds, PageRequest.of(page, size));
+        return ResponseEntity.status(HttpStatus.OK).body(PaginatedResponseDto.of(items));
+    }
+    /**
+     * Suggest items whose name starts with the typed text, for autocomplete.
+     *
+     * <p>This endpoint is public. The most popular items are suggested first, by quantity ordered and views. Korean
+     * text is matched by jamo, so a prefix ending in a partially typed syllable (낭 for 나이키) matches, and a prefix
+     * of initial consonants only (ㄴㅇㅋ) matches the initial consonants of the names.</p>
+     *
+     * @param prefix the text typed so far
+     * @param size the maximum number of suggestions, at most 20
+     * @return ResponseEntity<List<ItemSuggestionDto>> Response object containing the suggested items
+     * @success Valid response containing the suggested items
+     * Response Code: 200
+     * @exception HandlerMethodValidationException Thrown if the prefix is blank or too long, or the size is out of range
+     * Response Code: 400
+     * @exception Exception Internal server error occurred
+     * Response Code: 500
+     */
+    @GetMapping("/items/suggest")
+    public ResponseEntity<List<ItemSuggestionDto>> suggestItems(
+            @RequestParam @NotBlank @Size(max = 100, message = "Prefix must be at most 100 characters.") String prefix,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(20) int size) {
+        List<ItemSuggestionDto> suggestions = iitemService.suggestItems(prefix, size);
+        return ResponseEntity.status(HttpStatus.OK).body(suggestions);
+    }
 }
@@ -7,6 +7,7 @@ import jihong99.shoppingmall.entity.Users;
 import jihong99.shoppingmall.exception.DuplicateNameException;
 import jihong99.shoppingmall.exception.PasswordMismatchException;
 import jihong99.shoppingmall.exception.NotFoundException;
+import jihong99.shoppingmall.service.IAuthService;
 import jihong99.shoppingmall.service.IUserService;
 import jihong99.shoppingmall.utils.annotation.HasId;
 import jihong99.shoppingmall.validation.groups.IdentificationValidation;
@@ -29,6 +30,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.format.DateTimeParseException;
+import java.util.Map;
 
 import static jihong99.shoppingmall.constants.Constants.*;
 
@@ -40,6 +42,7 @@ import static jihong99.shoppingmall.constants.Constants.*;
 public class UserController {
     private final Logger LOGGER = LoggerFactory.getLogger(UserController.class);
     private final IUserService iuserService;
+    private final IAuthService iauthService;
 
     /**
      * Check Duplicate ID
@@ -125,14 +128,22 @@ public class UserController {
     /**
      * Logout processing
      *
-     * <p>Processes logout by invalidating the current user's authentication information.</p>
+     * <p>Processes logout by invalidating the current user's authentication information. The access token
+     * of the request is revoked until it expires, and the refresh token in the request body, if any, can no
+     * longer be used to obtain new access tokens.</p>
      *
+     * @param request The HttpServletRequest carrying the access token in its Authorization header
+     * @param body An optional map containing the refresh token of the same device
      * @return ResponseEntity with a logout message
      */
     @PostMapping("/logout")
-    public ResponseEntity<ResponseDto> logout() {
+    public ResponseEntity<ResponseDto> logout(HttpServletRequest request, @RequestBody(required = false) Map<String, String> body) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         LOGGER.info("User logged out: {}", authentication.getName());
+        String authorization = request.getHeader("Authorization");
+        String accessToken = authorization != null && authorization.startsWith("Bearer ") ? authorization.substring(7) : null;
+        String refreshToken = body != null ? body.get("refreshToken") : null;
+        iauthService.logout(accessToken, refreshToken);
         SecurityContextHolder.clearContext();
         return ResponseEntity
                 .status(HttpStatus.OK)
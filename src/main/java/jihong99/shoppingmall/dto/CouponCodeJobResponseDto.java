@@ -0,0 +1,37 @@
+package jihong99.shoppingmall.dto;
+
+import jihong99.shoppingmall.entity.enums.CouponCodeJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class CouponCodeJobResponseDto {
+    private Long jobId;
+
+    private Long couponId;
+
+    private CouponCodeJobStatus status;
+
+    private Integer quantity;
+
+    private Long generatedCodes;
+
+    /**
+     * Codes generated and written per second since the job last started or resumed.
+     */
+    private Double codesPerSecond;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    public static CouponCodeJobResponseDto of(Long jobId, Long couponId, CouponCodeJobStatus status, Integer quantity,
+                                              Long generatedCodes, Double codesPerSecond,
+                                              LocalDateTime startedAt, LocalDateTime finishedAt){
+        return new CouponCodeJobResponseDto(jobId, couponId, status, quantity, generatedCodes, codesPerSecond,
+                startedAt, finishedAt);
+    }
+}
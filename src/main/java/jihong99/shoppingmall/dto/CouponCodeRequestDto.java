@@ -0,0 +1,19 @@
+package jihong99.shoppingmall.dto;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(onConstructor_ = @JsonCreator)
+public class CouponCodeRequestDto {
+    @NotNull(message = "CouponId is a required field.")
+    private Long couponId;
+    @NotNull(message = "Quantity is a required field.")
+    @Positive(message = "Quantity must be positive.")
+    @Max(value = 10_000_000, message = "Quantity must be at most 10,000,000.")
+    private Integer quantity;
+}
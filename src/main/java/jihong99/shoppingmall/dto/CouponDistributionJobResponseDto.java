@@ -0,0 +1,40 @@
+package jihong99.shoppingmall.dto;
+
+import jihong99.shoppingmall.entity.enums.DistributionJobStatus;
+import jihong99.shoppingmall.entity.enums.Tiers;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class CouponDistributionJobResponseDto {
+    private Long jobId;
+
+    private Long couponId;
+
+    private Tiers tier;
+
+    private DistributionJobStatus status;
+
+    private Long processedUsers;
+
+    private Long totalUsers;
+
+    /**
+     * Users processed per second during the current run.
+     */
+    private Double usersPerSecond;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    public static CouponDistributionJobResponseDto of(Long jobId, Long couponId, Tiers tier, DistributionJobStatus status,
+                                                      Long processedUsers, Long totalUsers, Double usersPerSecond,
+                                                      LocalDateTime startedAt, LocalDateTime finishedAt){
+        return new CouponDistributionJobResponseDto(jobId, couponId, tier, status, processedUsers, totalUsers,
+                usersPerSecond, startedAt, finishedAt);
+    }
+}
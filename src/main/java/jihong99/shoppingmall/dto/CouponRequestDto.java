@@ -1,13 +1,20 @@
 package jihong99.shoppingmall.dto;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
+import jihong99.shoppingmall.entity.enums.DiscountType;
+import jihong99.shoppingmall.entity.enums.Tiers;
 import lombok.Getter;
 
 import java.time.LocalDate;
 @Getter
-@AllArgsConstructor
+@AllArgsConstructor(onConstructor_ = @JsonCreator)
 public class CouponRequestDto {
     @NotNull(message = "Name is a required field.")
     @Size(min = 5, max = 20, message = "Name must be between 5 and 20 characters.")
@@ -17,4 +24,30 @@ public class CouponRequestDto {
     private String content;
     @NotNull(message = "ExpirationDate is a required field.")
     private LocalDate expirationDate;
+    @Positive(message = "Quantity must be positive.")
+    private Integer quantity;
+    private Tiers tier;
+    @PositiveOrZero(message = "MinimumAmount must not be negative.")
+    private Long minimumAmount;
+    private Long categoryId;
+    private DiscountType discountType;
+    @Positive(message = "DiscountValue must be positive.")
+    private Integer discountValue;
+
+    public CouponRequestDto(String name, String content, LocalDate expirationDate) {
+        this(name, content, expirationDate, null);
+    }
+
+    public CouponRequestDto(String name, String content, LocalDate expirationDate, Integer quantity) {
+        this(name, content, expirationDate, quantity, null, null, null, null, null);
+    }
+
+    @JsonIgnore
+    @AssertTrue(message = "DiscountType and DiscountValue must be given together, and a percentage must be at most 100.")
+    public boolean isDiscountValid() {
+        if (discountType == null || discountValue == null) {
+            return discountType == null && discountValue == null;
+        }
+        return discountType != DiscountType.PERCENTAGE || discountValue <= 100;
+    }
 }
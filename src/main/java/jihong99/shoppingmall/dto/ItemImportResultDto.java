@@ -0,0 +1,50 @@
+package jihong99.shoppingmall.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+public class ItemImportResultDto {
+    private Long totalRows;
+
+    private Long importedRows;
+
+    private Long failedRows;
+
+    private Long elapsedMillis;
+
+    /**
+     * Rows read, validated and written per second over the whole import.
+     */
+    private Double rowsPerSecond;
+
+    private List<RowError> errors;
+
+    /**
+     * Whether more rows failed than are listed in {@code errors}.
+     */
+    private Boolean errorsTruncated;
+
+    public static ItemImportResultDto of(Long totalRows, Long importedRows, Long failedRows, Long elapsedMillis,
+                                         Double rowsPerSecond, List<RowError> errors, Boolean errorsTruncated){
+        return new ItemImportResultDto(totalRows, importedRows, failedRows, elapsedMillis, rowsPerSecond, errors,
+                errorsTruncated);
+    }
+
+    /**
+     * A row that was not imported, with the reason per field.
+     *
+     * <p>For NDJSON, {@code row} is the line number; for CSV, it is the number of the record after the header.</p>
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class RowError {
+        private Long row;
+
+        private Map<String, String> errors;
+    }
+}
@@ -0,0 +1,15 @@
+package jihong99.shoppingmall.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ItemSuggestionDto {
+    private Long id;
+    private String name;
+
+    public static ItemSuggestionDto of(Long id, String name) {
+        return new ItemSuggestionDto(id, name);
+    }
+}
@@ -0,0 +1,79 @@
+package jihong99.shoppingmall.dto;
+
+import jihong99.shoppingmall.entity.enums.Roles;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Lightweight principal holding only what Spring Security needs for an authenticated request.
+ *
+ * <p>Unlike {@link UserDetailsDto}, this principal does not wrap a {@link jihong99.shoppingmall.entity.Users}
+ * entity, so it can be built straight from verified token claims without touching the database.</p>
+ */
+@Getter
+@AllArgsConstructor
+public class UserPrincipalDto implements UserDetails {
+    private final Long id;
+    private final String identification;
+    private final Roles role;
+
+    public static UserPrincipalDto of(Long id, String identification, Roles role) {
+        return new UserPrincipalDto(id, identification, role);
+    }
+
+    /**
+     * Returns the authorities granted to the user.
+     *
+     * @return a collection containing the user's authorities
+     */
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return Collections.singletonList(new SimpleGrantedAuthority(role.getAuthority()));
+    }
+
+    /**
+     * Returns null, as token-based principals never carry the password hash.
+     *
+     * @return null
+     */
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    /**
+     * Returns the username used to authenticate the user.
+     *
+     * @return the user's identification
+     */
+    @Override
+    public String getUsername() {
+        return identification;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+}
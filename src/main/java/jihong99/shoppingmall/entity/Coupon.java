@@ -1,6 +1,9 @@
 package jihong99.shoppingmall.entity;
 import jakarta.persistence.*;
 import jihong99.shoppingmall.entity.base.BaseEntity;
+import jihong99.shoppingmall.entity.enums.DiscountType;
+import jihong99.shoppingmall.entity.enums.Tiers;
+import jihong99.shoppingmall.service.CouponCatalogListener;
 import lombok.*;
 
 import java.time.LocalDate;
@@ -9,6 +12,7 @@ import java.time.LocalDate;
 @Getter @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
+@EntityListeners(CouponCatalogListener.class)
 public class Coupon extends BaseEntity {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -20,4 +24,40 @@ public class Coupon extends BaseEntity {
     private String content;
 
     private LocalDate expirationDate;
+
+    /**
+     * The number of coupons that can be claimed, or null if the coupon is not limited.
+     */
+    private Integer quantity;
+
+    /**
+     * The tier of users the coupon applies to, or null if it applies to every tier.
+     */
+    @Enumerated(EnumType.STRING)
+    private Tiers tier;
+
+    /**
+     * The minimum cart total for the coupon to apply, or null if there is no minimum.
+     */
+    private Long minimumAmount;
+
+    /**
+     * The category whose items the discount applies to, or null if it applies to the whole cart.
+     */
+    private Long categoryId;
+
+    /**
+     * How {@code discountValue} is applied, or null if the coupon grants no discount at checkout.
+     */
+    @Enumerated(EnumType.STRING)
+    private DiscountType discountType;
+
+    /**
+     * The amount taken off for {@code FIXED}, or the percentage taken off for {@code PERCENTAGE}.
+     */
+    private Integer discountValue;
+
+    public boolean isLimited() {
+        return quantity != null;
+    }
 }
@@ -0,0 +1,35 @@
+package jihong99.shoppingmall.entity;
+
+import jakarta.persistence.*;
+import jihong99.shoppingmall.entity.base.BaseEntity;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * A redeemable code issued for a coupon by a {@link CouponCodeJob}.
+ *
+ * <p>Codes are written in bulk through JDBC and never through this entity; it maps the table for reads and for
+ * the schema.</p>
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "coupon_code",
+        uniqueConstraints = @UniqueConstraint(name = "uk_coupon_code_code", columnNames = "code"),
+        indexes = @Index(name = "idx_coupon_code_job", columnList = "coupon_code_job_id"))
+public class CouponCode extends BaseEntity {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "coupon_code_id")
+    private Long id;
+
+    @Column(name = "coupon_id", nullable = false)
+    private Long couponId;
+
+    @Column(name = "coupon_code_job_id", nullable = false)
+    private Long jobId;
+
+    @Column(nullable = false, length = 13)
+    private String code;
+}
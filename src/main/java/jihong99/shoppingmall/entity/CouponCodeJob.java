@@ -0,0 +1,73 @@
+package jihong99.shoppingmall.entity;
+
+import jakarta.persistence.*;
+import jihong99.shoppingmall.entity.base.BaseEntity;
+import jihong99.shoppingmall.entity.enums.CouponCodeJobStatus;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A background job that generates a batch of redeemable codes for a coupon.
+ *
+ * <p>Every code is derived from the job ID and the code's index within the job, so codes never collide and no
+ * uniqueness check is needed while they are written. Each chunk of {@code chunkSize} codes is committed together
+ * with {@code generatedCodes}, and a job interrupted by a restart is resumed on the next start: since the codes are
+ * regenerated identically and the chunk size is kept with the job, the chunks already written are recognized by
+ * their first code and skipped.</p>
+ *
+ * <p>{@code startedAt} and {@code generatedAtStart} describe the current run only, so the reported throughput is
+ * not diluted by the time a job spent waiting for a restart.</p>
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "coupon_code_job")
+public class CouponCodeJob extends BaseEntity {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "coupon_code_job_id")
+    private Long id;
+
+    @Column(name = "coupon_id", nullable = false)
+    private Long couponId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private CouponCodeJobStatus status;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    /**
+     * The number of codes per chunk, fixed when the job is created so a resumed run splits the job the same way.
+     */
+    @Column(nullable = false)
+    private Integer chunkSize;
+
+    @Column(nullable = false)
+    private Long generatedCodes;
+
+    @Column(nullable = false)
+    private Long generatedAtStart;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    private CouponCodeJob(Long couponId, int quantity, int chunkSize) {
+        this.couponId = couponId;
+        this.status = CouponCodeJobStatus.RUNNING;
+        this.quantity = quantity;
+        this.chunkSize = chunkSize;
+        this.generatedCodes = 0L;
+        this.generatedAtStart = 0L;
+        this.startedAt = LocalDateTime.now();
+    }
+
+    public static CouponCodeJob createJob(Long couponId, int quantity, int chunkSize) {
+        return new CouponCodeJob(couponId, quantity, chunkSize);
+    }
+}
@@ -0,0 +1,80 @@
+package jihong99.shoppingmall.entity;
+
+import jakarta.persistence.*;
+import jihong99.shoppingmall.entity.base.BaseEntity;
+import jihong99.shoppingmall.entity.enums.DistributionJobStatus;
+import jihong99.shoppingmall.entity.enums.Tiers;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A background job that distributes a coupon to every user, or to every user of one tier.
+ *
+ * <p>Users are processed in ascending ID order, and {@code lastUserId} is the checkpoint: every user up to and
+ * including it already holds the coupon. The checkpoint is advanced in the same transaction that issues the coupons,
+ * so a job interrupted by a crash or restart continues after the checkpoint without issuing any coupon twice.</p>
+ *
+ * <p>{@code startedAt} and {@code processedAtStart} describe the current run only, so the reported throughput is not
+ * diluted by the time a job spent waiting for a restart.</p>
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "coupon_distribution_job")
+public class CouponDistributionJob extends BaseEntity {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "coupon_distribution_job_id")
+    private Long id;
+
+    @Column(name = "coupon_id", nullable = false)
+    private Long couponId;
+
+    /**
+     * The tier of users to receive the coupon, or null for all users.
+     */
+    @Enumerated(EnumType.STRING)
+    private Tiers tier;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private DistributionJobStatus status;
+
+    @Column(nullable = false)
+    private Long lastUserId;
+
+    @Column(nullable = false)
+    private Long processedUsers;
+
+    /**
+     * The number of target users when the job was created. Users who sign up while the job runs are also
+     * processed, so {@code processedUsers} may end up above it.
+     */
+    @Column(nullable = false)
+    private Long totalUsers;
+
+    @Column(nullable = false)
+    private Long processedAtStart;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    private CouponDistributionJob(Long couponId, Tiers tier, long totalUsers) {
+        this.couponId = couponId;
+        this.tier = tier;
+        this.status = DistributionJobStatus.RUNNING;
+        this.lastUserId = 0L;
+        this.processedUsers = 0L;
+        this.totalUsers = totalUsers;
+        this.processedAtStart = 0L;
+        this.startedAt = LocalDateTime.now();
+    }
+
+    public static CouponDistributionJob createJob(Long couponId, Tiers tier, long totalUsers) {
+        return new CouponDistributionJob(couponId, tier, totalUsers);
+    }
+}
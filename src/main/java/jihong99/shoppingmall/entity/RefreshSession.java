@@ -0,0 +1,87 @@
+package jihong99.shoppingmall.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A refresh session issued at login.
+ *
+ * <p>Each login opens a new token family, so a user can hold one session per device. Every refresh rotates the
+ * session into a new one of the same family and revokes the old one. Presenting a revoked session again means the
+ * token was replayed, and the whole family is revoked.</p>
+ *
+ * <p>The table is kept narrow on purpose: it stores only what is needed to issue a new access token, and never
+ * writes to the {@link Users} row.</p>
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "refresh_session", indexes = @Index(name = "idx_refresh_session_family", columnList = "family_id"))
+public class RefreshSession implements Persistable<String> {
+
+    @Id
+    @Column(name = "refresh_session_id", length = 36)
+    private String id;
+
+    @Column(name = "family_id", length = 36, nullable = false)
+    private String familyId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private String identification;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(nullable = false)
+    private Boolean revoked;
+
+    /**
+     * Whether the session has not been persisted yet.
+     *
+     * <p>Not persisted. The ID is assigned up front, so this lets {@code save} insert directly instead of
+     * selecting the row first to decide between insert and merge.</p>
+     */
+    @Transient
+    private boolean newSession = true;
+
+    private RefreshSession(String familyId, Long userId, String identification, LocalDateTime expiresAt) {
+        this.id = UUID.randomUUID().toString();
+        this.familyId = familyId;
+        this.userId = userId;
+        this.identification = identification;
+        this.expiresAt = expiresAt;
+        this.revoked = false;
+    }
+
+    public static RefreshSession openSession(Users user, LocalDateTime expiresAt) {
+        return new RefreshSession(UUID.randomUUID().toString(), user.getId(), user.getIdentification(), expiresAt);
+    }
+
+    public RefreshSession rotate(LocalDateTime expiresAt) {
+        return new RefreshSession(familyId, userId, identification, expiresAt);
+    }
+
+    public boolean isRevoked() {
+        return Boolean.TRUE.equals(revoked);
+    }
+
+    @Override
+    public boolean isNew() {
+        return newSession;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.newSession = false;
+    }
+}
@@ -8,6 +8,9 @@ import lombok.*;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
+@Table(name = "user_coupon",
+        uniqueConstraints = @UniqueConstraint(name = "uk_user_coupon_user_coupon", columnNames = {"user_id", "coupon_id"}),
+        indexes = @Index(name = "idx_user_coupon_user_valid", columnList = "user_id, is_valid"))
 public class UserCoupon extends BaseEntity {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -2,6 +2,7 @@ package jihong99.shoppingmall.entity;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
+import jihong99.shoppingmall.config.auth.service.PrincipalCacheEvictionListener;
 import jihong99.shoppingmall.entity.base.BaseEntity;
 import jihong99.shoppingmall.entity.enums.Roles;
 import jihong99.shoppingmall.entity.enums.Tiers;
@@ -26,7 +27,7 @@ import java.time.LocalDate;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, PrincipalCacheEvictionListener.class})
 public class Users extends BaseEntity {
 
     /**
@@ -112,11 +113,20 @@ public class Users extends BaseEntity {
     /**
      * The refresh token for the user.
      *
-     * <p>This field stores the refresh token issued to the user. The refresh token is used to obtain
-     * a new access token without requiring the user to re-authenticate. It is stored as a plain string.</p>
+     * <p>No longer written on login. Refresh tokens are tracked per device in {@link RefreshSession},
+     * so logging in does not update the user row.</p>
      */
     private String refreshToken;
 
+    /**
+     * Whether the role or password changed since the entity was loaded or last flushed.
+     *
+     * <p>Not persisted. Used to evict the cached security principal only when it is affected, and cleared once the
+     * eviction is scheduled so later unrelated updates do not evict again.</p>
+     */
+    @Transient
+    private boolean principalChanged;
+
     /**
      * Constructs a new user with the provided information.
      *
@@ -155,9 +165,19 @@ public class Users extends BaseEntity {
         this.tier = tier;
     }
 
-    public void updateRole(Roles role){ this.role = role;}
+    public void updateRole(Roles role){
+        this.role = role;
+        this.principalChanged = true;
+    }
 
-    public void updatePassword(String password){this.password = password;}
+    public void updatePassword(String password){
+        this.password = password;
+        this.principalChanged = true;
+    }
+
+    public void clearPrincipalChanged(){
+        this.principalChanged = false;
+    }
 
     public void updateAmountToNextTier(Integer amountToNextTier){
         this.amountToNextTier = amountToNextTier;
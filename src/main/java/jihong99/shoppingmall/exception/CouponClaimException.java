@@ -0,0 +1,11 @@
+package jihong99.shoppingmall.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(value = HttpStatus.CONFLICT)
+public class CouponClaimException extends RuntimeException{
+    public CouponClaimException(String message){
+        super(message);
+    }
+}
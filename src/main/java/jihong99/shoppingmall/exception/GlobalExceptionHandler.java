@@ -167,6 +167,33 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return new ResponseEntity<>(errorResponseDto, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Handles coupon claim exceptions.
+     *
+     * @param exception The exception to be handled.
+     * @param request The web request.
+     * @return The ResponseEntity containing the error message.
+     */
+    @ExceptionHandler(CouponClaimException.class)
+    public ResponseEntity<ErrorResponseDto> handleCouponClaimException(CouponClaimException exception, WebRequest request) {
+        ErrorResponseDto errorResponseDto = buildErrorResponseDto(request, HttpStatus.CONFLICT, exception.getMessage());
+        return new ResponseEntity<>(errorResponseDto, HttpStatus.CONFLICT);
+    }
+
+    /**
+     * Handles password hashing unavailable Exception.
+     *
+     * @param exception The exception to be handled.
+     * @param request The web request.
+     * @return The ResponseEntity containing the error message and a Retry-After header.
+     */
+    @ExceptionHandler(PasswordHashingUnavailableException.class)
+    public ResponseEntity<ErrorResponseDto> handlePasswordHashingUnavailableException(PasswordHashingUnavailableException exception, WebRequest request) {
+        ErrorResponseDto errorResponseDto = buildErrorResponseDto(request, HttpStatus.SERVICE_UNAVAILABLE, exception.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponseDto);
+    }
 
     /**
      * Builds an ErrorResponseDto with the given details.
@@ -0,0 +1,11 @@
+package jihong99.shoppingmall.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(value = HttpStatus.SERVICE_UNAVAILABLE)
+public class PasswordHashingUnavailableException extends RuntimeException{
+    public PasswordHashingUnavailableException(String message){
+        super(message);
+    }
+}
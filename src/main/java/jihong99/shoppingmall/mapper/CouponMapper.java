@@ -9,6 +9,12 @@ public class CouponMapper {
                 .name(couponRequestDto.getName())
                 .content(couponRequestDto.getContent())
                 .expirationDate(couponRequestDto.getExpirationDate())
+                .quantity(couponRequestDto.getQuantity())
+                .tier(couponRequestDto.getTier())
+                .minimumAmount(couponRequestDto.getMinimumAmount())
+                .categoryId(couponRequestDto.getCategoryId())
+                .discountType(couponRequestDto.getDiscountType())
+                .discountValue(couponRequestDto.getDiscountValue())
                 .build();
     }
 
@@ -2,11 +2,24 @@ package jihong99.shoppingmall.repository;
 
 import jihong99.shoppingmall.entity.CategoryItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface CategoryItemRepository extends JpaRepository<CategoryItem, Long> {
+public interface CategoryItemRepository extends JpaRepository<CategoryItem, Long>, CategoryItemRepositoryCustom {
     List<CategoryItem> findByItemId(Long itemId);
+
+    @Query("SELECT ci.item.id AS itemId, c.name AS categoryName FROM CategoryItem ci JOIN ci.category c " +
+            "WHERE ci.item.id IN :itemIds")
+    List<ItemCategoryName> findCategoryNamesByItemIds(@Param("itemIds") Collection<Long> itemIds);
+
+    interface ItemCategoryName {
+        Long getItemId();
+
+        String getCategoryName();
+    }
 }
@@ -0,0 +1,10 @@
+package jihong99.shoppingmall.repository;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface CategoryItemRepositoryCustom {
+    void batchInsert(Long itemId, Collection<Long> categoryIds);
+
+    void batchInsert(Map<Long, ? extends Collection<Long>> categoryIdsByItemId);
+}
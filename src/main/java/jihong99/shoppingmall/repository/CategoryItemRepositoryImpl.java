@@ -0,0 +1,62 @@
+package jihong99.shoppingmall.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC operations on CATEGORY_ITEM that bypass the persistence context.
+ *
+ * <p>CATEGORY_ITEM uses identity keys, which keep Hibernate from batching inserts, so the associations of an item
+ * are written here as one JDBC batch instead. Callers are responsible for the transaction.</p>
+ */
+@RequiredArgsConstructor
+public class CategoryItemRepositoryImpl implements CategoryItemRepositoryCustom {
+
+    private static final String INSERT_CATEGORY_ITEM =
+            "INSERT INTO category_item (item_id, category_id, creation_time, last_modified_time) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Associates the item with each of the specified categories in a single JDBC batch.
+     *
+     * @param itemId the ID of the item
+     * @param categoryIds the IDs of the categories
+     */
+    @Override
+    public void batchInsert(Long itemId, Collection<Long> categoryIds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_CATEGORY_ITEM, categoryIds, categoryIds.size(), (preparedStatement, categoryId) -> {
+            preparedStatement.setLong(1, itemId);
+            preparedStatement.setLong(2, categoryId);
+            preparedStatement.setTimestamp(3, now);
+            preparedStatement.setTimestamp(4, now);
+        });
+    }
+
+    /**
+     * Associates each item with its categories in a single JDBC batch.
+     *
+     * @param categoryIdsByItemId the IDs of the categories of each item, keyed by item ID
+     */
+    @Override
+    public void batchInsert(Map<Long, ? extends Collection<Long>> categoryIdsByItemId) {
+        List<long[]> rows = new ArrayList<>();
+        categoryIdsByItemId.forEach((itemId, categoryIds) ->
+                categoryIds.forEach(categoryId -> rows.add(new long[]{itemId, categoryId})));
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_CATEGORY_ITEM, rows, rows.size(), (preparedStatement, row) -> {
+            preparedStatement.setLong(1, row[0]);
+            preparedStatement.setLong(2, row[1]);
+            preparedStatement.setTimestamp(3, now);
+            preparedStatement.setTimestamp(4, now);
+        });
+    }
+}
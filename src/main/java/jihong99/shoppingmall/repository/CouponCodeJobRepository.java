@@ -0,0 +1,29 @@
+package jihong99.shoppingmall.repository;
+
+import jihong99.shoppingmall.entity.CouponCodeJob;
+import jihong99.shoppingmall.entity.enums.CouponCodeJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface CouponCodeJobRepository extends JpaRepository<CouponCodeJob, Long> {
+    List<CouponCodeJob> findByStatus(CouponCodeJobStatus status);
+
+    @Modifying
+    @Query("UPDATE CouponCodeJob j SET j.startedAt = :now, j.generatedAtStart = j.generatedCodes " +
+            "WHERE j.id = :id AND j.status = jihong99.shoppingmall.entity.enums.CouponCodeJobStatus.RUNNING")
+    int markStarted(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE CouponCodeJob j SET j.generatedCodes = j.generatedCodes + :count WHERE j.id = :id")
+    int addGeneratedCodes(@Param("id") Long id, @Param("count") long count);
+
+    @Modifying
+    @Query("UPDATE CouponCodeJob j SET j.status = :status, j.finishedAt = :now " +
+            "WHERE j.id = :id AND j.status = jihong99.shoppingmall.entity.enums.CouponCodeJobStatus.RUNNING")
+    int finish(@Param("id") Long id, @Param("status") CouponCodeJobStatus status, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,10 @@
+package jihong99.shoppingmall.repository;
+
+import jihong99.shoppingmall.entity.CouponCode;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface CouponCodeRepository extends JpaRepository<CouponCode, Long>, CouponCodeRepositoryCustom {
+    long countByJobId(Long jobId);
+
+    boolean existsByCode(String code);
+}
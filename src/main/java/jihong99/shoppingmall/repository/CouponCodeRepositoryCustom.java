@@ -0,0 +1,10 @@
+package jihong99.shoppingmall.repository;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface CouponCodeRepositoryCustom {
+    void batchInsert(Long couponId, Long jobId, List<String> codes);
+
+    void streamCodes(Long jobId, int pageSize, Consumer<String> consumer);
+}
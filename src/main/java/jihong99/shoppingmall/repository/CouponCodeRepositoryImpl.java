@@ -0,0 +1,69 @@
+package jihong99.shoppingmall.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * JDBC operations on COUPON_CODE that bypass the persistence context.
+ *
+ * <p>Codes are written as JDBC batches and read back in pages keyed on the primary key, so neither generating nor
+ * exporting millions of codes holds more than one batch in memory.</p>
+ */
+@RequiredArgsConstructor
+public class CouponCodeRepositoryImpl implements CouponCodeRepositoryCustom {
+
+    private static final String INSERT_COUPON_CODE =
+            "INSERT INTO coupon_code (coupon_id, coupon_code_job_id, code, creation_time, last_modified_time) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String SELECT_COUPON_CODES =
+            "SELECT coupon_code_id, code FROM coupon_code WHERE coupon_code_job_id = ? AND coupon_code_id > ? " +
+            "ORDER BY coupon_code_id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Writes the codes of one chunk of a job in a single JDBC batch.
+     *
+     * @param couponId the ID of the coupon the codes redeem
+     * @param jobId the ID of the job that generated the codes
+     * @param codes the codes to write
+     */
+    @Override
+    public void batchInsert(Long couponId, Long jobId, List<String> codes) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_COUPON_CODE, codes, codes.size(), (preparedStatement, code) -> {
+            preparedStatement.setLong(1, couponId);
+            preparedStatement.setLong(2, jobId);
+            preparedStatement.setString(3, code);
+            preparedStatement.setTimestamp(4, now);
+            preparedStatement.setTimestamp(5, now);
+        });
+    }
+
+    /**
+     * Passes every code of a job to the consumer, in the order they were written.
+     *
+     * @param jobId the ID of the job
+     * @param pageSize the number of codes read per query
+     * @param consumer the consumer of the codes
+     */
+    @Override
+    public void streamCodes(Long jobId, int pageSize, Consumer<String> consumer) {
+        long[] lastId = {0L};
+        int read;
+        do {
+            int[] count = {0};
+            jdbcTemplate.query(SELECT_COUPON_CODES, resultSet -> {
+                lastId[0] = resultSet.getLong(1);
+                consumer.accept(resultSet.getString(2));
+                count[0]++;
+            }, jobId, lastId[0], pageSize);
+            read = count[0];
+        } while (read == pageSize);
+    }
+}
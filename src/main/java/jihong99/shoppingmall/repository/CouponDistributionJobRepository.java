@@ -0,0 +1,32 @@
+package jihong99.shoppingmall.repository;
+
+import jihong99.shoppingmall.entity.CouponDistributionJob;
+import jihong99.shoppingmall.entity.enums.DistributionJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface CouponDistributionJobRepository extends JpaRepository<CouponDistributionJob, Long> {
+    List<CouponDistributionJob> findByStatus(DistributionJobStatus status);
+
+    @Modifying
+    @Query("UPDATE CouponDistributionJob j SET j.startedAt = :now, j.processedAtStart = j.processedUsers " +
+            "WHERE j.id = :id AND j.status = jihong99.shoppingmall.entity.enums.DistributionJobStatus.RUNNING")
+    int markStarted(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE CouponDistributionJob j SET j.lastUserId = :lastUserId, j.processedUsers = j.processedUsers + :count " +
+            "WHERE j.id = :id AND j.lastUserId = :expectedLastUserId " +
+            "AND j.status = jihong99.shoppingmall.entity.enums.DistributionJobStatus.RUNNING")
+    int advanceCheckpoint(@Param("id") Long id, @Param("expectedLastUserId") Long expectedLastUserId,
+                          @Param("lastUserId") Long lastUserId, @Param("count") long count);
+
+    @Modifying
+    @Query("UPDATE CouponDistributionJob j SET j.status = :status, j.finishedAt = :now " +
+            "WHERE j.id = :id AND j.status = jihong99.shoppingmall.entity.enums.DistributionJobStatus.RUNNING")
+    int finish(@Param("id") Long id, @Param("status") DistributionJobStatus status, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,22 @@
+package jihong99.shoppingmall.repository;
+
+import jihong99.shoppingmall.dto.ItemRequestDto;
+
+import java.util.List;
+import java.util.Map;
+
+public interface ItemRepositoryCustom {
+    List<Long> batchInsert(List<ItemRequestDto> items);
+
+    void streamSearchFields(int pageSize, SearchFieldsHandler handler);
+
+    Map<Long, Long> sumOrderedQuantities();
+
+    /**
+     * Receives the searchable fields of one item.
+     */
+    @FunctionalInterface
+    interface SearchFieldsHandler {
+        void handle(long itemId, String name, String keyword, long[] categoryIds);
+    }
+}
@@ -0,0 +1,136 @@
+package jihong99.shoppingmall.repository;
+
+import jihong99.shoppingmall.dto.ItemRequestDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC operations on ITEM that bypass the persistence context.
+ *
+ * <p>ITEM uses identity keys, which keep Hibernate from batching inserts, so bulk imports write items here as one
+ * JDBC batch and read the generated keys back from the driver. Callers are responsible for the transaction.</p>
+ */
+@RequiredArgsConstructor
+public class ItemRepositoryImpl implements ItemRepositoryCustom {
+
+    private static final String INSERT_ITEM =
+            "INSERT INTO item (name, price, inventory, keyword, registration_date, creation_time, last_modified_time) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SELECT_SEARCH_FIELDS =
+            "SELECT item_id, name, keyword FROM item WHERE item_id > ? ORDER BY item_id LIMIT ?";
+
+    private static final String SELECT_CATEGORY_IDS =
+            "SELECT item_id, category_id FROM category_item WHERE item_id > ? AND item_id <= ?";
+
+    private static final String SUM_ORDERED_QUANTITIES =
+            "SELECT item_id, SUM(quantity) FROM order_item WHERE item_id IS NOT NULL GROUP BY item_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts the items in a single JDBC batch.
+     *
+     * @param items the items to insert
+     * @return the generated IDs, in the order of {@code items}
+     */
+    @Override
+    public List<Long> batchInsert(List<ItemRequestDto> items) {
+        Date today = Date.valueOf(LocalDate.now());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_ITEM, Statement.RETURN_GENERATED_KEYS)) {
+                for (ItemRequestDto item : items) {
+                    statement.setString(1, item.getName());
+                    statement.setInt(2, item.getPrice());
+                    statement.setInt(3, item.getInventory());
+                    statement.setString(4, item.getKeyword());
+                    statement.setDate(5, today);
+                    statement.setTimestamp(6, now);
+                    statement.setTimestamp(7, now);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                List<Long> ids = new ArrayList<>(items.size());
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getLong(1));
+                    }
+                }
+                if (ids.size() != items.size()) {
+                    throw new IllegalStateException("Expected " + items.size() + " generated item IDs but got " + ids.size());
+                }
+                return ids;
+            }
+        });
+    }
+
+    /**
+     * Passes the name, keyword and category IDs of every item to the handler, in item ID order.
+     *
+     * <p>Items are read in pages by keyset, with one more query per page for the categories of the page, so the
+     * table is never held in memory as a whole.</p>
+     *
+     * @param pageSize the number of items read per query
+     * @param handler the handler of the items
+     */
+    @Override
+    public void streamSearchFields(int pageSize, SearchFieldsHandler handler) {
+        long lastId = 0L;
+        while (true) {
+            List<Long> itemIds = new ArrayList<>(pageSize);
+            List<String> names = new ArrayList<>(pageSize);
+            List<String> keywords = new ArrayList<>(pageSize);
+            jdbcTemplate.query(SELECT_SEARCH_FIELDS, resultSet -> {
+                itemIds.add(resultSet.getLong(1));
+                names.add(resultSet.getString(2));
+                keywords.add(resultSet.getString(3));
+            }, lastId, pageSize);
+            if (itemIds.isEmpty()) {
+                return;
+            }
+            long pageLastId = itemIds.get(itemIds.size() - 1);
+            Map<Long, List<Long>> categoryIds = new HashMap<>();
+            jdbcTemplate.query(SELECT_CATEGORY_IDS, resultSet -> {
+                categoryIds.computeIfAbsent(resultSet.getLong(1), id -> new ArrayList<>()).add(resultSet.getLong(2));
+            }, lastId, pageLastId);
+            for (int i = 0; i < itemIds.size(); i++) {
+                long[] itemCategoryIds = categoryIds.getOrDefault(itemIds.get(i), List.of()).stream()
+                        .mapToLong(Long::longValue)
+                        .toArray();
+                handler.handle(itemIds.get(i), names.get(i), keywords.get(i), itemCategoryIds);
+            }
+            if (itemIds.size() < pageSize) {
+                return;
+            }
+            lastId = pageLastId;
+        }
+    }
+
+    /**
+     * Sums the quantity ordered of each item over all orders, in one aggregate query.
+     *
+     * @return the total quantity ordered by item ID; items never ordered are absent
+     */
+    @Override
+    public Map<Long, Long> sumOrderedQuantities() {
+        Map<Long, Long> quantities = new HashMap<>();
+        jdbcTemplate.query(SUM_ORDERED_QUANTITIES, resultSet -> {
+            quantities.put(resultSet.getLong(1), resultSet.getLong(2));
+        });
+        return quantities;
+    }
+}
@@ -0,0 +1,23 @@
+package jihong99.shoppingmall.repository;
+
+import jihong99.shoppingmall.entity.RefreshSession;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface RefreshSessionRepository extends JpaRepository<RefreshSession, String> {
+    @Modifying
+    @Query("UPDATE RefreshSession s SET s.revoked = true WHERE s.id = :id AND s.revoked = false")
+    int revokeIfActive(@Param("id") String id);
+
+    @Modifying
+    @Query("UPDATE RefreshSession s SET s.revoked = true WHERE s.familyId = :familyId AND s.revoked = false")
+    int revokeFamily(@Param("familyId") String familyId);
+
+    @Modifying
+    @Query("DELETE FROM RefreshSession s WHERE s.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -1,16 +1,65 @@
 package jihong99.shoppingmall.repository;
 
+import jihong99.shoppingmall.dto.CouponResponseDto;
 import jihong99.shoppingmall.entity.UserCoupon;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
 
-public interface UserCouponRepository extends JpaRepository<UserCoupon, Long> {
+public interface UserCouponRepository extends JpaRepository<UserCoupon, Long>, UserCouponRepositoryCustom {
     Page<UserCoupon> findByUsersId(Long userId, Pageable pageable);
     List<UserCoupon> findByUsersId(Long userId);
+
+    /**
+     * Retrieves the user's valid, unexpired coupons with pagination.
+     *
+     * <p>Validity and expiration are filtered in the query and the coupon is joined in the same statement, so
+     * every page is full and the total counts only usable coupons. Served by {@code idx_user_coupon_user_valid}.</p>
+     *
+     * @param userId the user's id
+     * @param today the current date
+     * @param pageable pagination information
+     * @return a paginated list of the user's usable coupons
+     */
+    @Query(value = "SELECT new jihong99.shoppingmall.dto.CouponResponseDto(c.id, c.name, c.content, c.expirationDate) " +
+            "FROM UserCoupon uc JOIN uc.coupon c " +
+            "WHERE uc.users.id = :userId AND uc.isValid = true AND c.expirationDate >= :today " +
+            "ORDER BY uc.id",
+            countQuery = "SELECT COUNT(uc) FROM UserCoupon uc JOIN uc.coupon c " +
+                    "WHERE uc.users.id = :userId AND uc.isValid = true AND c.expirationDate >= :today")
+    Page<CouponResponseDto> findValidCoupons(@Param("userId") Long userId, @Param("today") LocalDate today, Pageable pageable);
     Optional<UserCoupon> findByUsersIdAndCouponId(Long userId, Long CouponId);
+
+    long countByCouponId(Long couponId);
+
+    @Query("SELECT uc.users.id FROM UserCoupon uc WHERE uc.coupon.id = :couponId")
+    List<Long> findUserIdsByCouponId(@Param("couponId") Long couponId);
+
+    @Query("SELECT uc.coupon.id FROM UserCoupon uc WHERE uc.users.id = :userId AND uc.isValid = true ORDER BY uc.coupon.id")
+    List<Long> findValidCouponIds(@Param("userId") Long userId);
+
+    @Query("SELECT MAX(uc.id) FROM UserCoupon uc")
+    Long findMaxId();
+
+    /**
+     * Marks the still-valid user coupons in the ID range whose coupon expired before the given date as invalid.
+     *
+     * @param fromId the exclusive lower bound of the user coupon IDs
+     * @param toId the inclusive upper bound of the user coupon IDs
+     * @param today the current date
+     * @return the number of user coupons invalidated
+     */
+    @Modifying
+    @Query("UPDATE UserCoupon uc SET uc.isValid = false " +
+            "WHERE uc.id > :fromId AND uc.id <= :toId AND uc.isValid = true " +
+            "AND uc.coupon.id IN (SELECT c.id FROM Coupon c WHERE c.expirationDate < :today)")
+    int invalidateExpired(@Param("fromId") Long fromId, @Param("toId") Long toId, @Param("today") LocalDate today);
 }
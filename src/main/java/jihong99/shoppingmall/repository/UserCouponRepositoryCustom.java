@@ -0,0 +1,9 @@
+package jihong99.shoppingmall.repository;
+
+import java.util.List;
+
+public interface UserCouponRepositoryCustom {
+    void batchInsert(Long couponId, List<Long> userIds);
+
+    int insertForTier(Long couponId, String tier, Long fromUserId, Long toUserId);
+}
@@ -0,0 +1,103 @@
+package jihong99.shoppingmall.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JDBC operations on USER_COUPON that bypass the persistence context.
+ *
+ * <p>Rows are written as JDBC batches or set-based statements without loading or managing any entity, so issuing a
+ * coupon to many users costs one round trip per batch instead of one per user. Callers are responsible for the
+ * transaction.</p>
+ *
+ * <p>Inserts rely on the unique key on {@code (user_id, coupon_id)} and skip rows that already exist instead of
+ * failing, so issuing the same coupon again is a no-op. The conflict clause differs between databases: MySQL uses
+ * {@code ON DUPLICATE KEY UPDATE} with a no-op assignment, and H2 a standard {@code MERGE} that only inserts.</p>
+ */
+@RequiredArgsConstructor
+public class UserCouponRepositoryImpl implements UserCouponRepositoryCustom {
+
+    private static final String INSERT_USER_COUPON_MYSQL =
+            "INSERT INTO user_coupon (user_id, coupon_id, is_valid, creation_time, last_modified_time) VALUES (?, ?, TRUE, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE user_coupon_id = user_coupon_id";
+
+    private static final String INSERT_USER_COUPON_STANDARD =
+            "MERGE INTO user_coupon uc USING (SELECT CAST(? AS BIGINT) AS user_id, CAST(? AS BIGINT) AS coupon_id) s " +
+            "ON uc.user_id = s.user_id AND uc.coupon_id = s.coupon_id " +
+            "WHEN NOT MATCHED THEN INSERT (user_id, coupon_id, is_valid, creation_time, last_modified_time) " +
+            "VALUES (s.user_id, s.coupon_id, TRUE, ?, ?)";
+
+    private static final String INSERT_FOR_TIER_MYSQL =
+            "INSERT INTO user_coupon (user_id, coupon_id, is_valid, creation_time, last_modified_time) " +
+            "SELECT u.user_id, ?, TRUE, ?, ? FROM users u WHERE u.tier = ? AND u.user_id > ? AND u.user_id <= ? " +
+            "ON DUPLICATE KEY UPDATE user_coupon_id = user_coupon_id";
+
+    private static final String INSERT_FOR_TIER_STANDARD =
+            "MERGE INTO user_coupon uc USING (SELECT CAST(? AS BIGINT) AS coupon_id, u.user_id FROM users u " +
+            "WHERE u.tier = ? AND u.user_id > ? AND u.user_id <= ?) s " +
+            "ON uc.user_id = s.user_id AND uc.coupon_id = s.coupon_id " +
+            "WHEN NOT MATCHED THEN INSERT (user_id, coupon_id, is_valid, creation_time, last_modified_time) " +
+            "VALUES (s.user_id, s.coupon_id, TRUE, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Boolean mySql;
+
+    /**
+     * Issues the coupon to each of the specified users who does not hold it yet, in a single JDBC batch.
+     *
+     * @param couponId the ID of the coupon to issue
+     * @param userIds the IDs of the users to receive the coupon
+     */
+    @Override
+    public void batchInsert(Long couponId, List<Long> userIds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String sql = isMySql() ? INSERT_USER_COUPON_MYSQL : INSERT_USER_COUPON_STANDARD;
+        jdbcTemplate.batchUpdate(sql, userIds, userIds.size(), (preparedStatement, userId) -> {
+            preparedStatement.setLong(1, userId);
+            preparedStatement.setLong(2, couponId);
+            preparedStatement.setTimestamp(3, now);
+            preparedStatement.setTimestamp(4, now);
+        });
+    }
+
+    /**
+     * Issues the coupon to every user of the tier in the user ID range who does not hold it yet, in a single
+     * statement.
+     *
+     * <p>The rows are produced inside the database, so no user is loaded into the application. Bounding the statement
+     * by a user ID range keeps each transaction small and lets a distribution job checkpoint after every range. A
+     * user who receives the coupon concurrently, through a claim or another job, is skipped by the unique key instead
+     * of failing the statement.</p>
+     *
+     * @param couponId the ID of the coupon to issue
+     * @param tier the name of the tier of users to receive the coupon
+     * @param fromUserId the exclusive lower bound of the user IDs
+     * @param toUserId the inclusive upper bound of the user IDs
+     * @return the number of coupons issued
+     */
+    @Override
+    public int insertForTier(Long couponId, String tier, Long fromUserId, Long toUserId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        if (isMySql()) {
+            return jdbcTemplate.update(INSERT_FOR_TIER_MYSQL, couponId, now, now, tier, fromUserId, toUserId);
+        }
+        return jdbcTemplate.update(INSERT_FOR_TIER_STANDARD, couponId, tier, fromUserId, toUserId, now, now);
+    }
+
+    private boolean isMySql() {
+        Boolean result = mySql;
+        if (result == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            result = "MySQL".equalsIgnoreCase(product);
+            mySql = result;
+        }
+        return result;
+    }
+}
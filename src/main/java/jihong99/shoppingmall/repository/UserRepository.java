@@ -7,6 +7,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -21,6 +22,17 @@ public interface UserRepository extends JpaRepository<Users, Long> {
     Page<UserSummaryDto> findAllUserSummaries(Pageable pageable);
 
     List<Users> findByTier(Tiers tier);
+
+    long countByTier(Tiers tier);
+
+    @Query("SELECT MAX(u.id) FROM Users u")
+    Long findMaxId();
+
+    @Query("SELECT COUNT(u) FROM Users u WHERE u.tier = :tier AND u.id > :fromId AND u.id <= :toId")
+    long countByTierInRange(@Param("tier") Tiers tier, @Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Query("SELECT u.id FROM Users u WHERE u.id > :lastId ORDER BY u.id")
+    List<Long> findIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
 }
 
 
@@ -1,12 +1,21 @@
 package jihong99.shoppingmall.service;
 
+import io.jsonwebtoken.Claims;
+import jihong99.shoppingmall.config.auth.providers.AccessTokenDenylist;
 import jihong99.shoppingmall.config.auth.providers.JwtTokenProvider;
+import jihong99.shoppingmall.config.auth.providers.VerifiedToken;
+import jihong99.shoppingmall.config.auth.service.UserDetailsServiceImpl;
+import jihong99.shoppingmall.dto.UserDetailsDto;
+import jihong99.shoppingmall.dto.UserPrincipalDto;
+import jihong99.shoppingmall.entity.RefreshSession;
 import jihong99.shoppingmall.entity.Users;
 import jihong99.shoppingmall.exception.InvalidTokenException;
 import jihong99.shoppingmall.exception.NotFoundException;
 import jihong99.shoppingmall.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 import java.util.HashMap;
@@ -20,47 +29,100 @@ import static jihong99.shoppingmall.constants.Constants.*;
 public class AuthServiceImpl implements IAuthService {
     private final JwtTokenProvider jwtTokenProvider;
     private final UserRepository userRepository;
+    private final IRefreshSessionService refreshSessionService;
+    private final UserDetailsServiceImpl userDetailsServiceImpl;
+    private final AccessTokenDenylist accessTokenDenylist;
 
     /**
      * Refreshes the access token using the provided refresh token.
      *
+     * <p>This method rotates the refresh session carried by the token and returns a new access token together
+     * with the rotated refresh token. The user is resolved from the cached principal, so a refresh neither looks
+     * up nor loads the user entity.</p>
+     *
      * @param refreshToken The refresh token provided by the client.
-     * @return A map containing the new access token.
-     * @throws InvalidTokenException If the refresh token is invalid.
-     * @throws NotFoundException If no user is found with the identification extracted from the refresh token.
+     * @return A map containing the new access token and the new refresh token.
+     * @throws InvalidTokenException If the token is invalid or not a refresh token, or its session was revoked or
+     *         already rotated.
+     * @throws NotFoundException If no user is found with the identification held by the refresh session.
      */
     @Override
     public Map<String, String> refreshAccessToken(String refreshToken) {
-        if (refreshToken == null || !jwtTokenProvider.validateToken(refreshToken)) {
+        if (refreshToken == null) {
+            throw new InvalidTokenException(MESSAGE_400_InvalidRefreshToken);
+        }
+        VerifiedToken verifiedToken = jwtTokenProvider.verifyToken(refreshToken);
+        if (!verifiedToken.isRefreshToken() || verifiedToken.getClaims().getId() == null) {
             throw new InvalidTokenException(MESSAGE_400_InvalidRefreshToken);
         }
 
-        String identification = jwtTokenProvider.getIdentificationFromToken(refreshToken);
-        Users user = userRepository.findByIdentification(identification)
-                .orElseThrow(() -> new NotFoundException(MESSAGE_404_UserNotFound));
-
-        String newAccessToken = jwtTokenProvider.generateAccessToken(user);
+        RefreshSession session = refreshSessionService.rotate(verifiedToken.getClaims().getId());
+        UserPrincipalDto principal = loadPrincipal(session.getIdentification());
 
         Map<String, String> response = new HashMap<>();
-        response.put("accessToken", newAccessToken);
+        response.put("accessToken", jwtTokenProvider.generateAccessToken(principal));
+        response.put("refreshToken", jwtTokenProvider.generateRefreshToken(session));
 
         return response;
     }
+
+    /**
+     * Logs out the device holding the specified tokens.
+     *
+     * <p>The access token is denylisted until it expires, so it stops authenticating requests right away.
+     * If a refresh token is given, its refresh session is revoked too. Invalid tokens are ignored.</p>
+     *
+     * @param accessToken The access token of the current request, may be null.
+     * @param refreshToken The refresh token held by the same device, may be null.
+     */
+    @Override
+    public void logout(String accessToken, String refreshToken) {
+        VerifiedToken verifiedAccessToken = jwtTokenProvider.verifyToken(accessToken);
+        if (verifiedAccessToken.isAccessToken()) {
+            Claims claims = verifiedAccessToken.getClaims();
+            accessTokenDenylist.revoke(claims.getId(), claims.getExpiration());
+        }
+        VerifiedToken verifiedRefreshToken = jwtTokenProvider.verifyToken(refreshToken);
+        if (verifiedRefreshToken.isRefreshToken() && verifiedRefreshToken.getClaims().getId() != null) {
+            refreshSessionService.revoke(verifiedRefreshToken.getClaims().getId());
+        }
+    }
+
+    private UserPrincipalDto loadPrincipal(String identification) {
+        try {
+            return userDetailsServiceImpl.getPrincipal(identification);
+        } catch (UsernameNotFoundException e) {
+            throw new NotFoundException(MESSAGE_404_UserNotFound);
+        }
+    }
+
     /**
      * Checks if the authenticated user has the specified user ID.
      *
-     * <p>This method retrieves the currently authenticated user's identification,
-     * looks up the user in the database, and checks if the user's ID matches the specified ID.</p>
+     * <p>This method resolves the authenticated user's ID from the principal, which already carries it when
+     * authenticated through a JWT token, so no database lookup is needed. Only principals that do not carry
+     * an ID fall back to looking up the user by identification.</p>
      *
      * @param Id The user ID to check against the authenticated user's ID.
      * @return true if the authenticated user's ID matches the specified ID, false otherwise.
-     * @throws NotFoundException If no user is found with the authenticated user's identification.
+     * @throws NotFoundException If the principal carries no ID and no user is found with its identification.
      */
     @Override
     public boolean hasId(Long Id) {
-        String name = SecurityContextHolder.getContext().getAuthentication().getName();
-        Users user = userRepository.findByIdentification(name)
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return resolveUserId(authentication).equals(Id);
+    }
+
+    private Long resolveUserId(Authentication authentication) {
+        Object principal = authentication.getPrincipal();
+        if (principal instanceof UserPrincipalDto userPrincipalDto) {
+            return userPrincipalDto.getId();
+        }
+        if (principal instanceof UserDetailsDto userDetailsDto) {
+            return userDetailsDto.getUser().getId();
+        }
+        Users user = userRepository.findByIdentification(authentication.getName())
                 .orElseThrow(() -> new NotFoundException(MESSAGE_404_UserNotFound));
-        return user.getId().equals(Id);
+        return user.getId();
     }
 }
@@ -0,0 +1,140 @@
+package jihong99.shoppingmall.service;
+
+import jakarta.annotation.PostConstruct;
+import jihong99.shoppingmall.entity.Coupon;
+import jihong99.shoppingmall.repository.CouponRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+
+/**
+ * In-memory catalog of all coupons, indexed by ID and by name.
+ *
+ * <p>Coupons are written rarely but read on every signup and listing, so reads are served from an immutable
+ * snapshot without locking or querying the COUPON table. The snapshot is loaded at startup and replaced
+ * copy-on-write whenever a coupon is saved or deleted, through {@link CouponCatalogListener}. Changes are applied
+ * only after their transaction commits, so a rolled-back write never becomes visible.</p>
+ *
+ * <p>A coupon missing from the snapshot is looked up in the table, so coupons written by another instance are
+ * found before the periodic reload picks them up.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class CouponCatalog {
+
+    private final CouponRepository couponRepository;
+
+    private volatile Snapshot snapshot = new Snapshot(Collections.emptyList());
+
+    /**
+     * Loads every coupon from the table, replacing the current snapshot.
+     */
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${coupon.catalog.refresh-interval:300000}")
+    public synchronized void reload() {
+        snapshot = new Snapshot(couponRepository.findAll());
+    }
+
+    public Optional<Coupon> findById(Long id) {
+        Coupon coupon = snapshot.byId.get(id);
+        if (coupon != null) {
+            return Optional.of(coupon);
+        }
+        Optional<Coupon> loaded = couponRepository.findById(id);
+        loaded.ifPresent(this::putAfterCommit);
+        return loaded;
+    }
+
+    public Optional<Coupon> findByName(String name) {
+        Coupon coupon = snapshot.byName.get(name);
+        if (coupon != null) {
+            return Optional.of(coupon);
+        }
+        Optional<Coupon> loaded = couponRepository.findByName(name);
+        loaded.ifPresent(this::putAfterCommit);
+        return loaded;
+    }
+
+    /**
+     * Retrieves a page of coupons ordered by ID.
+     *
+     * @param pageable pagination information
+     * @return a page of coupons
+     */
+    public Page<Coupon> findAll(Pageable pageable) {
+        List<Coupon> coupons = snapshot.ordered;
+        int from = (int) Math.min(pageable.getOffset(), coupons.size());
+        int to = Math.min(from + pageable.getPageSize(), coupons.size());
+        return new PageImpl<>(coupons.subList(from, to), pageable, coupons.size());
+    }
+
+    /**
+     * Retrieves every coupon ordered by ID.
+     *
+     * <p>The same list instance is returned until the catalog changes, so callers may cache what they derive
+     * from it and compare by identity to detect a change.</p>
+     *
+     * @return an unmodifiable list of all coupons
+     */
+    public List<Coupon> findAll() {
+        return snapshot.ordered;
+    }
+
+    void putAfterCommit(Coupon coupon) {
+        afterCommit(() -> put(coupon));
+    }
+
+    void removeAfterCommit(Coupon coupon) {
+        afterCommit(() -> remove(coupon.getId()));
+    }
+
+    private synchronized void put(Coupon coupon) {
+        Map<Long, Coupon> coupons = new TreeMap<>(snapshot.byId);
+        coupons.put(coupon.getId(), coupon);
+        snapshot = new Snapshot(coupons.values());
+    }
+
+    private synchronized void remove(Long id) {
+        Map<Long, Coupon> coupons = new TreeMap<>(snapshot.byId);
+        coupons.remove(id);
+        snapshot = new Snapshot(coupons.values());
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+
+    private static final class Snapshot {
+        private final Map<Long, Coupon> byId;
+        private final Map<String, Coupon> byName;
+        private final List<Coupon> ordered;
+
+        private Snapshot(Collection<Coupon> coupons) {
+            Map<Long, Coupon> byId = new TreeMap<>();
+            Map<String, Coupon> byName = new HashMap<>();
+            for (Coupon coupon : coupons) {
+                byId.put(coupon.getId(), coupon);
+                byName.put(coupon.getName(), coupon);
+            }
+            this.byId = Collections.unmodifiableMap(byId);
+            this.byName = Collections.unmodifiableMap(byName);
+            this.ordered = List.copyOf(byId.values());
+        }
+    }
+}
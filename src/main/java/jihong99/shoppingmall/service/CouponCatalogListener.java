@@ -0,0 +1,33 @@
+package jihong99.shoppingmall.service;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import jihong99.shoppingmall.entity.Coupon;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Keeps the {@link CouponCatalog} in step with writes to the COUPON table.
+ *
+ * <p>Instantiated by Hibernate through Spring's bean container. The catalog is resolved lazily because it
+ * depends on the repositories, which are created after the entity manager factory that creates this listener.</p>
+ */
+public class CouponCatalogListener {
+
+    private final ObjectProvider<CouponCatalog> couponCatalog;
+
+    public CouponCatalogListener(ObjectProvider<CouponCatalog> couponCatalog) {
+        this.couponCatalog = couponCatalog;
+    }
+
+    @PostPersist
+    @PostUpdate
+    void onSave(Coupon coupon) {
+        couponCatalog.ifAvailable(catalog -> catalog.putAfterCommit(coupon));
+    }
+
+    @PostRemove
+    void onRemove(Coupon coupon) {
+        couponCatalog.ifAvailable(catalog -> catalog.removeAfterCommit(coupon));
+    }
+}
@@ -0,0 +1,191 @@
+package jihong99.shoppingmall.service;
+
+import jakarta.annotation.PreDestroy;
+import jihong99.shoppingmall.entity.Coupon;
+import jihong99.shoppingmall.exception.CouponClaimException;
+import jihong99.shoppingmall.exception.InvalidExpirationDateException;
+import jihong99.shoppingmall.exception.NotFoundException;
+import jihong99.shoppingmall.repository.UserCouponRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import static jihong99.shoppingmall.constants.Constants.*;
+
+/**
+ * First-come-first-served claiming of limited coupons.
+ *
+ * <p>Claims are decided in memory: each limited coupon has a {@link CouponStock} loaded from the table on its
+ * first claim, and a claim only touches that stock's counters and claimed-user set. Accepted claims are queued
+ * and written by a scheduled flush as JDBC batch inserts, so the database sees one batch per flush instead of one
+ * write per claim, and no single row is updated by every claim.</p>
+ *
+ * <p>A batch that fails is retried on later flushes up to {@code coupon.claim.max-attempts} times. After that it is
+ * written in halves until the failing claims are isolated; those claims are dropped and logged, and their stock and
+ * claimed-user entries are released so the coupon can be claimed again.</p>
+ *
+ * <p>Claims accepted but not flushed yet are lost if the process crashes. They were never persisted, so on the
+ * next start they are back in stock rather than over-issued. The stock lives in this instance only, so claims for
+ * one coupon must be served by a single instance.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class CouponClaimServiceImpl implements ICouponClaimService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CouponClaimServiceImpl.class);
+
+    private final CouponCatalog couponCatalog;
+    private final UserCouponRepository userCouponRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${coupon.claim.stripes:8}")
+    private int stockStripes;
+
+    @Value("${coupon.claim.batch-size:1000}")
+    private int flushBatchSize;
+
+    @Value("${coupon.claim.max-attempts:5}")
+    private int maxFlushAttempts;
+
+    private final Map<Long, CouponStock> stocks = new ConcurrentHashMap<>();
+    private final LinkedBlockingQueue<PendingClaim> pendingClaims = new LinkedBlockingQueue<>();
+
+    /**
+     * Claims a limited coupon for the user.
+     *
+     * @param couponId the ID of the coupon to claim
+     * @param userId the ID of the user claiming the coupon
+     * @throws NotFoundException if the coupon is not found or is not limited
+     * @throws InvalidExpirationDateException if the coupon has expired
+     * @throws CouponClaimException if the user already claimed the coupon or it is sold out
+     */
+    @Override
+    public void claimCoupon(Long couponId, Long userId) {
+        Coupon coupon = couponCatalog.findById(couponId)
+                .filter(Coupon::isLimited)
+                .orElseThrow(() -> new NotFoundException(MESSAGE_404_LimitedCouponNotFound));
+        if (coupon.getExpirationDate().isBefore(LocalDate.now())) {
+            throw new InvalidExpirationDateException(MESSAGE_400_CouponExpired);
+        }
+        CouponStock stock = stocks.computeIfAbsent(couponId, id -> loadStock(coupon));
+        if (!stock.addClaim(userId)) {
+            throw new CouponClaimException(MESSAGE_409_CouponAlreadyClaimed);
+        }
+        if (!stock.tryAcquire()) {
+            stock.removeClaim(userId);
+            throw new CouponClaimException(MESSAGE_409_CouponSoldOut);
+        }
+        pendingClaims.add(new PendingClaim(couponId, userId, 0));
+    }
+
+    /**
+     * Writes the queued claims to the table.
+     *
+     * <p>Up to {@code coupon.claim.batch-size} claims are drained per batch and inserted in one transaction. If a
+     * batch fails, its claims are queued again and retried on the next flush. Claims that failed
+     * {@code coupon.claim.max-attempts} times are written in halves instead, and the claims that still fail on their
+     * own are dropped.</p>
+     */
+    @Scheduled(fixedDelayString = "${coupon.claim.flush-interval:100}")
+    public synchronized void flushClaims() {
+        List<PendingClaim> batch = new ArrayList<>(flushBatchSize);
+        while (pendingClaims.drainTo(batch, flushBatchSize) > 0) {
+            if (!write(batch)) {
+                List<PendingClaim> retries = new ArrayList<>();
+                List<PendingClaim> exhausted = new ArrayList<>();
+                batch.forEach(claim -> {
+                    if (claim.failures() + 1 < maxFlushAttempts) {
+                        retries.add(claim.failed());
+                    } else {
+                        exhausted.add(claim);
+                    }
+                });
+                boolean failedTogether = exhausted.size() == batch.size();
+                if (!exhausted.isEmpty() && (failedTogether || !write(exhausted))) {
+                    isolateFailures(exhausted);
+                }
+                if (!retries.isEmpty()) {
+                    LOGGER.warn("Retrying {} coupon claims on the next flush", retries.size());
+                    pendingClaims.addAll(retries);
+                    return;
+                }
+            }
+            batch.clear();
+        }
+    }
+
+    /**
+     * Writes the remaining queued claims before the application stops.
+     */
+    @PreDestroy
+    public void shutdown() {
+        flushClaims();
+    }
+
+    private boolean write(List<PendingClaim> claims) {
+        Map<Long, List<Long>> userIdsByCoupon = new HashMap<>();
+        claims.forEach(claim -> userIdsByCoupon
+                .computeIfAbsent(claim.couponId(), id -> new ArrayList<>())
+                .add(claim.userId()));
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    userIdsByCoupon.forEach(userCouponRepository::batchInsert));
+            return true;
+        } catch (RuntimeException e) {
+            LOGGER.error("Failed to persist {} coupon claims", claims.size(), e);
+            return false;
+        }
+    }
+
+    /**
+     * Writes each half of claims that failed together on its own, splitting the halves that fail until single claims
+     * are left, and drops the single claims that fail.
+     */
+    private void isolateFailures(List<PendingClaim> claims) {
+        if (claims.isEmpty()) {
+            return;
+        }
+        if (claims.size() == 1) {
+            drop(claims.get(0));
+            return;
+        }
+        int middle = claims.size() / 2;
+        for (List<PendingClaim> half : List.of(claims.subList(0, middle), claims.subList(middle, claims.size()))) {
+            if (!write(half)) {
+                isolateFailures(half);
+            }
+        }
+    }
+
+    private void drop(PendingClaim claim) {
+        LOGGER.error("Dropping the claim of coupon {} by user {} after {} failed flushes",
+                claim.couponId(), claim.userId(), claim.failures() + 1);
+        CouponStock stock = stocks.get(claim.couponId());
+        if (stock != null) {
+            stock.removeClaim(claim.userId());
+            stock.release();
+        }
+    }
+
+    private CouponStock loadStock(Coupon coupon) {
+        List<Long> claimedUserIds = userCouponRepository.findUserIdsByCouponId(coupon.getId());
+        int remaining = Math.max(0, coupon.getQuantity() - claimedUserIds.size());
+        return new CouponStock(remaining, stockStripes, claimedUserIds);
+    }
+
+    private record PendingClaim(Long couponId, Long userId, int failures) {
+
+        PendingClaim failed() {
+            return new PendingClaim(couponId, userId, failures + 1);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package jihong99.shoppingmall.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Derives redeemable coupon codes that are unique without any lookup.
+ *
+ * <p>A code is the image of {@code (jobId << 32) | index} under a keyed permutation of 64-bit values: a balanced
+ * Feistel network whose round keys are derived from {@code coupon.code.secret}. A permutation never maps two inputs
+ * to the same output, and every (job, index) pair is a distinct input, so every code ever generated is distinct.
+ * Without the secret, consecutive indexes give unrelated codes and a valid code cannot be derived from another.</p>
+ *
+ * <p>The 64-bit value is written as 13 characters of Crockford's base32, which leaves out the easily confused
+ * letters I, L, O and U.</p>
+ */
+@Component
+public class CouponCodeGenerator {
+
+    public static final int CODE_LENGTH = 13;
+
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int ROUNDS = 6;
+
+    private final int[] roundKeys = new int[ROUNDS];
+
+    public CouponCodeGenerator(@Value("${coupon.code.secret}") String secret) {
+        try {
+            ByteBuffer digest = ByteBuffer.wrap(MessageDigest.getInstance("SHA-256")
+                    .digest(secret.getBytes(StandardCharsets.UTF_8)));
+            for (int i = 0; i < ROUNDS; i++) {
+                roundKeys[i] = digest.getInt();
+            }
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns the code at the given index of a job.
+     *
+     * @param jobId the ID of the job, below 2^32
+     * @param index the index of the code within the job, below 2^32
+     * @return a 13-character code
+     */
+    public String generate(long jobId, long index) {
+        return encode(permute((jobId << 32) | (index & 0xFFFFFFFFL)));
+    }
+
+    private long permute(long value) {
+        int left = (int) (value >>> 32);
+        int right = (int) value;
+        for (int roundKey : roundKeys) {
+            int next = left ^ round(right, roundKey);
+            left = right;
+            right = next;
+        }
+        return ((long) left << 32) | (right & 0xFFFFFFFFL);
+    }
+
+    private static int round(int half, int roundKey) {
+        long x = ((long) roundKey << 32) | (half & 0xFFFFFFFFL);
+        x = (x ^ (x >>> 30)) * 0xBF58476D1CE4E5B9L;
+        x = (x ^ (x >>> 27)) * 0x94D049BB133111EBL;
+        return (int) (x ^ (x >>> 31));
+    }
+
+    private static String encode(long value) {
+        char[] code = new char[CODE_LENGTH];
+        for (int i = CODE_LENGTH - 1; i >= 0; i--) {
+            code[i] = ALPHABET[(int) (value & 31)];
+            value >>>= 5;
+        }
+        return new String(code);
+    }
+}
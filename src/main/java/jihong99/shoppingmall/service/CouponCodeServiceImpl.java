@@ -0,0 +1,263 @@
+package jihong99.shoppingmall.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jihong99.shoppingmall.dto.CouponCodeJobResponseDto;
+import jihong99.shoppingmall.entity.CouponCodeJob;
+import jihong99.shoppingmall.entity.enums.CouponCodeJobStatus;
+import jihong99.shoppingmall.exception.NotFoundException;
+import jihong99.shoppingmall.repository.CouponCodeJobRepository;
+import jihong99.shoppingmall.repository.CouponCodeRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static jihong99.shoppingmall.constants.Constants.*;
+
+@Service
+@RequiredArgsConstructor
+public class CouponCodeServiceImpl implements ICouponCodeService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CouponCodeServiceImpl.class);
+
+    private final CouponCodeJobRepository couponCodeJobRepository;
+    private final CouponCodeRepository couponCodeRepository;
+    private final CouponCodeGenerator couponCodeGenerator;
+    private final CouponCatalog couponCatalog;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${coupon.code.batch-size:5000}")
+    private int batchSize;
+
+    @Value("${coupon.code.insert-threads:4}")
+    private int insertThreads;
+
+    private ExecutorService jobExecutor;
+    private ExecutorService insertExecutor;
+
+    /**
+     * Starts the job thread and the pool of insert threads.
+     *
+     * <p>Jobs run one at a time on the job thread, which splits each job into chunks and hands them to the insert
+     * threads, so the chunks of one job are generated and written in parallel.</p>
+     */
+    @PostConstruct
+    public void init() {
+        CustomizableThreadFactory jobThreadFactory = new CustomizableThreadFactory("coupon-code-job-");
+        jobThreadFactory.setDaemon(true);
+        jobExecutor = Executors.newSingleThreadExecutor(jobThreadFactory);
+        CustomizableThreadFactory insertThreadFactory = new CustomizableThreadFactory("coupon-code-insert-");
+        insertThreadFactory.setDaemon(true);
+        insertExecutor = Executors.newFixedThreadPool(insertThreads, insertThreadFactory);
+    }
+
+    /**
+     * Stops the job and insert threads.
+     *
+     * <p>Chunks already committed stay written, and running jobs stay {@code RUNNING}, so they resume on the next
+     * start.</p>
+     */
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+        insertExecutor.shutdownNow();
+    }
+
+    /**
+     * Resumes the jobs that were still running when the application last stopped.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedJobs() {
+        couponCodeJobRepository.findByStatus(CouponCodeJobStatus.RUNNING)
+                .forEach(job -> submit(job.getId()));
+    }
+
+    /**
+     * Starts generating codes for a coupon in the background.
+     *
+     * <p>This method only validates the request and records the job. If the caller runs in a transaction, the job
+     * is queued once that transaction commits.</p>
+     *
+     * @param couponId the ID of the coupon the codes redeem
+     * @param quantity the number of codes to generate
+     * @return the started job
+     * @throws NotFoundException if the coupon is not found
+     */
+    @Override
+    public CouponCodeJobResponseDto startGeneration(Long couponId, int quantity) {
+        if (couponCatalog.findById(couponId).isEmpty()) {
+            throw new NotFoundException(MESSAGE_404_CouponNotFound);
+        }
+        CouponCodeJob job = couponCodeJobRepository.save(CouponCodeJob.createJob(couponId, quantity, batchSize));
+        submitAfterCommit(job.getId());
+        return toResponse(job);
+    }
+
+    /**
+     * Retrieves the progress of a code generation job.
+     *
+     * @param jobId the ID of the job
+     * @return the job with its generated count and throughput
+     * @throws NotFoundException if the job is not found
+     */
+    @Override
+    public CouponCodeJobResponseDto getJob(Long jobId) {
+        CouponCodeJob job = couponCodeJobRepository.findById(jobId).orElseThrow(
+                () -> new NotFoundException(MESSAGE_404_CouponCodeJobNotFound));
+        return toResponse(job);
+    }
+
+    /**
+     * Writes the codes of a job as CSV, one code per line after a header line.
+     *
+     * <p>Codes are read in pages of {@code coupon.code.batch-size} and written as they are read, so the export
+     * never holds more than one page in memory.</p>
+     *
+     * @param jobId the ID of the job
+     * @param outputStream the stream to write to; it is flushed but not closed
+     * @throws NotFoundException if the job is not found
+     * @throws IOException if writing to the stream fails
+     */
+    @Override
+    public void exportCodes(Long jobId, OutputStream outputStream) throws IOException {
+        if (!couponCodeJobRepository.existsById(jobId)) {
+            throw new NotFoundException(MESSAGE_404_CouponCodeJobNotFound);
+        }
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write("code\n");
+        try {
+            couponCodeRepository.streamCodes(jobId, batchSize, code -> {
+                try {
+                    writer.write(code);
+                    writer.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    /**
+     * Generates and writes every code of a job, then records whether it completed.
+     *
+     * <p>The codes are split into chunks of the job's chunk size, taken from {@code coupon.code.batch-size} when
+     * the job was created. Each chunk is generated and written on an insert thread, and committed together with the
+     * job's progress. If a chunk fails, the chunks not started yet are cancelled and the job is marked failed. The
+     * job is marked completed only if its committed count reached the requested quantity.</p>
+     *
+     * <p>A resumed job has committed some chunks already, not necessarily the first ones, since chunks commit in
+     * parallel. Codes and chunk boundaries are regenerated identically, so a chunk whose first code exists is
+     * skipped.</p>
+     *
+     * @param jobId the ID of the job
+     */
+    void runJob(Long jobId) {
+        CouponCodeJob job = couponCodeJobRepository.findById(jobId).orElse(null);
+        if (job == null || job.getStatus() != CouponCodeJobStatus.RUNNING) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status ->
+                couponCodeJobRepository.markStarted(jobId, LocalDateTime.now()));
+        boolean resumed = job.getGeneratedCodes() > 0;
+        int chunkSize = job.getChunkSize();
+        List<Future<?>> chunks = new ArrayList<>();
+        for (int from = 0; from < job.getQuantity(); from += chunkSize) {
+            if (resumed && couponCodeRepository.existsByCode(couponCodeGenerator.generate(jobId, from))) {
+                continue;
+            }
+            int start = from;
+            int end = Math.min(from + chunkSize, job.getQuantity());
+            chunks.add(insertExecutor.submit(() -> insertChunk(job, start, end)));
+        }
+        try {
+            for (Future<?> chunk : chunks) {
+                chunk.get();
+            }
+            long generatedCodes = couponCodeJobRepository.findById(jobId)
+                    .map(CouponCodeJob::getGeneratedCodes)
+                    .orElse(0L);
+            if (generatedCodes == job.getQuantity()) {
+                finish(jobId, CouponCodeJobStatus.COMPLETED);
+            } else {
+                LOGGER.error("Coupon code job {} wrote {} of {} codes", jobId, generatedCodes, job.getQuantity());
+                finish(jobId, CouponCodeJobStatus.FAILED);
+            }
+        } catch (InterruptedException e) {
+            chunks.forEach(chunk -> chunk.cancel(true));
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            chunks.forEach(chunk -> chunk.cancel(true));
+            LOGGER.error("Coupon code job {} failed", jobId, e.getCause());
+            finish(jobId, CouponCodeJobStatus.FAILED);
+        }
+    }
+
+    private void insertChunk(CouponCodeJob job, int from, int to) {
+        List<String> codes = new ArrayList<>(to - from);
+        for (int index = from; index < to; index++) {
+            codes.add(couponCodeGenerator.generate(job.getId(), index));
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            couponCodeRepository.batchInsert(job.getCouponId(), job.getId(), codes);
+            couponCodeJobRepository.addGeneratedCodes(job.getId(), codes.size());
+        });
+    }
+
+    private void finish(Long jobId, CouponCodeJobStatus status) {
+        transactionTemplate.executeWithoutResult(transaction ->
+                couponCodeJobRepository.finish(jobId, status, LocalDateTime.now()));
+    }
+
+    private void submitAfterCommit(Long jobId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(jobId);
+                }
+            });
+        } else {
+            submit(jobId);
+        }
+    }
+
+    private void submit(Long jobId) {
+        jobExecutor.execute(() -> runJob(jobId));
+    }
+
+    private CouponCodeJobResponseDto toResponse(CouponCodeJob job) {
+        LocalDateTime end = job.getFinishedAt() != null ? job.getFinishedAt() : LocalDateTime.now();
+        long elapsedMillis = Duration.between(job.getStartedAt(), end).toMillis();
+        long generatedInRun = job.getGeneratedCodes() - job.getGeneratedAtStart();
+        double codesPerSecond = elapsedMillis > 0 ? generatedInRun * 1000.0 / elapsedMillis : 0.0;
+        return CouponCodeJobResponseDto.of(job.getId(), job.getCouponId(), job.getStatus(), job.getQuantity(),
+                job.getGeneratedCodes(), codesPerSecond, job.getStartedAt(), job.getFinishedAt());
+    }
+}
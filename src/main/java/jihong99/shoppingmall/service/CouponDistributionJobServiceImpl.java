@@ -0,0 +1,270 @@
+package jihong99.shoppingmall.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jihong99.shoppingmall.dto.CouponDistributionJobResponseDto;
+import jihong99.shoppingmall.entity.Coupon;
+import jihong99.shoppingmall.entity.CouponDistributionJob;
+import jihong99.shoppingmall.entity.enums.DistributionJobStatus;
+import jihong99.shoppingmall.entity.enums.Tiers;
+import jihong99.shoppingmall.exception.CouponClaimException;
+import jihong99.shoppingmall.exception.NotFoundException;
+import jihong99.shoppingmall.repository.CouponDistributionJobRepository;
+import jihong99.shoppingmall.repository.UserCouponRepository;
+import jihong99.shoppingmall.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static jihong99.shoppingmall.constants.Constants.*;
+
+@Service
+@RequiredArgsConstructor
+public class CouponDistributionJobServiceImpl implements ICouponDistributionJobService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CouponDistributionJobServiceImpl.class);
+
+    private final CouponDistributionJobRepository couponDistributionJobRepository;
+    private final CouponCatalog couponCatalog;
+    private final UserRepository userRepository;
+    private final UserCouponRepository userCouponRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${coupon.distribution.chunk-size:1000}")
+    private int distributionChunkSize;
+
+    @Value("${coupon.distribution.job-threads:1}")
+    private int jobThreads;
+
+    private ExecutorService executor;
+
+    /**
+     * Starts the threads that run distribution jobs.
+     *
+     * <p>Jobs are persisted before they are queued, so the queue is unbounded: a job lost from it on shutdown is
+     * picked up again from the table on the next start.</p>
+     */
+    @PostConstruct
+    public void init() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("coupon-distribution-");
+        threadFactory.setDaemon(true);
+        executor = new ThreadPoolExecutor(jobThreads, jobThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), threadFactory);
+    }
+
+    /**
+     * Stops the job threads.
+     *
+     * <p>Running jobs stop after their current chunk and stay {@code RUNNING}, so they resume on the next start.</p>
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Resumes the jobs that were still running when the application last stopped.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedJobs() {
+        couponDistributionJobRepository.findByStatus(DistributionJobStatus.RUNNING)
+                .forEach(job -> submit(job.getId()));
+    }
+
+    /**
+     * Starts distributing a coupon in the background.
+     *
+     * <p>This method only validates the request and records the job; the coupons are issued on a job thread.
+     * If the caller runs in a transaction, the job is queued once that transaction commits. Limited coupons are
+     * rejected, since a job would issue them past their stock.</p>
+     *
+     * @param couponId the ID of the coupon to distribute
+     * @param tier the tier of users to receive the coupon, or null for all users
+     * @return the started job
+     * @throws NotFoundException if no target user or the coupon is not found
+     * @throws CouponClaimException if the coupon is limited
+     */
+    @Override
+    public CouponDistributionJobResponseDto startDistribution(Long couponId, Tiers tier) {
+        long totalUsers = tier == null ? userRepository.count() : userRepository.countByTier(tier);
+        if (totalUsers == 0) {
+            throw new NotFoundException(MESSAGE_404_UserNotFound);
+        }
+        Coupon coupon = couponCatalog.findById(couponId)
+                .orElseThrow(() -> new NotFoundException(MESSAGE_404_CouponNotFound));
+        if (coupon.isLimited()) {
+            throw new CouponClaimException(MESSAGE_409_LimitedCouponNotDistributable);
+        }
+        CouponDistributionJob job = couponDistributionJobRepository.save(
+                CouponDistributionJob.createJob(couponId, tier, totalUsers));
+        submitAfterCommit(job.getId());
+        return toResponse(job);
+    }
+
+    /**
+     * Retrieves the progress of a distribution job.
+     *
+     * @param jobId the ID of the job
+     * @return the job with its processed and total counts and throughput
+     * @throws NotFoundException if the job is not found
+     */
+    @Override
+    public CouponDistributionJobResponseDto getJob(Long jobId) {
+        CouponDistributionJob job = couponDistributionJobRepository.findById(jobId).orElseThrow(
+                () -> new NotFoundException(MESSAGE_404_DistributionJobNotFound));
+        return toResponse(job);
+    }
+
+    /**
+     * Runs a job from its checkpoint until every target user holds the coupon.
+     *
+     * <p>Each chunk of users is issued the coupon and the checkpoint is advanced in one transaction. The checkpoint
+     * update is conditional on the checkpoint this run last saw, so if the same job is run twice (e.g. resumed by two
+     * instances) only one run can commit a chunk and the other stops.</p>
+     *
+     * @param jobId the ID of the job
+     */
+    void runJob(Long jobId) {
+        CouponDistributionJob job = couponDistributionJobRepository.findById(jobId).orElse(null);
+        if (job == null || job.getStatus() != DistributionJobStatus.RUNNING) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status ->
+                couponDistributionJobRepository.markStarted(jobId, LocalDateTime.now()));
+        try {
+            boolean completed = job.getTier() == null ? distributeToAllUsers(job) : distributeToTier(job);
+            if (completed) {
+                finish(jobId, DistributionJobStatus.COMPLETED);
+            }
+        } catch (RuntimeException e) {
+            if (executor.isShutdown()) {
+                return;
+            }
+            LOGGER.error("Coupon distribution job {} failed", jobId, e);
+            finish(jobId, DistributionJobStatus.FAILED);
+        }
+    }
+
+    /**
+     * Issues the coupon to all users, one keyset chunk of user IDs at a time.
+     *
+     * @return true if every user was processed, false if the run was stopped
+     */
+    private boolean distributeToAllUsers(CouponDistributionJob job) {
+        Long lastUserId = job.getLastUserId();
+        List<Long> userIds = findUserIdsAfter(lastUserId);
+        while (!userIds.isEmpty()) {
+            if (Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+            List<Long> chunk = userIds;
+            Long chunkLastUserId = chunk.get(chunk.size() - 1);
+            if (!processChunk(job, lastUserId, chunkLastUserId, chunk.size(),
+                    () -> userCouponRepository.batchInsert(job.getCouponId(), chunk))) {
+                return false;
+            }
+            lastUserId = chunkLastUserId;
+            userIds = findUserIdsAfter(lastUserId);
+        }
+        return true;
+    }
+
+    /**
+     * Issues the coupon to the users of the job's tier, one user ID range at a time.
+     *
+     * <p>Each range is issued with a single set-based insert, so the users of the tier are never loaded into the
+     * application. Ranges span {@code distributionChunkSize} user IDs; the highest user ID is read again once it is
+     * reached, so users who signed up during the run are included.</p>
+     *
+     * @return true if every user was processed, false if the run was stopped
+     */
+    private boolean distributeToTier(CouponDistributionJob job) {
+        Tiers tier = job.getTier();
+        Long lastUserId = job.getLastUserId();
+        Long maxUserId = userRepository.findMaxId();
+        while (maxUserId != null && lastUserId < maxUserId) {
+            if (Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+            Long fromUserId = lastUserId;
+            Long toUserId = Math.min(fromUserId + distributionChunkSize, maxUserId);
+            long count = userRepository.countByTierInRange(tier, fromUserId, toUserId);
+            if (!processChunk(job, fromUserId, toUserId, count,
+                    () -> userCouponRepository.insertForTier(job.getCouponId(), tier.name(), fromUserId, toUserId))) {
+                return false;
+            }
+            lastUserId = toUserId;
+            if (lastUserId.equals(maxUserId)) {
+                maxUserId = userRepository.findMaxId();
+            }
+        }
+        return true;
+    }
+
+    private boolean processChunk(CouponDistributionJob job, Long lastUserId, Long chunkLastUserId, long count,
+                                 Runnable issue) {
+        boolean advanced = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            if (couponDistributionJobRepository.advanceCheckpoint(job.getId(), lastUserId, chunkLastUserId, count) == 0) {
+                return false;
+            }
+            issue.run();
+            return true;
+        }));
+        if (!advanced) {
+            LOGGER.warn("Coupon distribution job {} is run elsewhere; stopping this run", job.getId());
+        }
+        return advanced;
+    }
+
+    private List<Long> findUserIdsAfter(Long lastUserId) {
+        return userRepository.findIdsAfter(lastUserId, PageRequest.of(0, distributionChunkSize));
+    }
+
+    private void finish(Long jobId, DistributionJobStatus status) {
+        transactionTemplate.executeWithoutResult(transaction ->
+                couponDistributionJobRepository.finish(jobId, status, LocalDateTime.now()));
+    }
+
+    private void submitAfterCommit(Long jobId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(jobId);
+                }
+            });
+        } else {
+            submit(jobId);
+        }
+    }
+
+    private void submit(Long jobId) {
+        executor.execute(() -> runJob(jobId));
+    }
+
+    private CouponDistributionJobResponseDto toResponse(CouponDistributionJob job) {
+        LocalDateTime end = job.getFinishedAt() != null ? job.getFinishedAt() : LocalDateTime.now();
+        long elapsedMillis = Duration.between(job.getStartedAt(), end).toMillis();
+        long processedInRun = job.getProcessedUsers() - job.getProcessedAtStart();
+        double usersPerSecond = elapsedMillis > 0 ? processedInRun * 1000.0 / elapsedMillis : 0.0;
+        return CouponDistributionJobResponseDto.of(job.getId(), job.getCouponId(), job.getTier(), job.getStatus(),
+                job.getProcessedUsers(), job.getTotalUsers(), usersPerSecond, job.getStartedAt(), job.getFinishedAt());
+    }
+}
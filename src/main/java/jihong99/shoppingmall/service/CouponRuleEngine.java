@@ -0,0 +1,60 @@
+package jihong99.shoppingmall.service;
+
+import jihong99.shoppingmall.entity.Coupon;
+import jihong99.shoppingmall.entity.enums.Tiers;
+import jihong99.shoppingmall.repository.UserCouponRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Evaluates carts against the rules of the coupons in the {@link CouponCatalog}.
+ *
+ * <p>The rules are compiled from the catalog's snapshot on first use and compiled again only when the catalog
+ * changes, so evaluating a cart costs no query beyond loading the IDs of the user's valid coupons.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class CouponRuleEngine {
+
+    private final CouponCatalog couponCatalog;
+    private final UserCouponRepository userCouponRepository;
+
+    private volatile Compiled compiled;
+
+    /**
+     * Finds the coupon held by the user that takes the most off the cart.
+     *
+     * @param userId the ID of the user
+     * @param tier the user's tier
+     * @param lines the lines of the cart
+     * @return the best discount, or empty if none of the user's coupons applies
+     */
+    public Optional<CouponRules.CouponDiscount> findBestDiscount(Long userId, Tiers tier, List<CouponRules.CartLine> lines) {
+        long[] heldCouponIds = userCouponRepository.findValidCouponIds(userId).stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+        return rules().findBestDiscount(tier, heldCouponIds, lines, LocalDate.now());
+    }
+
+    /**
+     * Returns the rules compiled from the current catalog.
+     *
+     * @return the compiled rules
+     */
+    public CouponRules rules() {
+        List<Coupon> coupons = couponCatalog.findAll();
+        Compiled current = compiled;
+        if (current == null || current.source != coupons) {
+            current = new Compiled(coupons, CouponRules.compile(coupons));
+            compiled = current;
+        }
+        return current.rules;
+    }
+
+    private record Compiled(List<Coupon> source, CouponRules rules) {
+    }
+}
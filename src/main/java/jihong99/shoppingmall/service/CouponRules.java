@@ -0,0 +1,165 @@
+package jihong99.shoppingmall.service;
+
+import jihong99.shoppingmall.entity.Coupon;
+import jihong99.shoppingmall.entity.enums.DiscountType;
+import jihong99.shoppingmall.entity.enums.Tiers;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Coupon rules compiled for evaluating carts at checkout.
+ *
+ * <p>Every coupon that grants a discount is compiled once into a flat rule of primitives: its tier restriction as a
+ * bit mask, its expiration as an epoch day, and its minimum amount, category and discount as plain numbers. The
+ * rules are kept in arrays sorted by coupon ID, so the rule of a held coupon is found by binary search. Evaluation
+ * starts from the user's coupons, which are a handful, rather than from the catalog, so its cost depends on the
+ * size of the cart and of the user's coupon set but not on the number of coupons in the catalog. No entity is
+ * touched, so a cart is evaluated without any query or lazy loading.</p>
+ *
+ * <p>Instances are immutable and safe to share between threads.</p>
+ */
+public final class CouponRules {
+
+    private static final long NO_CATEGORY = Long.MIN_VALUE;
+    private static final int ALL_TIERS = -1;
+
+    private final long[] couponIds;
+    private final Rule[] rules;
+
+    /**
+     * A line of a cart, in the form the rules are evaluated against.
+     *
+     * @param price the unit price of the item
+     * @param quantity the number of units
+     * @param categoryIds the IDs of the categories the item belongs to
+     */
+    public record CartLine(long price, int quantity, long[] categoryIds) {
+    }
+
+    /**
+     * The discount a coupon grants on a cart.
+     *
+     * @param couponId the ID of the coupon
+     * @param amount the amount taken off the cart
+     */
+    public record CouponDiscount(Long couponId, long amount) {
+    }
+
+    private CouponRules(long[] couponIds, Rule[] rules) {
+        this.couponIds = couponIds;
+        this.rules = rules;
+    }
+
+    /**
+     * Compiles the rules of the given coupons. Coupons without a discount are left out.
+     *
+     * @param coupons the coupons to compile
+     * @return the compiled rules
+     */
+    public static CouponRules compile(Collection<Coupon> coupons) {
+        List<Rule> compiled = new ArrayList<>();
+        for (Coupon coupon : coupons) {
+            if (coupon.getId() != null && coupon.getDiscountType() != null && coupon.getDiscountValue() != null) {
+                compiled.add(new Rule(coupon));
+            }
+        }
+        compiled.sort(Comparator.comparingLong(rule -> rule.couponId));
+        long[] couponIds = new long[compiled.size()];
+        for (int i = 0; i < couponIds.length; i++) {
+            couponIds[i] = compiled.get(i).couponId;
+        }
+        return new CouponRules(couponIds, compiled.toArray(new Rule[0]));
+    }
+
+    /**
+     * Finds the coupon that takes the most off the cart.
+     *
+     * <p>A coupon applies if it has not expired, it is open to the user's tier, and the cart total reaches its
+     * minimum amount. A category coupon is applied to the subtotal of the cart's items in that category, and any
+     * other coupon to the cart total. On equal discounts the coupon with the lower ID wins.</p>
+     *
+     * @param tier the user's tier
+     * @param heldCouponIds the IDs of the user's valid coupons
+     * @param lines the lines of the cart
+     * @param today the date the coupons must not have expired by
+     * @return the best discount, or empty if no held coupon applies
+     */
+    public Optional<CouponDiscount> findBestDiscount(Tiers tier, long[] heldCouponIds, List<CartLine> lines, LocalDate today) {
+        if (heldCouponIds.length == 0 || lines.isEmpty()) {
+            return Optional.empty();
+        }
+        int tierBit = tier == null ? 0 : 1 << tier.ordinal();
+        long todayEpochDay = today.toEpochDay();
+        long total = 0;
+        for (CartLine line : lines) {
+            total += line.price() * line.quantity();
+        }
+        Map<Long, Long> categorySubtotals = null;
+        long bestCouponId = 0;
+        long bestAmount = 0;
+        for (long couponId : heldCouponIds) {
+            int index = Arrays.binarySearch(couponIds, couponId);
+            if (index < 0) {
+                continue;
+            }
+            Rule rule = rules[index];
+            if (rule.expiresEpochDay < todayEpochDay
+                    || (rule.tierMask != ALL_TIERS && (rule.tierMask & tierBit) == 0)
+                    || total < rule.minimumAmount) {
+                continue;
+            }
+            long base = total;
+            if (rule.categoryId != NO_CATEGORY) {
+                if (categorySubtotals == null) {
+                    categorySubtotals = categorySubtotals(lines);
+                }
+                base = categorySubtotals.getOrDefault(rule.categoryId, 0L);
+            }
+            long amount = rule.discount(base);
+            if (amount > bestAmount || (amount == bestAmount && amount > 0 && couponId < bestCouponId)) {
+                bestCouponId = couponId;
+                bestAmount = amount;
+            }
+        }
+        return bestAmount == 0 ? Optional.empty() : Optional.of(new CouponDiscount(bestCouponId, bestAmount));
+    }
+
+    private static Map<Long, Long> categorySubtotals(List<CartLine> lines) {
+        Map<Long, Long> subtotals = new HashMap<>();
+        for (CartLine line : lines) {
+            if (line.categoryIds() == null) {
+                continue;
+            }
+            long amount = line.price() * line.quantity();
+            for (long categoryId : line.categoryIds()) {
+                subtotals.merge(categoryId, amount, Long::sum);
+            }
+        }
+        return subtotals;
+    }
+
+    private static final class Rule {
+        private final long couponId;
+        private final long expiresEpochDay;
+        private final int tierMask;
+        private final long minimumAmount;
+        private final long categoryId;
+        private final boolean percentage;
+        private final int value;
+
+        private Rule(Coupon coupon) {
+            this.couponId = coupon.getId();
+            this.expiresEpochDay = coupon.getExpirationDate() == null ? Long.MAX_VALUE : coupon.getExpirationDate().toEpochDay();
+            this.tierMask = coupon.getTier() == null ? ALL_TIERS : 1 << coupon.getTier().ordinal();
+            this.minimumAmount = coupon.getMinimumAmount() == null ? 0 : coupon.getMinimumAmount();
+            this.categoryId = coupon.getCategoryId() == null ? NO_CATEGORY : coupon.getCategoryId();
+            this.percentage = coupon.getDiscountType() == DiscountType.PERCENTAGE;
+            this.value = coupon.getDiscountValue();
+        }
+
+        private long discount(long base) {
+            return percentage ? base * value / 100 : Math.min(value, base);
+        }
+    }
+}
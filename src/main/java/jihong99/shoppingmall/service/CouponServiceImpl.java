@@ -1,12 +1,9 @@
 package jihong99.shoppingmall.service;
 
-import jakarta.transaction.Transactional;
 import jihong99.shoppingmall.dto.CouponRequestDto;
 import jihong99.shoppingmall.dto.CouponResponseDto;
 import jihong99.shoppingmall.entity.Coupon;
-import jihong99.shoppingmall.entity.UserCoupon;
-import jihong99.shoppingmall.entity.Users;
-import jihong99.shoppingmall.entity.enums.Tiers;
+import jihong99.shoppingmall.exception.CouponClaimException;
 import jihong99.shoppingmall.exception.DuplicateNameException;
 import jihong99.shoppingmall.exception.InvalidExpirationDateException;
 import jihong99.shoppingmall.exception.NotFoundException;
@@ -15,15 +12,17 @@ import jihong99.shoppingmall.repository.CouponRepository;
 import jihong99.shoppingmall.repository.UserCouponRepository;
 import jihong99.shoppingmall.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import static jihong99.shoppingmall.constants.Constants.*;
 
@@ -32,12 +31,21 @@ import static jihong99.shoppingmall.constants.Constants.*;
 public class CouponServiceImpl implements ICouponService{
 
     private final CouponRepository couponRepository;
+    private final CouponCatalog couponCatalog;
     private final UserRepository userRepository;
     private final UserCouponRepository userCouponRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${coupon.expiry.batch-size:10000}")
+    private int expiryBatchSize;
 
     /**
      * Retrieves a list of valid coupons for the specified user with pagination.
-     * It first fetches the user's coupons, validates them, and then returns only the valid coupons.
+     *
+     * <p>Only coupons that are valid and not expired are selected, and they are filtered in the database, so each
+     * page is full and the total is exact. Coupons that expired since the last sweep are left out even before
+     * {@link #expireUserCoupons()} marks them invalid. This method never writes and runs in a read-only
+     * transaction.</p>
      *
      * @param id the user's id
      * @param pageable pagination information
@@ -45,47 +53,33 @@ public class CouponServiceImpl implements ICouponService{
      * @throws NotFoundException if the user is not found
      */
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public Page<CouponResponseDto> getUserCoupons(Long id, Pageable pageable) {
-        Users user = userRepository.findById(id).orElseThrow(
-                () -> new NotFoundException(MESSAGE_404_UserNotFound));
-
-        LocalDate today = LocalDate.now();
-        Page<UserCoupon> paginatedUserCoupons = userCouponRepository.findByUsersId(user.getId(), pageable);
-        validateCoupons(paginatedUserCoupons, today);
-        List<CouponResponseDto> validCoupons = getValidCoupons(paginatedUserCoupons);
-        return new PageImpl<>(validCoupons, pageable, paginatedUserCoupons.getTotalElements());
-    }
-
-    /**
-     * Validates the user's coupons and marks expired ones as invalid.
-     *
-     * @param paginatedUserCoupons the page of user coupons
-     * @param today the current date
-     */
-    private void validateCoupons(Page<UserCoupon> paginatedUserCoupons, LocalDate today) {
-        paginatedUserCoupons.forEach(userCoupon -> {
-            if (userCoupon.getCoupon().getExpirationDate().isBefore(today)) {
-                userCoupon.updateToInvalid();
-                userCouponRepository.save(userCoupon);
-            }
-        });
+        if(!userRepository.existsById(id)){
+            throw new NotFoundException(MESSAGE_404_UserNotFound);
+        }
+        return userCouponRepository.findValidCoupons(id, LocalDate.now(), pageable);
     }
 
     /**
-     * Filters and converts the valid user coupons to CouponResponseDto objects.
+     * Marks the user coupons whose coupon has expired as invalid.
      *
-     * @param paginatedUserCoupons the page of user coupons
-     * @return a list of valid CouponResponseDto objects
+     * <p>The USER_COUPON table is swept in ranges of {@code coupon.expiry.batch-size} IDs. Each range is
+     * invalidated by a single bulk UPDATE in its own transaction, so a sweep never holds locks on more than one
+     * range at a time.</p>
      */
-    private List<CouponResponseDto> getValidCoupons(Page<UserCoupon> paginatedUserCoupons) {
-        return paginatedUserCoupons.stream()
-                .filter(UserCoupon::getIsValid)
-                .map(userCoupon -> {
-                    Coupon coupon = userCoupon.getCoupon();
-                    return CouponResponseDto.of(coupon.getId(), coupon.getName(), coupon.getContent(), coupon.getExpirationDate());
-                })
-                .collect(Collectors.toList());
+    @Scheduled(fixedDelayString = "${coupon.expiry.sweep-interval:3600000}")
+    public void expireUserCoupons() {
+        Long maxId = userCouponRepository.findMaxId();
+        if (maxId == null) {
+            return;
+        }
+        LocalDate today = LocalDate.now();
+        for (long fromId = 0; fromId < maxId; fromId += expiryBatchSize) {
+            long from = fromId;
+            long to = Math.min(fromId + expiryBatchSize, maxId);
+            transactionTemplate.executeWithoutResult(status -> userCouponRepository.invalidateExpired(from, to, today));
+        }
     }
 
     /**
@@ -102,7 +96,7 @@ public class CouponServiceImpl implements ICouponService{
      */
     @Override
     public CouponResponseDto createCoupon(CouponRequestDto couponRequestDto) {
-        Optional<Coupon> coupon =  couponRepository.findByName(couponRequestDto.getName());
+        Optional<Coupon> coupon =  couponCatalog.findByName(couponRequestDto.getName());
         if(coupon.isPresent()) {
             throw new DuplicateNameException(MESSAGE_400_duplicatedCoupon);
         }
@@ -124,81 +118,33 @@ public class CouponServiceImpl implements ICouponService{
      */
     @Override
     public Page<CouponResponseDto> getAllCoupons(Pageable pageable) {
-        Page<Coupon> coupons = couponRepository.findAll(pageable);
+        Page<Coupon> coupons = couponCatalog.findAll(pageable);
         return coupons.map(coupon -> CouponResponseDto.of(coupon.getId(), coupon.getName(), coupon.getContent(), coupon.getExpirationDate()));
     }
 
     /**
      * Distributes a coupon to a specific user.
      *
+     * <p>The coupon is issued through the conflict-ignoring insert, so distributing it to a user who already holds
+     * it leaves the existing coupon untouched instead of issuing a second one. Limited coupons are rejected: they
+     * are issued only by claiming, so that every issue is counted against their stock.</p>
+     *
      * @param couponId the ID of the coupon to distribute
      * @param userId the ID of the user to receive the coupon
      * @throws NotFoundException if the user or coupon is not found
+     * @throws CouponClaimException if the coupon is limited
      */
     @Override
     @Transactional
     public void distributeCouponToUser(Long couponId, Long userId) {
-        Users findUser = userRepository.findById(userId).orElseThrow(
-                () -> new NotFoundException(MESSAGE_404_UserNotFound)
-        );
-        Coupon findCoupon = couponRepository.findById(couponId).orElseThrow(
-                () -> new NotFoundException(MESSAGE_404_CouponNotFound)
-        );
-        UserCoupon userCoupon = UserCoupon.createUserCoupon(findUser, findCoupon);
-        userCouponRepository.save(userCoupon);
-    }
-
-    /**
-     * Distributes a coupon to all users with a specific tier.
-     *
-     * @param couponId the ID of the coupon to distribute
-     * @param tier the tier of users to receive the coupon
-     * @throws NotFoundException if the user or coupon is not found
-     */
-    @Override
-    @Transactional
-    public void distributeCouponToUsersByTier(Long couponId, Tiers tier) {
-        List<Users> findUsers = userRepository.findByTier(tier);
-        if(findUsers.isEmpty()){
+        if(!userRepository.existsById(userId)){
             throw new NotFoundException(MESSAGE_404_UserNotFound);
         }
-        Coupon findCoupon = couponRepository.findById(couponId).orElseThrow(
-                () -> new NotFoundException(MESSAGE_404_CouponNotFound)
-        );
-        assignCoupon(findUsers, findCoupon);
-    }
-
-    /**
-     * Distributes a coupon to all users.
-     *
-     * @param couponId the ID of the coupon to distribute
-     * @throws NotFoundException if the user or coupon is not found
-     */
-    @Override
-    @Transactional
-    public void distributeCouponToAllUsers(Long couponId) {
-        List<Users> findUsers = userRepository.findAll();
-        if(findUsers.isEmpty()){
-            throw new NotFoundException(MESSAGE_404_UserNotFound);
+        Coupon coupon = couponCatalog.findById(couponId)
+                .orElseThrow(() -> new NotFoundException(MESSAGE_404_CouponNotFound));
+        if(coupon.isLimited()){
+            throw new CouponClaimException(MESSAGE_409_LimitedCouponNotDistributable);
         }
-        Coupon findCoupon = couponRepository.findById(couponId).orElseThrow(
-                () -> new NotFoundException(MESSAGE_404_CouponNotFound)
-        );
-        assignCoupon(findUsers, findCoupon);
-    }
-
-    /**
-     * Assigns a coupon to a list of users.
-     *
-     * @param findUsers the list of users to assign the coupon to
-     * @param findCoupon the coupon to assign
-     */
-    private void assignCoupon(List<Users> findUsers, Coupon findCoupon) {
-        findUsers.forEach(
-                user -> {
-                    UserCoupon coupon = UserCoupon.createUserCoupon(user, findCoupon);
-                    userCouponRepository.save(coupon);
-                }
-        );
+        userCouponRepository.batchInsert(couponId, List.of(userId));
     }
 }
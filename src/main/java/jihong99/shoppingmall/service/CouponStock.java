@@ -0,0 +1,87 @@
+package jihong99.shoppingmall.service;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * The remaining stock of a limited coupon and the users who claimed it.
+ *
+ * <p>The stock is split across striped counters so that concurrent claims on a hot coupon contend on different
+ * cache lines instead of a single one. A claim starts on a random stripe and moves on to the next one when it is
+ * empty, so the last units are still found. Each stripe is decremented with a compare-and-set that never goes
+ * below zero, so the number of successful claims never exceeds the stock.</p>
+ */
+final class CouponStock {
+
+    /**
+     * Ints between two stripes, so each stripe sits on its own 64-byte cache line.
+     */
+    private static final int PADDING = 16;
+
+    private final int stripes;
+    private final AtomicIntegerArray counters;
+    private final Set<Long> claimedUsers = ConcurrentHashMap.newKeySet();
+
+    CouponStock(int remaining, int stripes, Collection<Long> claimedUserIds) {
+        this.stripes = Math.max(1, Math.min(stripes, Math.max(1, remaining)));
+        this.counters = new AtomicIntegerArray(this.stripes * PADDING);
+        for (int stripe = 0; stripe < this.stripes; stripe++) {
+            int share = remaining / this.stripes + (stripe < remaining % this.stripes ? 1 : 0);
+            counters.set(stripe * PADDING, share);
+        }
+        claimedUsers.addAll(claimedUserIds);
+    }
+
+    /**
+     * Records the user's claim.
+     *
+     * @param userId the ID of the user
+     * @return false if the user already claimed the coupon
+     */
+    boolean addClaim(Long userId) {
+        return claimedUsers.add(userId);
+    }
+
+    void removeClaim(Long userId) {
+        claimedUsers.remove(userId);
+    }
+
+    /**
+     * Takes one unit of stock.
+     *
+     * @return false if the coupon is sold out
+     */
+    boolean tryAcquire() {
+        int start = ThreadLocalRandom.current().nextInt(stripes);
+        for (int i = 0; i < stripes; i++) {
+            int index = ((start + i) % stripes) * PADDING;
+            int available = counters.get(index);
+            while (available > 0) {
+                if (counters.compareAndSet(index, available, available - 1)) {
+                    return true;
+                }
+                available = counters.get(index);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gives one unit of stock back, e.g. for a claim that could not be persisted.
+     */
+    void release() {
+        int stripe = ThreadLocalRandom.current().nextInt(stripes);
+        counters.incrementAndGet(stripe * PADDING);
+    }
+
+    int remaining() {
+        int remaining = 0;
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            remaining += counters.get(stripe * PADDING);
+        }
+        return remaining;
+    }
+}
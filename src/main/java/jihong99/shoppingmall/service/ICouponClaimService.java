@@ -0,0 +1,5 @@
+package jihong99.shoppingmall.service;
+
+public interface ICouponClaimService {
+    void claimCoupon(Long couponId, Long userId);
+}
@@ -0,0 +1,14 @@
+package jihong99.shoppingmall.service;
+
+import jihong99.shoppingmall.dto.CouponCodeJobResponseDto;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface ICouponCodeService {
+    CouponCodeJobResponseDto startGeneration(Long couponId, int quantity);
+
+    CouponCodeJobResponseDto getJob(Long jobId);
+
+    void exportCodes(Long jobId, OutputStream outputStream) throws IOException;
+}
@@ -0,0 +1,10 @@
+package jihong99.shoppingmall.service;
+
+import jihong99.shoppingmall.dto.CouponDistributionJobResponseDto;
+import jihong99.shoppingmall.entity.enums.Tiers;
+
+public interface ICouponDistributionJobService {
+    CouponDistributionJobResponseDto startDistribution(Long couponId, Tiers tier);
+
+    CouponDistributionJobResponseDto getJob(Long jobId);
+}
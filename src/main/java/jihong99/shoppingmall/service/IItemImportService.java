@@ -0,0 +1,11 @@
+package jihong99.shoppingmall.service;
+
+import jihong99.shoppingmall.dto.ItemImportResultDto;
+
+import java.io.InputStream;
+
+public interface IItemImportService {
+    ItemImportResultDto importCsv(InputStream body);
+
+    ItemImportResultDto importNdjson(InputStream body);
+}
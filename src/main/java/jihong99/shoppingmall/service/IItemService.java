@@ -2,9 +2,18 @@ package jihong99.shoppingmall.service;
 
 import jihong99.shoppingmall.dto.ItemRequestDto;
 import jihong99.shoppingmall.dto.ItemResponseDto;
+import jihong99.shoppingmall.dto.ItemSuggestionDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
 
 public interface IItemService {
     ItemResponseDto createItem(ItemRequestDto itemRequestDto);
     void updateItem(Long itemId, ItemRequestDto itemRequestDto);
     void deleteItem(Long itemId);
+    ItemResponseDto getItem(Long itemId);
+    List<ItemResponseDto> getItems(List<Long> itemIds);
+    Page<ItemResponseDto> searchItems(String query, List<Long> categoryIds, Pageable pageable);
+    List<ItemSuggestionDto> suggestItems(String prefix, int size);
 }
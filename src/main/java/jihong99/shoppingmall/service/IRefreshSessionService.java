@@ -0,0 +1,10 @@
+package jihong99.shoppingmall.service;
+
+import jihong99.shoppingmall.entity.RefreshSession;
+import jihong99.shoppingmall.entity.Users;
+
+public interface IRefreshSessionService {
+    RefreshSession openSession(Users user);
+    RefreshSession rotate(String sessionId);
+    void revoke(String sessionId);
+}
@@ -0,0 +1,336 @@
+package jihong99.shoppingmall.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import jihong99.shoppingmall.dto.ItemImportResultDto;
+import jihong99.shoppingmall.dto.ItemImportResultDto.RowError;
+import jihong99.shoppingmall.dto.ItemRequestDto;
+import jihong99.shoppingmall.entity.Category;
+import jihong99.shoppingmall.repository.CategoryItemRepository;
+import jihong99.shoppingmall.repository.CategoryRepository;
+import jihong99.shoppingmall.repository.ItemRepository;
+import jihong99.shoppingmall.utils.CsvReader;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static jihong99.shoppingmall.constants.Constants.*;
+
+@Service
+@RequiredArgsConstructor
+public class ItemImportServiceImpl implements IItemImportService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ItemImportServiceImpl.class);
+
+    private static final String ROW = "row";
+    private static final String NAME = "name";
+    private static final String PRICE = "price";
+    private static final String INVENTORY = "inventory";
+    private static final String KEYWORD = "keyword";
+    private static final String CATEGORY_IDS = "categoryIds";
+
+    private final ItemRepository itemRepository;
+    private final CategoryRepository categoryRepository;
+    private final CategoryItemRepository categoryItemRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ItemSearchEngine itemSearchEngine;
+    private final ItemSuggestEngine itemSuggestEngine;
+
+    @Value("${item.import.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${item.import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    /**
+     * Imports items from a CSV body.
+     *
+     * <p>The first record is a header naming the columns {@code name}, {@code price}, {@code inventory},
+     * {@code keyword} and {@code categoryIds}, in any order; category IDs are separated by {@code ;}. A missing
+     * column or an empty field is read as null and reported by validation.</p>
+     *
+     * <p>The body is read one record at a time, so memory use is bounded by the chunk size rather than the size of
+     * the body. Each row is validated against the {@link ItemRequestDto} constraints, and valid rows are written in
+     * chunks, each committed in its own transaction. A malformed record, such as an unterminated quote, is reported
+     * and ends the import; the chunks read before it are kept.</p>
+     *
+     * @param body the CSV body, encoded in UTF-8
+     * @return the number of imported and failed rows, the failed rows with their errors, and the throughput
+     */
+    @Override
+    public ItemImportResultDto importCsv(InputStream body) {
+        ImportRun run = new ImportRun();
+        CsvReader csvReader = new CsvReader(reader(body));
+        long row = 0;
+        try {
+            List<String> header = csvReader.readRecord();
+            if (header != null) {
+                Map<String, Integer> columns = columns(header);
+                List<String> fields;
+                while (true) {
+                    row++;
+                    fields = csvReader.readRecord();
+                    if (fields == null) {
+                        break;
+                    }
+                    if (fields.size() == 1 && fields.get(0).isBlank()) {
+                        continue;
+                    }
+                    parseCsvRow(run, row, columns, fields);
+                }
+            }
+        } catch (IOException e) {
+            run.reject(row, Map.of(ROW, String.format(MESSAGE_400_ImportMalformedRow, e.getMessage())));
+        }
+        return run.finish();
+    }
+
+    /**
+     * Imports items from an NDJSON body, one {@link ItemRequestDto} object per line.
+     *
+     * <p>The body is read one line at a time, so memory use is bounded by the chunk size rather than the size of
+     * the body. Blank lines are skipped, a line that is not a valid object is reported, and each object is
+     * validated against the {@link ItemRequestDto} constraints. Valid rows are written in chunks, each committed in
+     * its own transaction.</p>
+     *
+     * @param body the NDJSON body, encoded in UTF-8
+     * @return the number of imported and failed rows, the failed rows with their errors, and the throughput
+     */
+    @Override
+    public ItemImportResultDto importNdjson(InputStream body) {
+        ImportRun run = new ImportRun();
+        BufferedReader reader = reader(body);
+        long row = 0;
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                row++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    run.accept(row, objectMapper.readValue(line, ItemRequestDto.class));
+                } catch (JsonProcessingException e) {
+                    run.reject(row, Map.of(ROW, String.format(MESSAGE_400_ImportMalformedRow, e.getOriginalMessage())));
+                }
+            }
+        } catch (IOException e) {
+            run.reject(row, Map.of(ROW, String.format(MESSAGE_400_ImportMalformedRow, e.getMessage())));
+        }
+        return run.finish();
+    }
+
+    private static BufferedReader reader(InputStream body) {
+        return new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+    }
+
+    private static Map<String, Integer> columns(List<String> header) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.putIfAbsent(header.get(i).strip(), i);
+        }
+        return columns;
+    }
+
+    private static void parseCsvRow(ImportRun run, long row, Map<String, Integer> columns, List<String> fields) {
+        Map<String, String> errors = new TreeMap<>();
+        Integer price = parseInteger(field(columns, fields, PRICE), PRICE, errors);
+        Integer inventory = parseInteger(field(columns, fields, INVENTORY), INVENTORY, errors);
+        List<Long> categoryIds = parseIds(field(columns, fields, CATEGORY_IDS), errors);
+        if (!errors.isEmpty()) {
+            run.reject(row, errors);
+            return;
+        }
+        run.accept(row, new ItemRequestDto(field(columns, fields, NAME), price, inventory,
+                field(columns, fields, KEYWORD), categoryIds));
+    }
+
+    private static String field(Map<String, Integer> columns, List<String> fields, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size() || fields.get(index).isEmpty()) {
+            return null;
+        }
+        return fields.get(index);
+    }
+
+    private static Integer parseInteger(String value, String column, Map<String, String> errors) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value.strip());
+        } catch (NumberFormatException e) {
+            errors.put(column, MESSAGE_400_ImportInvalidInteger);
+            return null;
+        }
+    }
+
+    private static List<Long> parseIds(String value, Map<String, String> errors) {
+        if (value == null) {
+            return null;
+        }
+        List<Long> ids = new ArrayList<>();
+        try {
+            for (String id : value.split(";")) {
+                if (!id.isBlank()) {
+                    ids.add(Long.valueOf(id.strip()));
+                }
+            }
+        } catch (NumberFormatException e) {
+            errors.put(CATEGORY_IDS, MESSAGE_400_ImportInvalidIntegerList);
+            return null;
+        }
+        return ids;
+    }
+
+    /**
+     * Writes a chunk of validated rows in one transaction.
+     *
+     * <p>The categories of the whole chunk are resolved with one query; rows that reference a missing category are
+     * rejected. The remaining items are inserted as one JDBC batch, followed by their category associations as
+     * another, and are added to the search index once the transaction commits.</p>
+     *
+     * @return the rejected rows of the chunk, keyed by row number
+     */
+    private Map<Long, Map<String, String>> writeChunk(List<PendingRow> chunk) {
+        return transactionTemplate.execute(status -> {
+            Set<Long> requestedIds = chunk.stream()
+                    .flatMap(pending -> pending.item().getCategoryIds().stream())
+                    .collect(Collectors.toSet());
+            Set<Long> existingIds = categoryRepository.findAllById(requestedIds).stream()
+                    .map(Category::getId)
+                    .collect(Collectors.toSet());
+
+            Map<Long, Map<String, String>> rejected = new LinkedHashMap<>();
+            List<PendingRow> accepted = new ArrayList<>(chunk.size());
+            for (PendingRow pending : chunk) {
+                List<Long> missingIds = pending.item().getCategoryIds().stream()
+                        .filter(id -> !existingIds.contains(id))
+                        .distinct()
+                        .toList();
+                if (missingIds.isEmpty()) {
+                    accepted.add(pending);
+                } else {
+                    rejected.put(pending.row(), Map.of(CATEGORY_IDS, String.format(MESSAGE_404_CategoriesNotFound, missingIds)));
+                }
+            }
+            if (accepted.isEmpty()) {
+                return rejected;
+            }
+
+            List<Long> itemIds = itemRepository.batchInsert(accepted.stream().map(PendingRow::item).toList());
+            Map<Long, Set<Long>> categoryIdsByItemId = new LinkedHashMap<>();
+            for (int i = 0; i < itemIds.size(); i++) {
+                categoryIdsByItemId.put(itemIds.get(i), new LinkedHashSet<>(accepted.get(i).item().getCategoryIds()));
+            }
+            categoryItemRepository.batchInsert(categoryIdsByItemId);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    for (int i = 0; i < itemIds.size(); i++) {
+                        ItemRequestDto item = accepted.get(i).item();
+                        itemSearchEngine.index(itemIds.get(i), item.getName(), item.getKeyword(),
+                                categoryIdsByItemId.get(itemIds.get(i)));
+                        itemSuggestEngine.put(itemIds.get(i), item.getName());
+                    }
+                }
+            });
+            return rejected;
+        });
+    }
+
+    private record PendingRow(long row, ItemRequestDto item) {
+    }
+
+    /**
+     * The state of one import: the chunk being filled, the row counts and the reported errors.
+     */
+    private class ImportRun {
+
+        private final long startNanos = System.nanoTime();
+        private final List<PendingRow> chunk = new ArrayList<>(chunkSize);
+        private final List<RowError> errors = new ArrayList<>();
+        private long totalRows;
+        private long importedRows;
+        private long failedRows;
+
+        /**
+         * Validates a parsed row and adds it to the chunk, writing the chunk once it is full.
+         */
+        void accept(long row, ItemRequestDto item) {
+            Set<ConstraintViolation<ItemRequestDto>> violations = validator.validate(item);
+            if (!violations.isEmpty()) {
+                Map<String, String> fieldErrors = new TreeMap<>();
+                violations.forEach(violation ->
+                        fieldErrors.put(violation.getPropertyPath().toString(), violation.getMessage()));
+                reject(row, fieldErrors);
+                return;
+            }
+            totalRows++;
+            chunk.add(new PendingRow(row, item));
+            if (chunk.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        /**
+         * Records a row that failed to parse or validate.
+         */
+        void reject(long row, Map<String, String> fieldErrors) {
+            totalRows++;
+            fail(row, fieldErrors);
+        }
+
+        private void fail(long row, Map<String, String> fieldErrors) {
+            failedRows++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new RowError(row, fieldErrors));
+            }
+        }
+
+        ItemImportResultDto finish() {
+            flush();
+            errors.sort(Comparator.comparing(RowError::getRow));
+            long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+            double rowsPerSecond = elapsedMillis > 0 ? totalRows * 1000.0 / elapsedMillis : 0.0;
+            return ItemImportResultDto.of(totalRows, importedRows, failedRows, elapsedMillis, rowsPerSecond,
+                    errors, failedRows > errors.size());
+        }
+
+        private void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            Map<Long, Map<String, String>> rejected;
+            try {
+                rejected = writeChunk(chunk);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Item import chunk of {} rows starting at row {} failed", chunk.size(), chunk.get(0).row(), e);
+                rejected = new LinkedHashMap<>();
+                for (PendingRow pending : chunk) {
+                    rejected.put(pending.row(), Map.of(ROW, MESSAGE_500_ImportChunkFailed));
+                }
+            }
+            importedRows += chunk.size() - rejected.size();
+            rejected.forEach(this::fail);
+            chunk.clear();
+        }
+    }
+}
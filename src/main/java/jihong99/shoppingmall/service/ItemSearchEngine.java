@@ -0,0 +1,64 @@
+package jihong99.shoppingmall.service;
+
+import jakarta.annotation.PostConstruct;
+import jihong99.shoppingmall.repository.ItemRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * Serves item searches from an {@link ItemSearchIndex} held in memory.
+ *
+ * <p>The index is built from the database at startup and kept up to date by the item service and the bulk import
+ * as their changes commit, so a search costs no query. Changes made by other instances are not seen until restart,
+ * as with the item cache.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ItemSearchEngine {
+
+    private final ItemRepository itemRepository;
+
+    private final ItemSearchIndex index = new ItemSearchIndex();
+
+    @Value("${item.search.load-page-size:10000}")
+    private int loadPageSize;
+
+    /**
+     * Indexes every item in the database.
+     */
+    @PostConstruct
+    public void load() {
+        itemRepository.streamSearchFields(loadPageSize, index::index);
+    }
+
+    public void index(Long itemId, String name, String keyword, Collection<Long> categoryIds) {
+        index.index(itemId, name, keyword, categoryIds.stream().mapToLong(Long::longValue).toArray());
+    }
+
+    public void updateText(Long itemId, String name, String keyword) {
+        index.updateText(itemId, name, keyword);
+    }
+
+    public void remove(Long itemId) {
+        index.remove(itemId);
+    }
+
+    /**
+     * Finds the items whose name or keyword contains every token of the query, best match first.
+     *
+     * @param query the query text
+     * @param categoryIds the IDs of the categories to search in, or null or empty for all categories
+     * @param offset the number of best matches to skip
+     * @param limit the maximum number of items to return
+     * @return the requested page of matches and the total number of matches
+     */
+    public ItemSearchIndex.SearchResult search(String query, Collection<Long> categoryIds, long offset, int limit) {
+        long[] categories = categoryIds == null
+                ? new long[0]
+                : categoryIds.stream().mapToLong(Long::longValue).toArray();
+        return index.search(query, categories, offset, limit);
+    }
+}
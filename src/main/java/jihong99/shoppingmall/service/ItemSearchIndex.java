@@ -0,0 +1,455 @@
+package jihong99.shoppingmall.service;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over the names and keywords of items.
+ *
+ * <p>Names and keywords are split into lower-case tokens of letters and digits, so {@code "#summer#sale"} yields
+ * {@code summer} and {@code sale}. Every indexed item is given a document number, and each token maps to the sorted
+ * {@code int[]} posting list of the documents that contain it, kept separately for names and keywords. A search
+ * matches the items that contain every query token in either field. Each token adds its inverse document frequency
+ * to the score, doubled for a match in the name and tripled for a match in both fields, and ties are broken in favour
+ * of the most recently indexed item. The category filter keeps items in any of the given categories.</p>
+ *
+ * <p>Removing or changing an item marks its document dead rather than editing the posting lists, and new documents
+ * are appended, so the lists stay sorted. Once a quarter of the documents are dead, the index is compacted: the live
+ * documents are renumbered in order and the dead ones dropped from every posting list. Document frequencies count
+ * dead documents until then, which only skews ranking slightly.</p>
+ *
+ * <p>Instances are safe to use from multiple threads: searches share a read lock and changes take a write lock.</p>
+ */
+public final class ItemSearchIndex {
+
+    private static final float NAME_WEIGHT = 2f;
+    private static final float KEYWORD_WEIGHT = 1f;
+    private static final int COMPACTION_MIN_DEAD_DOCS = 1024;
+    private static final long[] NO_CATEGORIES = new long[0];
+    private static final SearchResult NO_RESULT = new SearchResult(new long[0], 0);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, IntList> namePostings = new HashMap<>();
+    private final Map<String, IntList> keywordPostings = new HashMap<>();
+    private final LongIntMap docsByItemId = new LongIntMap();
+    private final BitSet liveDocs = new BitSet();
+    private long[] docItemIds = new long[1024];
+    private long[][] docCategoryIds = new long[1024][];
+    private int docCount;
+    private int liveDocCount;
+
+    /**
+     * A page of search results.
+     *
+     * @param itemIds the IDs of the items on the page, best match first
+     * @param totalHits the number of items matching the search
+     */
+    public record SearchResult(long[] itemIds, long totalHits) {
+    }
+
+    /**
+     * Adds an item to the index, replacing it if it is already indexed.
+     *
+     * @param itemId the ID of the item
+     * @param name the name of the item
+     * @param keyword the keyword of the item
+     * @param categoryIds the IDs of the categories of the item
+     */
+    public void index(long itemId, String name, String keyword, long[] categoryIds) {
+        lock.writeLock().lock();
+        try {
+            removeDoc(itemId);
+            addDoc(itemId, name, keyword, categoryIds);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the name and keyword of an item, keeping its categories. An item not yet indexed is added without
+     * categories.
+     *
+     * @param itemId the ID of the item
+     * @param name the new name of the item
+     * @param keyword the new keyword of the item
+     */
+    public void updateText(long itemId, String name, String keyword) {
+        lock.writeLock().lock();
+        try {
+            int doc = docsByItemId.get(itemId);
+            long[] categoryIds = doc >= 0 ? docCategoryIds[doc] : NO_CATEGORIES;
+            removeDoc(itemId);
+            addDoc(itemId, name, keyword, categoryIds);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes an item from the index. Removing an item that is not indexed has no effect.
+     *
+     * @param itemId the ID of the item
+     */
+    public void remove(long itemId) {
+        lock.writeLock().lock();
+        try {
+            removeDoc(itemId);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of indexed items.
+     *
+     * @return the number of indexed items
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveDocCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the items whose name or keyword contains every token of the query, best match first.
+     *
+     * <p>The posting lists of the query tokens are intersected starting from the shortest, so the cost depends on
+     * the number of items containing the rarest token rather than on the size of the index. Only the best
+     * {@code offset + limit} matches are kept while scanning, in a bounded heap.</p>
+     *
+     * @param query the query text
+     * @param categoryIds the IDs of the categories to search in, or empty for all categories
+     * @param offset the number of best matches to skip
+     * @param limit the maximum number of items to return
+     * @return the requested page of matches and the total number of matches
+     */
+    public SearchResult search(String query, long[] categoryIds, long offset, int limit) {
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty()) {
+            return NO_RESULT;
+        }
+        long[] categories = null;
+        if (categoryIds.length > 0) {
+            categories = categoryIds.clone();
+            Arrays.sort(categories);
+        }
+        lock.readLock().lock();
+        try {
+            Matches[] terms = new Matches[tokens.size()];
+            for (int i = 0; i < terms.length; i++) {
+                terms[i] = termMatches(tokens.get(i));
+                if (terms[i].size == 0) {
+                    return NO_RESULT;
+                }
+            }
+            Arrays.sort(terms, Comparator.comparingInt(matches -> matches.size));
+            Matches matches = terms[0];
+            for (int i = 1; i < terms.length && matches.size > 0; i++) {
+                matches = intersect(matches, terms[i]);
+            }
+            return collect(matches, categories, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Splits text into distinct lower-case tokens of letters and digits.
+     *
+     * @param text the text to split, may be null
+     * @return the tokens, in order of first occurrence
+     */
+    static List<String> tokenize(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        Set<String> tokens = new LinkedHashSet<>();
+        StringBuilder token = new StringBuilder();
+        String lowerCase = text.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < lowerCase.length(); ) {
+            int codePoint = lowerCase.codePointAt(i);
+            if (Character.isLetterOrDigit(codePoint)) {
+                token.appendCodePoint(codePoint);
+            } else if (!token.isEmpty()) {
+                tokens.add(token.toString());
+                token.setLength(0);
+            }
+            i += Character.charCount(codePoint);
+        }
+        if (!token.isEmpty()) {
+            tokens.add(token.toString());
+        }
+        return new ArrayList<>(tokens);
+    }
+
+    private void addDoc(long itemId, String name, String keyword, long[] categoryIds) {
+        int doc = docCount++;
+        if (doc == docItemIds.length) {
+            docItemIds = Arrays.copyOf(docItemIds, doc * 2);
+            docCategoryIds = Arrays.copyOf(docCategoryIds, doc * 2);
+        }
+        long[] categories = categoryIds.clone();
+        Arrays.sort(categories);
+        docItemIds[doc] = itemId;
+        docCategoryIds[doc] = categories;
+        liveDocs.set(doc);
+        liveDocCount++;
+        docsByItemId.put(itemId, doc);
+        for (String token : tokenize(name)) {
+            namePostings.computeIfAbsent(token, t -> new IntList()).add(doc);
+        }
+        for (String token : tokenize(keyword)) {
+            keywordPostings.computeIfAbsent(token, t -> new IntList()).add(doc);
+        }
+    }
+
+    private void removeDoc(long itemId) {
+        int doc = docsByItemId.remove(itemId);
+        if (doc < 0) {
+            return;
+        }
+        liveDocs.clear(doc);
+        liveDocCount--;
+        docCategoryIds[doc] = null;
+    }
+
+    private void compactIfNeeded() {
+        int deadDocs = docCount - liveDocCount;
+        if (deadDocs < COMPACTION_MIN_DEAD_DOCS || deadDocs * 4L <= docCount) {
+            return;
+        }
+        int[] newDocs = new int[docCount];
+        int next = 0;
+        for (int doc = 0; doc < docCount; doc++) {
+            if (liveDocs.get(doc)) {
+                newDocs[doc] = next;
+                docItemIds[next] = docItemIds[doc];
+                docCategoryIds[next] = docCategoryIds[doc];
+                docsByItemId.put(docItemIds[next], next);
+                next++;
+            } else {
+                newDocs[doc] = -1;
+            }
+        }
+        Arrays.fill(docCategoryIds, next, docCount, null);
+        remap(namePostings, newDocs);
+        remap(keywordPostings, newDocs);
+        liveDocs.clear();
+        liveDocs.set(0, next);
+        docCount = next;
+    }
+
+    private static void remap(Map<String, IntList> postings, int[] newDocs) {
+        Iterator<IntList> lists = postings.values().iterator();
+        while (lists.hasNext()) {
+            IntList list = lists.next();
+            list.remap(newDocs);
+            if (list.size == 0) {
+                lists.remove();
+            }
+        }
+    }
+
+    /**
+     * Merges the name and keyword postings of a token into one list scored by the token's inverse document frequency.
+     */
+    private Matches termMatches(String token) {
+        IntList names = namePostings.getOrDefault(token, IntList.EMPTY);
+        IntList keywords = keywordPostings.getOrDefault(token, IntList.EMPTY);
+        Matches matches = new Matches(names.size + keywords.size);
+        int i = 0;
+        int j = 0;
+        while (i < names.size || j < keywords.size) {
+            int nameDoc = i < names.size ? names.values[i] : Integer.MAX_VALUE;
+            int keywordDoc = j < keywords.size ? keywords.values[j] : Integer.MAX_VALUE;
+            if (nameDoc == keywordDoc) {
+                matches.add(nameDoc, NAME_WEIGHT + KEYWORD_WEIGHT);
+                i++;
+                j++;
+            } else if (nameDoc < keywordDoc) {
+                matches.add(nameDoc, NAME_WEIGHT);
+                i++;
+            } else {
+                matches.add(keywordDoc, KEYWORD_WEIGHT);
+                j++;
+            }
+        }
+        float idf = (float) Math.log(1.0 + (double) Math.max(liveDocCount, 1) / Math.max(matches.size, 1));
+        for (int k = 0; k < matches.size; k++) {
+            matches.scores[k] *= idf;
+        }
+        return matches;
+    }
+
+    private static Matches intersect(Matches a, Matches b) {
+        Matches matches = new Matches(Math.min(a.size, b.size));
+        int i = 0;
+        int j = 0;
+        while (i < a.size && j < b.size) {
+            int docA = a.docs[i];
+            int docB = b.docs[j];
+            if (docA == docB) {
+                matches.add(docA, a.scores[i] + b.scores[j]);
+                i++;
+                j++;
+            } else if (docA < docB) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return matches;
+    }
+
+    private SearchResult collect(Matches matches, long[] categories, long offset, int limit) {
+        int capacity = (int) Math.min(offset + limit, matches.size);
+        int[] heap = new int[capacity];
+        int heapSize = 0;
+        long totalHits = 0;
+        for (int i = 0; i < matches.size; i++) {
+            int doc = matches.docs[i];
+            if (!liveDocs.get(doc) || !inCategories(docCategoryIds[doc], categories)) {
+                continue;
+            }
+            totalHits++;
+            if (heapSize < capacity) {
+                heap[heapSize] = i;
+                siftUp(heap, heapSize++, matches);
+            } else if (capacity > 0 && ranksBefore(matches, i, heap[0])) {
+                heap[0] = i;
+                siftDown(heap, heapSize, matches);
+            }
+        }
+        int[] ranked = new int[heapSize];
+        for (int k = heapSize - 1; k >= 0; k--) {
+            ranked[k] = heap[0];
+            heap[0] = heap[k];
+            siftDown(heap, k, matches);
+        }
+        int from = (int) Math.min(offset, ranked.length);
+        long[] itemIds = new long[ranked.length - from];
+        for (int k = from; k < ranked.length; k++) {
+            itemIds[k - from] = docItemIds[matches.docs[ranked[k]]];
+        }
+        return new SearchResult(itemIds, totalHits);
+    }
+
+    private static boolean inCategories(long[] docCategories, long[] categories) {
+        if (categories == null) {
+            return true;
+        }
+        for (long categoryId : docCategories) {
+            if (Arrays.binarySearch(categories, categoryId) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether the match at index {@code a} ranks before the one at index {@code b}: a higher score first, then the
+     * more recently indexed item.
+     */
+    private static boolean ranksBefore(Matches matches, int a, int b) {
+        float scoreA = matches.scores[a];
+        float scoreB = matches.scores[b];
+        return scoreA > scoreB || (scoreA == scoreB && matches.docs[a] > matches.docs[b]);
+    }
+
+    /**
+     * Restores the heap upwards from {@code index}. The heap keeps the worst-ranked kept match at its root.
+     */
+    private static void siftUp(int[] heap, int index, Matches matches) {
+        int entry = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!ranksBefore(matches, heap[parent], entry)) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = entry;
+    }
+
+    private static void siftDown(int[] heap, int size, Matches matches) {
+        if (size == 0) {
+            return;
+        }
+        int entry = heap[0];
+        int index = 0;
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && ranksBefore(matches, heap[child], heap[child + 1])) {
+                child++;
+            }
+            if (!ranksBefore(matches, entry, heap[child])) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = entry;
+    }
+
+    /**
+     * Documents with their scores, sorted by document number.
+     */
+    private static final class Matches {
+        private final int[] docs;
+        private final float[] scores;
+        private int size;
+
+        Matches(int capacity) {
+            docs = new int[capacity];
+            scores = new float[capacity];
+        }
+
+        void add(int doc, float score) {
+            docs[size] = doc;
+            scores[size] = score;
+            size++;
+        }
+    }
+
+    /**
+     * A growable list of document numbers.
+     */
+    private static final class IntList {
+        private static final IntList EMPTY = new IntList();
+
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        void remap(int[] newValues) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int value = newValues[values[i]];
+                if (value >= 0) {
+                    values[kept++] = value;
+                }
+            }
+            size = kept;
+            if (values.length > 4 && size < values.length / 4) {
+                values = Arrays.copyOf(values, Math.max(4, size * 2));
+            }
+        }
+    }
+}
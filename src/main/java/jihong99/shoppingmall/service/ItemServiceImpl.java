@@ -1,21 +1,35 @@
 package jihong99.shoppingmall.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import jakarta.transaction.Transactional;
 import jihong99.shoppingmall.dto.ItemRequestDto;
 import jihong99.shoppingmall.dto.ItemResponseDto;
+import jihong99.shoppingmall.dto.ItemSuggestionDto;
 import jihong99.shoppingmall.entity.Category;
 import jihong99.shoppingmall.entity.CategoryItem;
 import jihong99.shoppingmall.entity.Item;
 import jihong99.shoppingmall.exception.NotFoundException;
-import jihong99.shoppingmall.mapper.CategoryItemMapper;
 import jihong99.shoppingmall.mapper.ItemMapper;
 import jihong99.shoppingmall.repository.CategoryItemRepository;
 import jihong99.shoppingmall.repository.CategoryRepository;
 import jihong99.shoppingmall.repository.ItemRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.util.List;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import static jihong99.shoppingmall.constants.Constants.*;
@@ -23,16 +37,52 @@ import static jihong99.shoppingmall.constants.Constants.*;
 @Service
 @RequiredArgsConstructor
 public class ItemServiceImpl implements IItemService{
+    private static final String ITEM_CACHE_NAME = "itemCache";
+
     private final ItemRepository itemRepository;
     private final CategoryRepository categoryRepository;
     private final CategoryItemRepository categoryItemRepository;
+    private final MeterRegistry meterRegistry;
+    private final ItemSearchEngine itemSearchEngine;
+    private final ItemSuggestEngine itemSuggestEngine;
+
+    @Value("${item.cache.maximum-size:10000}")
+    private long itemCacheMaximumSize;
+
+    @Value("${item.cache.time-to-live:600000}")
+    private long itemCacheTimeToLive;
+
+    private Cache<Long, ItemResponseDto> itemCache;
+
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * Builds the item cache and registers its metrics.
+     *
+     * <p>The cache is bounded by size, and by a time-to-live that bounds how long an item changed by another
+     * instance can be served stale. It reports its size, hit/miss counts and hit rate under the {@code itemCache}
+     * cache name.</p>
+     */
+    @PostConstruct
+    public void init() {
+        itemCache = Caffeine.newBuilder()
+                .maximumSize(itemCacheMaximumSize)
+                .expireAfterWrite(Duration.ofMillis(itemCacheTimeToLive))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, itemCache, ITEM_CACHE_NAME);
+        Gauge.builder("cache.hit.rate", itemCache, cache -> cache.stats().hitRate())
+                .tag("cache", ITEM_CACHE_NAME)
+                .register(meterRegistry);
+    }
 
     /**
      * Creates a new item and associates it with categories.
      *
-     * <p>This method maps the provided {@link ItemRequestDto} to an {@link Item} entity,
-     * saves the item in the database, and then associates the item with the specified categories.
-     * If a category ID provided in the request does not exist, a {@link NotFoundException} is thrown.</p>
+     * <p>This method resolves all the specified categories with a single query, maps the provided
+     * {@link ItemRequestDto} to an {@link Item} entity and saves it, and then associates the item with the categories
+     * in one JDBC batch. If any category ID does not exist, a {@link NotFoundException} listing every missing ID is
+     * thrown before anything is written.</p>
      *
      * @param itemRequestDto the item request data transfer object containing the details of the item to be created
      * @return an {@link ItemResponseDto} containing the details of the created item and its associated categories
@@ -41,9 +91,16 @@ public class ItemServiceImpl implements IItemService{
     @Transactional
     @Override
     public ItemResponseDto createItem(ItemRequestDto itemRequestDto) {
+        Map<Long, Category> categories = findCategories(itemRequestDto.getCategoryIds());
         Item savedItem = createItemEntity(itemRequestDto);
-        saveCategoryItems(itemRequestDto, savedItem);
-        List<String> categoryNames = getCategoryNames(itemRequestDto);
+        categoryItemRepository.batchInsert(savedItem.getId(), categories.keySet());
+        afterCommit(() -> {
+            itemSearchEngine.index(savedItem.getId(), savedItem.getName(), savedItem.getKeyword(), categories.keySet());
+            itemSuggestEngine.put(savedItem.getId(), savedItem.getName());
+        });
+        List<String> categoryNames = categories.values().stream()
+                .map(Category::getName)
+                .collect(Collectors.toList());
 
         return ItemResponseDto.of(savedItem.getId(), savedItem.getName(), savedItem.getPrice(), savedItem.getInventory(),
                 savedItem.getKeyword(), savedItem.getRegistrationDate(), categoryNames);
@@ -65,6 +122,11 @@ public class ItemServiceImpl implements IItemService{
                 new NotFoundException(MESSAGE_404_ItemNotFound));
         applyItemUpdates(itemRequestDto, item);
         itemRepository.save(item);
+        afterCommit(() -> {
+            evict(itemId);
+            itemSearchEngine.updateText(itemId, item.getName(), item.getKeyword());
+            itemSuggestEngine.put(itemId, item.getName());
+        });
     }
 
     private void applyItemUpdates(ItemRequestDto itemRequestDto, Item item) {
@@ -93,6 +155,141 @@ public class ItemServiceImpl implements IItemService{
         Item item = itemRepository.findById(itemId).orElseThrow(() ->
                 new NotFoundException(MESSAGE_404_ItemNotFound));
         itemRepository.delete(item);
+        afterCommit(() -> {
+            evict(itemId);
+            itemSearchEngine.remove(itemId);
+            itemSuggestEngine.remove(itemId);
+        });
+    }
+
+    /**
+     * Retrieves an item with its category names.
+     *
+     * <p>The item is served from the item cache, and loaded from the database only on a miss. The view counts towards
+     * the item's rank in name suggestions.</p>
+     *
+     * @param itemId the ID of the item
+     * @return the item
+     * @throws NotFoundException if the item with the specified ID does not exist
+     */
+    @Override
+    public ItemResponseDto getItem(Long itemId) {
+        ItemResponseDto item = itemCache.get(itemId, id -> loadItems(Set.of(id)).get(id));
+        if (item == null) {
+            throw new NotFoundException(MESSAGE_404_ItemNotFound);
+        }
+        itemSuggestEngine.recordView(itemId);
+        return item;
+    }
+
+    /**
+     * Retrieves several items with their category names.
+     *
+     * <p>Items in the item cache are served from it, and all the others are loaded together with one query for the
+     * items and one for their categories. IDs of items that do not exist are skipped.</p>
+     *
+     * <p>Unlike a single lookup, a bulk load is not atomic with eviction, so a bulk load that overlapped an eviction
+     * drops what it cached; the items are then loaded again on the next read.</p>
+     *
+     * @param itemIds the IDs of the items
+     * @return the existing items, in the order of their first occurrence in {@code itemIds}
+     */
+    @Override
+    public List<ItemResponseDto> getItems(List<Long> itemIds) {
+        Set<Long> distinctIds = new LinkedHashSet<>(itemIds);
+        Map<Long, ItemResponseDto> items = new HashMap<>(itemCache.getAllPresent(distinctIds));
+        Set<Long> missingIds = new HashSet<>(distinctIds);
+        missingIds.removeAll(items.keySet());
+        if (!missingIds.isEmpty()) {
+            long evictionsBefore = evictions.get();
+            Map<Long, ItemResponseDto> loaded = loadItems(missingIds);
+            itemCache.putAll(loaded);
+            if (evictions.get() != evictionsBefore) {
+                itemCache.invalidateAll(loaded.keySet());
+            }
+            items.putAll(loaded);
+        }
+        return distinctIds.stream()
+                .map(items::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Searches items by name and keyword.
+     *
+     * <p>The matching item IDs come from the in-memory search index, ranked by how many query tokens match and how
+     * rare they are, and the items themselves from the item cache. Items are matched when their name or keyword
+     * contains every token of the query.</p>
+     *
+     * @param query the query text
+     * @param categoryIds the IDs of the categories to search in, or null for all categories
+     * @param pageable the page to retrieve
+     * @return the page of matching items, best match first
+     */
+    @Override
+    public Page<ItemResponseDto> searchItems(String query, List<Long> categoryIds, Pageable pageable) {
+        ItemSearchIndex.SearchResult result = itemSearchEngine.search(query, categoryIds, pageable.getOffset(),
+                pageable.getPageSize());
+        List<ItemResponseDto> items = getItems(Arrays.stream(result.itemIds()).boxed().collect(Collectors.toList()));
+        return new PageImpl<>(items, pageable, result.totalHits());
+    }
+
+    /**
+     * Suggests items whose name starts with the prefix, for autocomplete.
+     *
+     * <p>Suggestions come from the in-memory suggest index, most popular first. The prefix is matched by jamo, so a
+     * prefix ending in a partially typed syllable matches, and a prefix of initial consonants only, such as ㄴㅇㅋ,
+     * matches the initial consonants of the names.</p>
+     *
+     * @param prefix the text typed so far
+     * @param size the maximum number of suggestions
+     * @return the suggested items, most popular first
+     */
+    @Override
+    public List<ItemSuggestionDto> suggestItems(String prefix, int size) {
+        return itemSuggestEngine.suggest(prefix, size).stream()
+                .map(suggestion -> ItemSuggestionDto.of(suggestion.itemId(), suggestion.name()))
+                .collect(Collectors.toList());
+    }
+
+    private Map<Long, ItemResponseDto> loadItems(Set<? extends Long> itemIds) {
+        List<Long> ids = List.copyOf(itemIds);
+        Map<Long, List<String>> categoryNames = new HashMap<>();
+        for (CategoryItemRepository.ItemCategoryName categoryName : categoryItemRepository.findCategoryNamesByItemIds(ids)) {
+            categoryNames.computeIfAbsent(categoryName.getItemId(), id -> new ArrayList<>()).add(categoryName.getCategoryName());
+        }
+        Map<Long, ItemResponseDto> items = new HashMap<>();
+        for (Item item : itemRepository.findAllById(ids)) {
+            items.put(item.getId(), ItemResponseDto.of(item.getId(), item.getName(), item.getPrice(), item.getInventory(),
+                    item.getKeyword(), item.getRegistrationDate(), List.copyOf(categoryNames.getOrDefault(item.getId(), List.of()))));
+        }
+        return items;
+    }
+
+    /**
+     * Runs the action once the current transaction commits, or immediately outside a transaction.
+     *
+     * <p>Evicting only after the commit guarantees that the next read loads the committed row. A read already loading
+     * the item when the eviction happens is waited for and its result discarded. The search and suggest indexes are
+     * updated at the same point, so they never list a change that was rolled back.</p>
+     */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private void evict(Long itemId) {
+        evictions.incrementAndGet();
+        itemCache.invalidate(itemId);
     }
 
     private Item createItemEntity(ItemRequestDto itemRequestDto) {
@@ -102,20 +299,22 @@ public class ItemServiceImpl implements IItemService{
         return savedItem;
     }
 
-    private void saveCategoryItems(ItemRequestDto itemRequestDto, Item savedItem) {
-        CategoryItemMapper categoryItemMapper = new CategoryItemMapper();
-        for (Long categoryId : itemRequestDto.getCategoryIds()) {
-            Category category = categoryRepository.findById(categoryId)
-                    .orElseThrow(() -> new NotFoundException(MESSAGE_404_CategoryNotFound));
-            CategoryItem categoryItem = categoryItemMapper.mapToCategoryItem(savedItem, category);
-            categoryItemRepository.save(categoryItem);
+    private Map<Long, Category> findCategories(List<Long> categoryIds) {
+        Map<Long, Category> found = categoryRepository.findAllById(categoryIds).stream()
+                .collect(Collectors.toMap(Category::getId, category -> category));
+        Map<Long, Category> categories = new LinkedHashMap<>();
+        Set<Long> missingIds = new LinkedHashSet<>();
+        for (Long categoryId : categoryIds) {
+            Category category = found.get(categoryId);
+            if (category == null) {
+                missingIds.add(categoryId);
+            } else {
+                categories.put(categoryId, category);
+            }
         }
-    }
-
-    private List<String> getCategoryNames(ItemRequestDto itemRequestDto) {
-        return categoryRepository.findAllById(itemRequestDto.getCategoryIds())
-                .stream()
-                .map(Category::getName)
-                .collect(Collectors.toList());
+        if (!missingIds.isEmpty()) {
+            throw new NotFoundException(String.format(MESSAGE_404_CategoriesNotFound, missingIds));
+        }
+        return categories;
     }
 }
@@ -0,0 +1,153 @@
+package jihong99.shoppingmall.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jihong99.shoppingmall.repository.ItemRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Serves item name autocomplete from an {@link ItemSuggestIndex} held in memory.
+ *
+ * <p>The index is built from the database at startup, ranking items by the quantity ordered, and kept up to date by
+ * the item service and the bulk import as their changes commit. Views of an item add to its popularity. Changes and
+ * views are folded into the index by a periodic rebuild, and early by a background rebuild once too many changes are
+ * pending. Changes made by other instances are not seen until restart, as with the item cache.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ItemSuggestEngine {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ItemSuggestEngine.class);
+
+    private final ItemRepository itemRepository;
+
+    private final Map<Long, LongAdder> views = new ConcurrentHashMap<>();
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+
+    @Value("${item.suggest.memory-budget:67108864}")
+    private long memoryBudget;
+
+    @Value("${item.suggest.max-key-length:30}")
+    private int maxKeyLength;
+
+    @Value("${item.suggest.max-pending-changes:10000}")
+    private int maxPendingChanges;
+
+    @Value("${item.search.load-page-size:10000}")
+    private int loadPageSize;
+
+    private ItemSuggestIndex index;
+    private ExecutorService rebuildExecutor;
+
+    /**
+     * Indexes every item in the database, ranked by the quantity ordered.
+     */
+    @PostConstruct
+    public void load() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("item-suggest-");
+        threadFactory.setDaemon(true);
+        rebuildExecutor = Executors.newSingleThreadExecutor(threadFactory);
+        index = new ItemSuggestIndex(memoryBudget, maxKeyLength);
+        Map<Long, Long> orderedQuantities = itemRepository.sumOrderedQuantities();
+        List<ItemSuggestIndex.Candidate> candidates = new ArrayList<>();
+        itemRepository.streamSearchFields(loadPageSize, (itemId, name, keyword, categoryIds) ->
+                candidates.add(new ItemSuggestIndex.Candidate(itemId, name, orderedQuantities.getOrDefault(itemId, 0L))));
+        index.load(candidates);
+        warnIfOverBudget();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    public void put(Long itemId, String name) {
+        index.put(itemId, name);
+        rebuildIfBacklogged();
+    }
+
+    public void remove(Long itemId) {
+        index.remove(itemId);
+        rebuildIfBacklogged();
+    }
+
+    /**
+     * Counts a view of the item towards its popularity. The count takes effect on the next rebuild.
+     *
+     * @param itemId the ID of the viewed item
+     */
+    public void recordView(Long itemId) {
+        views.computeIfAbsent(itemId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * Suggests the most popular items whose name starts with the prefix.
+     *
+     * @param prefix the text typed so far, or only its initial consonants
+     * @param limit the maximum number of suggestions
+     * @return the suggestions, most popular first
+     */
+    public List<ItemSuggestIndex.Suggestion> suggest(String prefix, int limit) {
+        return index.suggest(prefix, limit);
+    }
+
+    /**
+     * Folds the pending changes and the views counted since the last rebuild into the index.
+     *
+     * <p>The rebuild is skipped when there is nothing to fold. Suggestions keep being served from the previous
+     * snapshot and the pending changes while it runs.</p>
+     */
+    @Scheduled(fixedDelayString = "${item.suggest.rebuild-interval:60000}")
+    public void rebuild() {
+        Map<Long, Long> popularityDeltas = new HashMap<>();
+        for (Long itemId : views.keySet()) {
+            LongAdder count = views.remove(itemId);
+            if (count != null) {
+                popularityDeltas.put(itemId, count.sum());
+            }
+        }
+        if (popularityDeltas.isEmpty() && index.pendingChanges() == 0) {
+            return;
+        }
+        index.rebuild(popularityDeltas);
+        warnIfOverBudget();
+    }
+
+    private void rebuildIfBacklogged() {
+        if (index.pendingChanges() >= maxPendingChanges && rebuildQueued.compareAndSet(false, true)) {
+            rebuildExecutor.execute(() -> {
+                try {
+                    rebuild();
+                } catch (RuntimeException e) {
+                    LOGGER.error("Failed to rebuild the item suggest index", e);
+                } finally {
+                    rebuildQueued.set(false);
+                }
+            });
+        }
+    }
+
+    private void warnIfOverBudget() {
+        int dropped = index.droppedItems();
+        if (dropped > 0) {
+            LOGGER.warn("Item suggest index is over its memory budget of {} bytes; left out the {} least popular items",
+                    memoryBudget, dropped);
+        }
+    }
+}
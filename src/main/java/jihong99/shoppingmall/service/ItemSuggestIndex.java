@@ -0,0 +1,543 @@
+package jihong99.shoppingmall.service;
+
+import jihong99.shoppingmall.utils.HangulJamo;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Prefix autocomplete over item names, ranked by popularity.
+ *
+ * <p>Names are matched as {@link HangulJamo} sequences, so a prefix that ends in a partially composed syllable still
+ * matches, and a query made only of consonants such as ㄴㅇㅋ is matched against the initial consonants of the
+ * names instead. Matching starts at the beginning of the name.</p>
+ *
+ * <p>The items live in an immutable snapshot that holds, for each kind of key, the keys of all items sorted in one
+ * {@code char[]} with their offsets, and a segment tree over the sorted keys that gives the most popular item of any
+ * range. The items matching a prefix form one contiguous range found by binary search, and its top K are taken from
+ * the segment tree one at a time, so a suggestion costs {@code O((log n) * K)} however many items match.</p>
+ *
+ * <p>Changes are not applied to the snapshot. They are kept in a pending overlay, searched alongside it and taking
+ * precedence over it, until {@link #rebuild(Map)} folds them and the accumulated popularity into a new snapshot. The
+ * snapshot is kept under a memory budget: if the items do not fit, the least popular ones are left out. Only their
+ * ID, name and popularity are kept, so they are ranked again by each rebuild and come back once they gain enough
+ * popularity. Keys are truncated to a maximum length, so longer prefixes match on their first characters only.</p>
+ *
+ * <p>Instances are safe to use from multiple threads. Suggestions take no lock.</p>
+ */
+public final class ItemSuggestIndex {
+
+    private static final char KEY_SEPARATOR = '\u0000';
+    // estimated bytes per item besides its text: ID, popularity, the name's String and the ID lookup
+    private static final int ENTRY_OVERHEAD_BYTES = 112;
+    // estimated bytes per key besides its chars: offset, item reference and two segment tree slots
+    private static final int KEY_OVERHEAD_BYTES = 16;
+
+    private final long memoryBudgetBytes;
+    private final int maxKeyLength;
+    private final Object rebuildLock = new Object();
+    private final Map<Long, Pending> pendingById = new ConcurrentHashMap<>();
+    private final NavigableMap<String, Pending> pendingByJamo = new ConcurrentSkipListMap<>();
+    private final NavigableMap<String, Pending> pendingByInitials = new ConcurrentSkipListMap<>();
+    private volatile Snapshot snapshot;
+
+    /**
+     * An item to index.
+     *
+     * @param itemId the ID of the item
+     * @param name the name of the item
+     * @param popularity the popularity of the item; more popular items are suggested first
+     */
+    public record Candidate(long itemId, String name, long popularity) {
+    }
+
+    /**
+     * A suggested item.
+     *
+     * @param itemId the ID of the item
+     * @param name the name of the item
+     */
+    public record Suggestion(long itemId, String name) {
+    }
+
+    /**
+     * @param memoryBudgetBytes the estimated memory the snapshot may use
+     * @param maxKeyLength the number of jamo of a name that can be matched
+     */
+    public ItemSuggestIndex(long memoryBudgetBytes, int maxKeyLength) {
+        this.memoryBudgetBytes = memoryBudgetBytes;
+        this.maxKeyLength = maxKeyLength;
+        this.snapshot = Snapshot.build(List.of(), memoryBudgetBytes, maxKeyLength);
+    }
+
+    /**
+     * Replaces the contents of the index with the given items.
+     *
+     * @param candidates the items to index
+     */
+    public void load(List<Candidate> candidates) {
+        synchronized (rebuildLock) {
+            Snapshot loaded = Snapshot.build(candidates, memoryBudgetBytes, maxKeyLength);
+            synchronized (this) {
+                snapshot = loaded;
+                pendingById.clear();
+                pendingByJamo.clear();
+                pendingByInitials.clear();
+            }
+        }
+    }
+
+    /**
+     * Adds an item or changes its name. The item keeps the popularity it has in the index.
+     *
+     * @param itemId the ID of the item
+     * @param name the name of the item
+     */
+    public synchronized void put(long itemId, String name) {
+        Pending current = pendingById.get(itemId);
+        long popularity;
+        if (current != null) {
+            popularity = current.popularity;
+        } else {
+            popularity = snapshot.popularityOf(itemId);
+        }
+        replace(new Pending(itemId, name, popularity, key(HangulJamo.decompose(name)), key(HangulJamo.initials(name))));
+    }
+
+    /**
+     * Removes an item. Removing an item that is not indexed has no effect.
+     *
+     * @param itemId the ID of the item
+     */
+    public synchronized void remove(long itemId) {
+        replace(new Pending(itemId, null, 0L, null, null));
+    }
+
+    /**
+     * Folds the pending changes and the popularity gained since the last rebuild into a new snapshot.
+     *
+     * <p>The items left out of the current snapshot are ranked again with the others, so an item that gained enough
+     * popularity takes back its place. The snapshot is built without blocking suggestions or changes. Changes made
+     * while it is built stay pending for the next rebuild.</p>
+     *
+     * @param popularityDeltas the popularity gained by each item
+     */
+    public void rebuild(Map<Long, Long> popularityDeltas) {
+        synchronized (rebuildLock) {
+            Snapshot base = snapshot;
+            Map<Long, Pending> folded = new HashMap<>(pendingById);
+            List<Candidate> candidates = new ArrayList<>(base.size() + base.dropped() + folded.size());
+            for (int entry = 0; entry < base.size(); entry++) {
+                long itemId = base.itemIds[entry];
+                if (!folded.containsKey(itemId)) {
+                    candidates.add(new Candidate(itemId, base.names[entry],
+                            base.popularity[entry] + popularityDeltas.getOrDefault(itemId, 0L)));
+                }
+            }
+            for (int entry = 0; entry < base.dropped(); entry++) {
+                long itemId = base.droppedItemIds[entry];
+                if (!folded.containsKey(itemId)) {
+                    candidates.add(new Candidate(itemId, base.droppedNames[entry],
+                            base.droppedPopularity[entry] + popularityDeltas.getOrDefault(itemId, 0L)));
+                }
+            }
+            for (Pending pending : folded.values()) {
+                if (pending.name != null) {
+                    candidates.add(new Candidate(pending.itemId, pending.name,
+                            pending.popularity + popularityDeltas.getOrDefault(pending.itemId, 0L)));
+                }
+            }
+            Snapshot rebuilt = Snapshot.build(candidates, memoryBudgetBytes, maxKeyLength);
+            synchronized (this) {
+                snapshot = rebuilt;
+                folded.forEach((itemId, pending) -> {
+                    if (pendingById.remove(itemId, pending)) {
+                        unlink(pending);
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * Suggests the most popular items whose name starts with the prefix.
+     *
+     * @param prefix the text typed so far
+     * @param limit the maximum number of suggestions
+     * @return the suggestions, most popular first
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        boolean initials = HangulJamo.isInitialsOnly(prefix);
+        String key = key(initials ? HangulJamo.initials(prefix) : HangulJamo.decompose(prefix));
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Snapshot current = snapshot;
+        List<Hit> hits = new ArrayList<>();
+        current.collect(initials ? current.initials : current.jamo, key, limit, pendingById, hits);
+        collectPending(initials ? pendingByInitials : pendingByJamo, key, hits);
+        hits.sort(Hit.RANKING);
+        List<Suggestion> suggestions = new ArrayList<>(Math.min(limit, hits.size()));
+        for (int i = 0; i < hits.size() && i < limit; i++) {
+            suggestions.add(new Suggestion(hits.get(i).itemId, hits.get(i).name));
+        }
+        return suggestions;
+    }
+
+    /**
+     * Returns the number of items in the current snapshot.
+     *
+     * @return the number of items in the current snapshot
+     */
+    public int size() {
+        return snapshot.size();
+    }
+
+    /**
+     * Returns the number of changes not yet folded into the snapshot.
+     *
+     * @return the number of pending changes
+     */
+    public int pendingChanges() {
+        return pendingById.size();
+    }
+
+    /**
+     * Returns the number of items left out of the current snapshot to keep it under the memory budget.
+     *
+     * @return the number of items left out
+     */
+    public int droppedItems() {
+        return snapshot.dropped();
+    }
+
+    private String key(String text) {
+        return text.length() > maxKeyLength ? text.substring(0, maxKeyLength) : text;
+    }
+
+    private void replace(Pending next) {
+        Pending previous = pendingById.put(next.itemId, next);
+        if (previous != null) {
+            unlink(previous);
+        }
+        if (next.name != null) {
+            pendingByJamo.put(next.jamoKey + KEY_SEPARATOR + next.itemId, next);
+            pendingByInitials.put(next.initialsKey + KEY_SEPARATOR + next.itemId, next);
+        }
+    }
+
+    private void unlink(Pending pending) {
+        if (pending.name != null) {
+            pendingByJamo.remove(pending.jamoKey + KEY_SEPARATOR + pending.itemId, pending);
+            pendingByInitials.remove(pending.initialsKey + KEY_SEPARATOR + pending.itemId, pending);
+        }
+    }
+
+    private void collectPending(NavigableMap<String, Pending> pendingByKey, String key, List<Hit> hits) {
+        for (Map.Entry<String, Pending> entry : pendingByKey.tailMap(key, true).entrySet()) {
+            if (!entry.getKey().startsWith(key)) {
+                break;
+            }
+            Pending pending = entry.getValue();
+            if (pendingById.get(pending.itemId) == pending) {
+                hits.add(new Hit(pending.itemId, pending.name, pending.popularity));
+            }
+        }
+    }
+
+    /**
+     * A change not yet folded into the snapshot. A removal has no name.
+     */
+    private static final class Pending {
+        private final long itemId;
+        private final String name;
+        private final long popularity;
+        private final String jamoKey;
+        private final String initialsKey;
+
+        Pending(long itemId, String name, long popularity, String jamoKey, String initialsKey) {
+            this.itemId = itemId;
+            this.name = name;
+            this.popularity = popularity;
+            this.jamoKey = jamoKey;
+            this.initialsKey = initialsKey;
+        }
+    }
+
+    private record Hit(long itemId, String name, long popularity) {
+        static final Comparator<Hit> RANKING = Comparator.comparingLong(Hit::popularity).reversed()
+                .thenComparing(Hit::name)
+                .thenComparingLong(Hit::itemId);
+    }
+
+    /**
+     * The indexed items and their sorted keys, and the items left out over the memory budget. Immutable once built.
+     */
+    private static final class Snapshot {
+        private final long[] itemIds;
+        private final String[] names;
+        private final long[] popularity;
+        private final LongIntMap entriesByItemId;
+        private final Segment jamo;
+        private final Segment initials;
+        private final long[] droppedItemIds;
+        private final String[] droppedNames;
+        private final long[] droppedPopularity;
+        private final LongIntMap droppedByItemId;
+
+        private Snapshot(long[] itemIds, String[] names, long[] popularity, String[] jamoKeys, String[] initialsKeys,
+                         long[] droppedItemIds, String[] droppedNames, long[] droppedPopularity) {
+            this.itemIds = itemIds;
+            this.names = names;
+            this.popularity = popularity;
+            this.entriesByItemId = new LongIntMap();
+            for (int entry = 0; entry < itemIds.length; entry++) {
+                entriesByItemId.put(itemIds[entry], entry);
+            }
+            this.jamo = new Segment(jamoKeys, popularity);
+            this.initials = new Segment(initialsKeys, popularity);
+            this.droppedItemIds = droppedItemIds;
+            this.droppedNames = droppedNames;
+            this.droppedPopularity = droppedPopularity;
+            this.droppedByItemId = new LongIntMap();
+            for (int entry = 0; entry < droppedItemIds.length; entry++) {
+                droppedByItemId.put(droppedItemIds[entry], entry);
+            }
+        }
+
+        /**
+         * Builds a snapshot of the candidates, leaving out the least popular ones if they exceed the memory budget.
+         */
+        static Snapshot build(List<Candidate> candidates, long memoryBudgetBytes, int maxKeyLength) {
+            int count = candidates.size();
+            String[] jamoKeys = new String[count];
+            String[] initialsKeys = new String[count];
+            long[] bytes = new long[count];
+            long totalBytes = 0;
+            for (int i = 0; i < count; i++) {
+                String name = candidates.get(i).name();
+                jamoKeys[i] = truncate(HangulJamo.decompose(name), maxKeyLength);
+                initialsKeys[i] = truncate(HangulJamo.initials(name), maxKeyLength);
+                bytes[i] = ENTRY_OVERHEAD_BYTES + 2L * KEY_OVERHEAD_BYTES
+                        + 2L * (name.length() + jamoKeys[i].length() + initialsKeys[i].length());
+                totalBytes += bytes[i];
+            }
+            Integer[] kept = new Integer[count];
+            for (int i = 0; i < count; i++) {
+                kept[i] = i;
+            }
+            int keptCount = count;
+            if (totalBytes > memoryBudgetBytes) {
+                Arrays.sort(kept, (a, b) -> Long.compare(candidates.get(b).popularity(), candidates.get(a).popularity()));
+                long used = 0;
+                keptCount = 0;
+                while (keptCount < count && used + bytes[kept[keptCount]] <= memoryBudgetBytes) {
+                    used += bytes[kept[keptCount++]];
+                }
+            }
+            long[] itemIds = new long[keptCount];
+            String[] names = new String[keptCount];
+            long[] popularity = new long[keptCount];
+            String[] keptJamoKeys = new String[keptCount];
+            String[] keptInitialsKeys = new String[keptCount];
+            for (int entry = 0; entry < keptCount; entry++) {
+                Candidate candidate = candidates.get(kept[entry]);
+                itemIds[entry] = candidate.itemId();
+                names[entry] = candidate.name();
+                popularity[entry] = candidate.popularity();
+                keptJamoKeys[entry] = jamoKeys[kept[entry]];
+                keptInitialsKeys[entry] = initialsKeys[kept[entry]];
+            }
+            long[] droppedItemIds = new long[count - keptCount];
+            String[] droppedNames = new String[count - keptCount];
+            long[] droppedPopularity = new long[count - keptCount];
+            for (int entry = 0; entry < count - keptCount; entry++) {
+                Candidate candidate = candidates.get(kept[keptCount + entry]);
+                droppedItemIds[entry] = candidate.itemId();
+                droppedNames[entry] = candidate.name();
+                droppedPopularity[entry] = candidate.popularity();
+            }
+            return new Snapshot(itemIds, names, popularity, keptJamoKeys, keptInitialsKeys,
+                    droppedItemIds, droppedNames, droppedPopularity);
+        }
+
+        private static String truncate(String key, int maxKeyLength) {
+            return key.length() > maxKeyLength ? key.substring(0, maxKeyLength) : key;
+        }
+
+        int size() {
+            return itemIds.length;
+        }
+
+        int dropped() {
+            return droppedItemIds.length;
+        }
+
+        /**
+         * Returns the popularity of an indexed or left out item, or 0 if the item is unknown.
+         */
+        long popularityOf(long itemId) {
+            int entry = entriesByItemId.get(itemId);
+            if (entry >= 0) {
+                return popularity[entry];
+            }
+            entry = droppedByItemId.get(itemId);
+            return entry >= 0 ? droppedPopularity[entry] : 0L;
+        }
+
+        /**
+         * Adds the most popular items of the segment whose key starts with the prefix, skipping items with a pending
+         * change, until {@code limit} items are added or none is left.
+         */
+        void collect(Segment segment, String prefix, int limit, Map<Long, Pending> pendingById, List<Hit> hits) {
+            int from = segment.lowerBound(prefix);
+            int to = segment.upperBound(prefix, from);
+            if (from >= to) {
+                return;
+            }
+            PriorityQueue<int[]> ranges = new PriorityQueue<>((a, b) -> segment.compare(a[2], b[2]));
+            ranges.add(new int[]{from, to, segment.best(from, to)});
+            int added = 0;
+            while (!ranges.isEmpty() && added < limit) {
+                int[] range = ranges.poll();
+                int position = range[2];
+                int entry = segment.entries[position];
+                if (!pendingById.containsKey(itemIds[entry])) {
+                    hits.add(new Hit(itemIds[entry], names[entry], popularity[entry]));
+                    added++;
+                }
+                if (range[0] < position) {
+                    ranges.add(new int[]{range[0], position, segment.best(range[0], position)});
+                }
+                if (position + 1 < range[1]) {
+                    ranges.add(new int[]{position + 1, range[1], segment.best(position + 1, range[1])});
+                }
+            }
+        }
+    }
+
+    /**
+     * One kind of key of every item, sorted, with a segment tree of the most popular item over the sorted positions.
+     */
+    private static final class Segment {
+        private final char[] chars;
+        private final int[] offsets;
+        private final int[] entries;
+        private final int[] tree;
+        private final long[] popularity;
+
+        Segment(String[] keys, long[] popularity) {
+            int count = keys.length;
+            Integer[] order = new Integer[count];
+            long totalChars = 0;
+            for (int i = 0; i < count; i++) {
+                order[i] = i;
+                totalChars += keys[i].length();
+            }
+            Arrays.sort(order, (a, b) -> keys[a].compareTo(keys[b]));
+            this.popularity = popularity;
+            this.chars = new char[Math.toIntExact(totalChars)];
+            this.offsets = new int[count + 1];
+            this.entries = new int[count];
+            int offset = 0;
+            for (int position = 0; position < count; position++) {
+                String key = keys[order[position]];
+                key.getChars(0, key.length(), chars, offset);
+                offsets[position] = offset;
+                entries[position] = order[position];
+                offset += key.length();
+            }
+            offsets[count] = offset;
+            this.tree = new int[2 * count];
+            for (int position = 0; position < count; position++) {
+                tree[count + position] = position;
+            }
+            for (int node = count - 1; node > 0; node--) {
+                tree[node] = better(tree[2 * node], tree[2 * node + 1]);
+            }
+        }
+
+        /**
+         * Returns the first position whose key is not less than the prefix.
+         */
+        int lowerBound(String prefix) {
+            int low = 0;
+            int high = entries.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (comparePrefix(middle, prefix) < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Returns the first position from {@code from} whose key does not start with the prefix.
+         */
+        int upperBound(String prefix, int from) {
+            int low = from;
+            int high = entries.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (comparePrefix(middle, prefix) <= 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Compares the key at the position with the prefix, treating a key that starts with the prefix as equal.
+         */
+        private int comparePrefix(int position, String prefix) {
+            int start = offsets[position];
+            int length = offsets[position + 1] - start;
+            int common = Math.min(length, prefix.length());
+            for (int i = 0; i < common; i++) {
+                int difference = chars[start + i] - prefix.charAt(i);
+                if (difference != 0) {
+                    return difference;
+                }
+            }
+            return length < prefix.length() ? -1 : 0;
+        }
+
+        /**
+         * Returns the position of the most popular item in {@code [from, to)}.
+         */
+        int best(int from, int to) {
+            int best = -1;
+            int count = entries.length;
+            for (int low = from + count, high = to + count; low < high; low >>>= 1, high >>>= 1) {
+                if ((low & 1) == 1) {
+                    best = better(best, tree[low++]);
+                }
+                if ((high & 1) == 1) {
+                    best = better(best, tree[--high]);
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Orders positions by popularity, most popular first, then by key.
+         */
+        int compare(int a, int b) {
+            int byPopularity = Long.compare(popularity[entries[b]], popularity[entries[a]]);
+            return byPopularity != 0 ? byPopularity : Integer.compare(a, b);
+        }
+
+        private int better(int a, int b) {
+            if (a < 0) {
+                return b;
+            }
+            return compare(a, b) <= 0 ? a : b;
+        }
+    }
+}
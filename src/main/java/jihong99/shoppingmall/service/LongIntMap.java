@@ -0,0 +1,103 @@
+package jihong99.shoppingmall.service;
+
+import java.util.Arrays;
+
+/**
+ * An open-addressing map from {@code long} keys to non-negative {@code int} values, without boxing.
+ *
+ * <p>Removal shifts back the entries that follow the removed one, so no tombstones accumulate. Not thread-safe.</p>
+ */
+final class LongIntMap {
+    private static final long FREE = Long.MIN_VALUE;
+
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+
+    LongIntMap() {
+        allocate(16);
+    }
+
+    /**
+     * @return the value, or -1 if the key is absent
+     */
+    int get(long key) {
+        for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+            long current = keys[slot];
+            if (current == key) {
+                return values[slot];
+            }
+            if (current == FREE) {
+                return -1;
+            }
+        }
+    }
+
+    void put(long key, int value) {
+        if ((size + 1) * 2 > keys.length) {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            allocate(keys.length * 2);
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != FREE) {
+                    insert(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+        insert(key, value);
+    }
+
+    /**
+     * Removes the key, shifting back the entries that follow it so that no tombstone is left.
+     *
+     * @return the removed value, or -1 if the key is absent
+     */
+    int remove(long key) {
+        int slot = slot(key);
+        while (keys[slot] != key) {
+            if (keys[slot] == FREE) {
+                return -1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        int value = values[slot];
+        int gap = slot;
+        for (int next = (gap + 1) & mask; keys[next] != FREE; next = (next + 1) & mask) {
+            int home = slot(keys[next]);
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+        }
+        keys[gap] = FREE;
+        size--;
+        return value;
+    }
+
+    private void insert(long key, int value) {
+        int slot = slot(key);
+        while (keys[slot] != FREE && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        if (keys[slot] == FREE) {
+            keys[slot] = key;
+            size++;
+        }
+        values[slot] = value;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, FREE);
+        values = new int[capacity];
+        mask = capacity - 1;
+        size = 0;
+    }
+
+    private int slot(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,173 @@
+package jihong99.shoppingmall.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import jakarta.annotation.PostConstruct;
+import jakarta.transaction.Transactional;
+import jihong99.shoppingmall.entity.RefreshSession;
+import jihong99.shoppingmall.entity.Users;
+import jihong99.shoppingmall.exception.InvalidTokenException;
+import jihong99.shoppingmall.repository.RefreshSessionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static jihong99.shoppingmall.constants.Constants.MESSAGE_400_InvalidRefreshToken;
+
+@Service
+@RequiredArgsConstructor
+public class RefreshSessionServiceImpl implements IRefreshSessionService {
+
+    private final RefreshSessionRepository refreshSessionRepository;
+
+    @Value("${security.jwt.refresh-token-expiration-time}")
+    private long refreshTokenExpirationTime;
+
+    @Value("${security.refresh-session.cache-size:10000}")
+    private long sessionCacheSize;
+
+    private Cache<String, RefreshSession> activeSessions;
+
+    private final Map<String, Set<String>> cachedSessionIdsByFamily = new ConcurrentHashMap<>();
+
+    /**
+     * Builds the in-memory front of the active sessions.
+     *
+     * <p>Each session is cached until its own expiration time. Only active sessions are cached, so a hit never
+     * needs to read the table. Sessions that fell out of the cache (e.g. after a restart) are read from the
+     * table on demand.</p>
+     *
+     * <p>The IDs of the cached sessions are also indexed by family, so revoking a family removes its sessions
+     * from the cache without scanning it. A session leaves the index when it leaves the cache.</p>
+     */
+    @PostConstruct
+    public void init() {
+        activeSessions = Caffeine.newBuilder()
+                .maximumSize(sessionCacheSize)
+                .expireAfter(Expiry.creating((String id, RefreshSession session) ->
+                        durationUntil(session.getExpiresAt())))
+                .removalListener((String id, RefreshSession session, RemovalCause cause) -> {
+                    if (session != null && cause != RemovalCause.REPLACED) {
+                        unindex(session.getFamilyId(), id);
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Opens a new refresh session for the user.
+     *
+     * <p>This method starts a new token family, so every login gets its own session and the user's other
+     * sessions stay valid. The user row itself is not written.</p>
+     *
+     * @param user the user who logged in
+     * @return the opened session
+     */
+    @Override
+    @Transactional
+    public RefreshSession openSession(Users user) {
+        RefreshSession session = refreshSessionRepository.save(RefreshSession.openSession(user, nextExpiration()));
+        cache(session);
+        return session;
+    }
+
+    /**
+     * Rotates the specified refresh session.
+     *
+     * <p>This method revokes the session and opens a new one in the same family. Revoking uses a conditional
+     * update, so if the same session is rotated twice only one rotation succeeds. A session that was already
+     * revoked means its refresh token was replayed, so the whole family is revoked.</p>
+     *
+     * @param sessionId the ID of the session carried by the refresh token
+     * @return the new session
+     * @throws InvalidTokenException if the session does not exist or was already revoked
+     */
+    @Override
+    @Transactional(dontRollbackOn = InvalidTokenException.class)
+    public RefreshSession rotate(String sessionId) {
+        RefreshSession session = activeSessions.getIfPresent(sessionId);
+        if (session == null) {
+            session = refreshSessionRepository.findById(sessionId)
+                    .orElseThrow(() -> new InvalidTokenException(MESSAGE_400_InvalidRefreshToken));
+        }
+        if (session.isRevoked() || refreshSessionRepository.revokeIfActive(sessionId) == 0) {
+            revokeFamily(session.getFamilyId());
+            throw new InvalidTokenException(MESSAGE_400_InvalidRefreshToken);
+        }
+        activeSessions.invalidate(sessionId);
+        RefreshSession rotated = refreshSessionRepository.save(session.rotate(nextExpiration()));
+        cache(rotated);
+        return rotated;
+    }
+
+    /**
+     * Revokes the specified refresh session together with the rest of its family.
+     *
+     * <p>This method is called on logout, so the refresh token of the device can no longer be used.</p>
+     *
+     * @param sessionId the ID of the session carried by the refresh token
+     */
+    @Override
+    @Transactional
+    public void revoke(String sessionId) {
+        RefreshSession session = activeSessions.getIfPresent(sessionId);
+        if (session == null) {
+            session = refreshSessionRepository.findById(sessionId).orElse(null);
+        }
+        if (session != null) {
+            revokeFamily(session.getFamilyId());
+        }
+    }
+
+    /**
+     * Deletes expired sessions from the table.
+     */
+    @Scheduled(fixedDelayString = "${security.refresh-session.purge-interval:3600000}")
+    @Transactional
+    public void purgeExpiredSessions() {
+        refreshSessionRepository.deleteExpired(LocalDateTime.now());
+    }
+
+    private void revokeFamily(String familyId) {
+        refreshSessionRepository.revokeFamily(familyId);
+        Set<String> sessionIds = cachedSessionIdsByFamily.remove(familyId);
+        if (sessionIds != null) {
+            activeSessions.invalidateAll(sessionIds);
+        }
+    }
+
+    private void cache(RefreshSession session) {
+        cachedSessionIdsByFamily.compute(session.getFamilyId(), (familyId, sessionIds) -> {
+            Set<String> ids = sessionIds != null ? sessionIds : new HashSet<>();
+            ids.add(session.getId());
+            return ids;
+        });
+        activeSessions.put(session.getId(), session);
+    }
+
+    private void unindex(String familyId, String sessionId) {
+        cachedSessionIdsByFamily.computeIfPresent(familyId, (id, sessionIds) -> {
+            sessionIds.remove(sessionId);
+            return sessionIds.isEmpty() ? null : sessionIds;
+        });
+    }
+
+    private LocalDateTime nextExpiration() {
+        return LocalDateTime.now().plus(Duration.ofMillis(refreshTokenExpirationTime));
+    }
+
+    private static Duration durationUntil(LocalDateTime expiresAt) {
+        Duration remaining = Duration.between(LocalDateTime.now(), expiresAt);
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+}
@@ -38,8 +38,9 @@ public class UserServiceImpl implements IUserService {
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final IDeliveryAddressService deliveryAddressService;
-    private final CouponRepository couponRepository;
+    private final CouponCatalog couponCatalog;
     private final UserCouponRepository userCouponRepository;
+    private final IRefreshSessionService refreshSessionService;
 
     /**
      * Registers a new user account.
@@ -69,7 +70,7 @@ public class UserServiceImpl implements IUserService {
     }
 
     private void assignWelcomeCoupon(Users user) {
-        Coupon welcomeCoupon = couponRepository.findByName("Welcome Coupon")
+        Coupon welcomeCoupon = couponCatalog.findByName("Welcome Coupon")
                 .orElseThrow(() -> new RuntimeException(MESSAGE_500_CouponNotFound));
         UserCoupon userCoupon = UserCoupon.createUserCoupon(user, welcomeCoupon);
         userCouponRepository.save(userCoupon);
@@ -91,6 +92,9 @@ public class UserServiceImpl implements IUserService {
     /**
      * Authenticates a user using their identification and password.
      *
+     * <p>The user row is not written on login. Refresh tokens are kept in their own sessions,
+     * see {@link #generateRefreshToken(Users)}.</p>
+     *
      * @param loginRequestDto the data transfer object containing login details
      * @return the authenticated user
      * @throws BadCredentialsException if the authentication fails
@@ -103,13 +107,7 @@ public class UserServiceImpl implements IUserService {
         );
         SecurityContextHolder.getContext().setAuthentication(authentication);
         UserDetailsDto userDetailsDto = (UserDetailsDto) authentication.getPrincipal();
-        Users user = userDetailsDto.getUser();
-
-        String refreshToken = generateRefreshToken(user);
-        user.updateRefreshToken(refreshToken);
-        userRepository.save(user);
-
-        return user;
+        return userDetailsDto.getUser();
     }
 
     /**
@@ -126,12 +124,14 @@ public class UserServiceImpl implements IUserService {
     /**
      * Generates a refresh token for the user.
      *
+     * <p>Each call opens a new refresh session, so the user can stay logged in on several devices at once.</p>
+     *
      * @param user the user for whom to generate the refresh token
      * @return the generated refresh token
      */
     @Override
     public String generateRefreshToken(Users user) {
-        return jwtTokenProvider.generateRefreshToken(user);
+        return jwtTokenProvider.generateRefreshToken(refreshSessionService.openSession(user));
     }
 
     /**
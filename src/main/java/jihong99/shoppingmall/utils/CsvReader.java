@@ -0,0 +1,87 @@
+package jihong99.shoppingmall.utils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads RFC 4180 CSV records one at a time from a character stream.
+ *
+ * <p>Fields may be quoted with double quotes, in which case they may contain commas, line breaks and doubled quotes.
+ * Records end with LF or CRLF. Only the record being read is held in memory, so arbitrarily large inputs can be read
+ * with constant memory. The caller should pass a buffered reader.</p>
+ */
+public class CsvReader {
+
+    private final Reader reader;
+    private int peeked = -2;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Reads the next record.
+     *
+     * @return the fields of the record, or null at the end of the input
+     * @throws IOException if reading fails or a quoted field is not closed
+     */
+    public List<String> readRecord() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException("Unterminated quoted field");
+                }
+                if (c == '"') {
+                    if (peek() == '"') {
+                        read();
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == -1) {
+                break;
+            } else if (c == '\r' && peek() == '\n') {
+                read();
+                break;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private int read() throws IOException {
+        if (peeked != -2) {
+            int c = peeked;
+            peeked = -2;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private int peek() throws IOException {
+        if (peeked == -2) {
+            peeked = reader.read();
+        }
+        return peeked;
+    }
+}
@@ -0,0 +1,121 @@
+package jihong99.shoppingmall.utils;
+
+/**
+ * Decomposes Korean text into jamo for prefix matching while typing.
+ *
+ * <p>Korean input methods compose a syllable keystroke by keystroke, so the text being typed often ends in a partial
+ * syllable or in a consonant that will become the initial of the next syllable: typing 나이키 passes through 낭 and
+ * 나잌. Comparing text as sequences of compatibility jamo makes all of these prefixes of the final text. Compound
+ * vowels and compound final consonants are split into the jamo typed for them (ㅘ into ㅗㅏ, ㄺ into ㄹㄱ), and a
+ * final consonant is written the same as an initial one.</p>
+ */
+public final class HangulJamo {
+
+    private static final int SYLLABLE_BASE = 0xAC00;
+    private static final int SYLLABLE_LAST = 0xD7A3;
+    private static final int MEDIAL_COUNT = 21;
+    private static final int FINAL_COUNT = 28;
+    private static final int COMPATIBILITY_BASE = 0x3131;
+    private static final int COMPATIBILITY_LAST = 0x3163;
+    private static final int COMPATIBILITY_CONSONANT_LAST = 0x314E;
+
+    private static final String INITIALS = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String[] MEDIALS = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ",
+            "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"};
+    private static final String[] FINALS = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ",
+            "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+    private static final String[] COMPOUNDS = {
+            "ㅘㅗㅏ", "ㅙㅗㅐ", "ㅚㅗㅣ", "ㅝㅜㅓ", "ㅞㅜㅔ", "ㅟㅜㅣ", "ㅢㅡㅣ",
+            "ㄳㄱㅅ", "ㄵㄴㅈ", "ㄶㄴㅎ", "ㄺㄹㄱ", "ㄻㄹㅁ", "ㄼㄹㅂ", "ㄽㄹㅅ", "ㄾㄹㅌ", "ㄿㄹㅍ", "ㅀㄹㅎ", "ㅄㅂㅅ"};
+    private static final String[] COMPATIBILITY = new String[COMPATIBILITY_LAST - COMPATIBILITY_BASE + 1];
+
+    static {
+        for (int i = 0; i < COMPATIBILITY.length; i++) {
+            COMPATIBILITY[i] = String.valueOf((char) (COMPATIBILITY_BASE + i));
+        }
+        for (String compound : COMPOUNDS) {
+            COMPATIBILITY[compound.charAt(0) - COMPATIBILITY_BASE] = compound.substring(1);
+        }
+    }
+
+    private HangulJamo() {
+    }
+
+    /**
+     * Decomposes text into compatibility jamo.
+     *
+     * <p>Hangul syllables and compound jamo are decomposed, other letters are lower-cased, runs of whitespace become
+     * one space and leading and trailing whitespace is dropped.</p>
+     *
+     * @param text the text to decompose
+     * @return the decomposed text
+     */
+    public static String decompose(String text) {
+        StringBuilder jamo = new StringBuilder(text.length() * 3);
+        boolean space = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                space = !jamo.isEmpty();
+                continue;
+            }
+            if (space) {
+                jamo.append(' ');
+                space = false;
+            }
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+                int index = c - SYLLABLE_BASE;
+                jamo.append(INITIALS.charAt(index / (MEDIAL_COUNT * FINAL_COUNT)))
+                        .append(MEDIALS[index / FINAL_COUNT % MEDIAL_COUNT])
+                        .append(FINALS[index % FINAL_COUNT]);
+            } else if (c >= COMPATIBILITY_BASE && c <= COMPATIBILITY_LAST) {
+                jamo.append(COMPATIBILITY[c - COMPATIBILITY_BASE]);
+            } else {
+                jamo.append(Character.toLowerCase(c));
+            }
+        }
+        return jamo.toString();
+    }
+
+    /**
+     * Reduces text to the initial consonants of its syllables, the form of a 초성 search such as ㄴㅇㅋ for 나이키.
+     *
+     * <p>Jamo and other letters and digits are kept, lower-cased; whitespace and punctuation are dropped.</p>
+     *
+     * @param text the text to reduce
+     * @return the initial consonants
+     */
+    public static String initials(String text) {
+        StringBuilder initials = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+                initials.append(INITIALS.charAt((c - SYLLABLE_BASE) / (MEDIAL_COUNT * FINAL_COUNT)));
+            } else if (Character.isLetterOrDigit(c)) {
+                initials.append(Character.toLowerCase(c));
+            }
+        }
+        return initials.toString();
+    }
+
+    /**
+     * Whether the text consists only of consonant jamo, ignoring whitespace, as a 초성 search does.
+     *
+     * @param text the text to check
+     * @return true if the text has at least one consonant and nothing else but whitespace
+     */
+    public static boolean isInitialsOnly(String text) {
+        boolean consonant = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= COMPATIBILITY_BASE && c <= COMPATIBILITY_CONSONANT_LAST) {
+                consonant = true;
+            } else if (!Character.isWhitespace(c)) {
+                return false;
+            }
+        }
+        return consonant;
+    }
+}
@@ -159,6 +159,12 @@ CREATE TABLE IF NOT EXISTS COUPON (
     name VARCHAR(255) NOT NULL,
     content VARCHAR(255) NOT NULL,
     expiration_date DATETIME NOT NULL,
+    quantity INT,
+    tier VARCHAR(255),
+    minimum_amount BIGINT,
+    category_id BIGINT,
+    discount_type VARCHAR(255),
+    discount_value INT,
     creation_time TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     last_modified_time TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
     );
@@ -171,9 +177,12 @@ CREATE TABLE IF NOT EXISTS USER_COUPON (
     creation_time TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     last_modified_time TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     FOREIGN KEY (user_id) REFERENCES USERS(user_id),
-    FOREIGN KEY (coupon_id) REFERENCES COUPON(coupon_id)
+    FOREIGN KEY (coupon_id) REFERENCES COUPON(coupon_id),
+    CONSTRAINT uk_user_coupon_user_coupon UNIQUE (user_id, coupon_id)
     );
 
+CREATE INDEX IF NOT EXISTS idx_user_coupon_user_valid ON USER_COUPON (user_id, is_valid);
+
 CREATE TABLE IF NOT EXISTS ALARM (
     alarm_id BIGINT AUTO_INCREMENT PRIMARY KEY,
     title VARCHAR(255) NOT NULL,
@@ -245,3 +254,55 @@ CREATE TABLE IF NOT EXISTS ORDER_ITEM (
     FOREIGN KEY (order_id) REFERENCES ORDERS(order_id),
     FOREIGN KEY (item_id) REFERENCES ITEM(item_id)
     );
+
+CREATE TABLE IF NOT EXISTS REFRESH_SESSION (
+    refresh_session_id VARCHAR(36) PRIMARY KEY,
+    family_id VARCHAR(36) NOT NULL,
+    user_id BIGINT NOT NULL,
+    identification VARCHAR(255) NOT NULL,
+    expires_at DATETIME NOT NULL,
+    revoked BOOLEAN DEFAULT FALSE NOT NULL
+    );
+
+CREATE INDEX IF NOT EXISTS idx_refresh_session_family ON REFRESH_SESSION (family_id);
+
+CREATE TABLE IF NOT EXISTS COUPON_DISTRIBUTION_JOB (
+    coupon_distribution_job_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    coupon_id BIGINT NOT NULL,
+    tier VARCHAR(255),
+    status VARCHAR(255) NOT NULL,
+    last_user_id BIGINT DEFAULT 0 NOT NULL,
+    processed_users BIGINT DEFAULT 0 NOT NULL,
+    total_users BIGINT NOT NULL,
+    processed_at_start BIGINT DEFAULT 0 NOT NULL,
+    started_at DATETIME,
+    finished_at DATETIME,
+    creation_time TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    last_modified_time TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+    );
+
+CREATE TABLE IF NOT EXISTS COUPON_CODE_JOB (
+    coupon_code_job_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    coupon_id BIGINT NOT NULL,
+    status VARCHAR(255) NOT NULL,
+    quantity INT NOT NULL,
+    chunk_size INT NOT NULL,
+    generated_codes BIGINT DEFAULT 0 NOT NULL,
+    generated_at_start BIGINT DEFAULT 0 NOT NULL,
+    started_at DATETIME,
+    finished_at DATETIME,
+    creation_time TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    last_modified_time TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+    );
+
+CREATE TABLE IF NOT EXISTS COUPON_CODE (
+    coupon_code_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    coupon_id BIGINT NOT NULL,
+    coupon_code_job_id BIGINT NOT NULL,
+    code VARCHAR(13) NOT NULL,
+    creation_time TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    last_modified_time TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    CONSTRAINT uk_coupon_code_code UNIQUE (code)
+    );
+
+CREATE INDEX IF NOT EXISTS idx_coupon_code_job ON COUPON_CODE (coupon_code_job_id);
@@ -0,0 +1,80 @@
+package jihong99.shoppingmall.config.auth;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jihong99.shoppingmall.exception.PasswordHashingUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ActiveProfiles("test")
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BoundedPasswordEncoder boundedPasswordEncoder;
+
+    @AfterEach
+    public void tearDown() {
+        boundedPasswordEncoder.shutdown();
+    }
+
+    /**
+     * Tests that hashing is delegated and its latency is recorded.
+     */
+    @Test
+    void encode_And_Matches_Delegate_To_Encoder() {
+        // given
+        boundedPasswordEncoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 1, 1, meterRegistry);
+
+        // when
+        String encoded = boundedPasswordEncoder.encode("abcd123!@#");
+
+        // then
+        assertThat(boundedPasswordEncoder.matches("abcd123!@#", encoded)).isTrue();
+        assertThat(boundedPasswordEncoder.matches("wrong123!@#", encoded)).isFalse();
+        assertThat(meterRegistry.get("password.hashing.latency").tag("operation", "matches").timer().count()).isEqualTo(2);
+    }
+
+    /**
+     * Tests that hashing requests are rejected once the pool and its queue are full.
+     */
+    @Test
+    void encode_Rejected_When_Queue_Is_Full() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blockingEncoder = mock(PasswordEncoder.class);
+        when(blockingEncoder.encode(any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return "encoded";
+        });
+        boundedPasswordEncoder = new BoundedPasswordEncoder(blockingEncoder, 1, 1, meterRegistry);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> boundedPasswordEncoder.encode("first"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> boundedPasswordEncoder.encode("second"));
+        while (meterRegistry.get("password.hashing.queue.depth").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        // when & then
+        assertThrows(PasswordHashingUnavailableException.class, () -> boundedPasswordEncoder.encode("third"));
+        assertThat(meterRegistry.get("password.hashing.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("encoded");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("encoded");
+    }
+}
@@ -0,0 +1,51 @@
+package jihong99.shoppingmall.config.auth;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ActiveProfiles("test")
+class CalibratedBCryptPasswordEncoderTest {
+
+    /**
+     * Tests that calibration stays within the configured strength bounds.
+     */
+    @Test
+    void calibrate_Stays_Within_Bounds() {
+        // when
+        CalibratedBCryptPasswordEncoder lowTarget = CalibratedBCryptPasswordEncoder.calibrate(0, 4, 6);
+        CalibratedBCryptPasswordEncoder fixed = CalibratedBCryptPasswordEncoder.calibrate(10_000, 5, 5);
+
+        // then
+        assertThat(lowTarget.getStrength()).isEqualTo(4);
+        assertThat(fixed.getStrength()).isEqualTo(5);
+    }
+
+    /**
+     * Tests that only hashes with a lower cost than the calibrated one are flagged for rehashing.
+     */
+    @Test
+    void upgradeEncoding_True_Only_For_Lower_Cost() {
+        // given
+        CalibratedBCryptPasswordEncoder encoder = new CalibratedBCryptPasswordEncoder(5);
+
+        // when & then
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("abcd123!@#"))).isTrue();
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("abcd123!@#"))).isFalse();
+        assertThat(encoder.upgradeEncoding(encoder.encode("abcd123!@#"))).isFalse();
+        assertThat(encoder.upgradeEncoding("not-a-bcrypt-hash")).isFalse();
+        assertThat(encoder.upgradeEncoding(null)).isFalse();
+    }
+
+    /**
+     * Tests that a minimum cost above the maximum is rejected.
+     */
+    @Test
+    void calibrate_Rejects_Min_Above_Max() {
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> CalibratedBCryptPasswordEncoder.calibrate(250, 6, 5));
+    }
+}
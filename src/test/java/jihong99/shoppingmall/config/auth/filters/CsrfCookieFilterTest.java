@@ -0,0 +1,122 @@
+package jihong99.shoppingmall.config.auth.filters;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.web.csrf.CsrfToken;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ActiveProfiles("test")
+class CsrfCookieFilterTest {
+
+    private CsrfCookieFilter csrfCookieFilter;
+
+    private CsrfToken csrfToken;
+
+    @BeforeEach
+    public void setUp() {
+        csrfCookieFilter = new CsrfCookieFilter();
+        ReflectionTestUtils.setField(csrfCookieFilter, "deferredCookie", true);
+        csrfToken = mock(CsrfToken.class);
+        when(csrfToken.getHeaderName()).thenReturn("X-XSRF-TOKEN");
+        when(csrfToken.getToken()).thenReturn("token");
+    }
+
+    private MockHttpServletRequest request(String method, String cookieToken) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/users");
+        request.setAttribute(CsrfToken.class.getName(), csrfToken);
+        if (cookieToken != null) {
+            request.setCookies(new Cookie("XSRF-TOKEN", cookieToken));
+        }
+        return request;
+    }
+
+    /**
+     * Tests that safe requests already carrying the cookie never resolve the token or write the cookie.
+     */
+    @Test
+    void doFilter_Safe_Method_With_Cookie_Skips_Token() throws Exception {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        csrfCookieFilter.doFilter(request("GET", "token"), response, new MockFilterChain());
+
+        // then
+        verifyNoInteractions(csrfToken);
+        assertThat(response.getCookie("XSRF-TOKEN")).isNull();
+    }
+
+    /**
+     * Tests that the cookie is written when the client does not hold a token yet.
+     */
+    @Test
+    void doFilter_Writes_Cookie_For_New_Token() throws Exception {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        csrfCookieFilter.doFilter(request("GET", null), response, new MockFilterChain());
+
+        // then
+        assertThat(response.getCookie("XSRF-TOKEN").getValue()).isEqualTo("token");
+    }
+
+    /**
+     * Tests that the cookie is only rewritten on unsafe requests when the token changed.
+     */
+    @Test
+    void doFilter_Unsafe_Method_Writes_Cookie_Only_When_Changed() throws Exception {
+        // given
+        MockHttpServletResponse unchanged = new MockHttpServletResponse();
+        MockHttpServletResponse changed = new MockHttpServletResponse();
+
+        // when
+        csrfCookieFilter.doFilter(request("POST", "token"), unchanged, new MockFilterChain());
+        csrfCookieFilter.doFilter(request("POST", "stale"), changed, new MockFilterChain());
+
+        // then
+        assertThat(unchanged.getCookie("XSRF-TOKEN")).isNull();
+        assertThat(changed.getCookie("XSRF-TOKEN").getValue()).isEqualTo("token");
+    }
+
+    /**
+     * Tests that the cookie is not written twice when the token repository already wrote it.
+     */
+    @Test
+    void doFilter_Does_Not_Duplicate_Repository_Cookie() throws Exception {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.addHeader(HttpHeaders.SET_COOKIE, "XSRF-TOKEN=token; Path=/");
+
+        // when
+        csrfCookieFilter.doFilter(request("GET", null), response, new MockFilterChain());
+
+        // then
+        assertThat(response.getHeaders(HttpHeaders.SET_COOKIE)).hasSize(1);
+    }
+
+    /**
+     * Tests that the eager mode keeps writing the cookie on every response.
+     */
+    @Test
+    void doFilter_Eager_Mode_Always_Writes_Cookie() throws Exception {
+        // given
+        ReflectionTestUtils.setField(csrfCookieFilter, "deferredCookie", false);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        csrfCookieFilter.doFilter(request("GET", "token"), response, new MockFilterChain());
+
+        // then
+        assertThat(response.getCookie("XSRF-TOKEN").getValue()).isEqualTo("token");
+    }
+}
@@ -0,0 +1,193 @@
+package jihong99.shoppingmall.config.auth.filters;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import jihong99.shoppingmall.config.auth.providers.AccessTokenDenylist;
+import jihong99.shoppingmall.config.auth.providers.JwtTokenProvider;
+import jihong99.shoppingmall.config.auth.service.UserDetailsServiceImpl;
+import jihong99.shoppingmall.dto.UserPrincipalDto;
+import jihong99.shoppingmall.entity.RefreshSession;
+import jihong99.shoppingmall.entity.Users;
+import jihong99.shoppingmall.entity.enums.Roles;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ActiveProfiles("test")
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET_KEY = "customshoppingmallservice";
+
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    private JwtTokenProvider jwtTokenProvider;
+
+    private UserDetailsServiceImpl userDetailsServiceImpl;
+
+    @BeforeEach
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(jwtTokenProvider, "secretKey", SECRET_KEY);
+        ReflectionTestUtils.setField(jwtTokenProvider, "accessTokenExpirationTime", 1800000L);
+        ReflectionTestUtils.setField(jwtTokenProvider, "verifiedTokenCacheSize", 1000L);
+        jwtTokenProvider.init();
+
+        AccessTokenDenylist accessTokenDenylist = new AccessTokenDenylist();
+        ReflectionTestUtils.setField(accessTokenDenylist, "expectedSize", 1000L);
+        ReflectionTestUtils.setField(accessTokenDenylist, "falsePositiveRate", 0.01);
+        accessTokenDenylist.init();
+
+        userDetailsServiceImpl = mock(UserDetailsServiceImpl.class);
+
+        jwtAuthenticationFilter = new JwtAuthenticationFilter();
+        ReflectionTestUtils.setField(jwtAuthenticationFilter, "jwtTokenProvider", jwtTokenProvider);
+        ReflectionTestUtils.setField(jwtAuthenticationFilter, "userDetailsServiceImpl", userDetailsServiceImpl);
+        ReflectionTestUtils.setField(jwtAuthenticationFilter, "accessTokenDenylist", accessTokenDenylist);
+        ReflectionTestUtils.setField(jwtAuthenticationFilter, "statelessAuthentication", true);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private Authentication filter(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users");
+        request.addHeader("Authorization", "Bearer " + token);
+        jwtAuthenticationFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private String tokenWithClaims(Object id, Object role) {
+        return Jwts.builder()
+                .setSubject("user")
+                .claim(JwtTokenProvider.TOKEN_TYPE_CLAIM, JwtTokenProvider.ACCESS_TOKEN_TYPE)
+                .claim("id", id)
+                .claim("role", role)
+                .setExpiration(new Date(System.currentTimeMillis() + 1800000))
+                .signWith(SignatureAlgorithm.HS256, SECRET_KEY)
+                .compact();
+    }
+
+    /**
+     * Tests that stateless mode builds the principal from the token claims without loading the user.
+     */
+    @Test
+    void doFilter_Stateless_Builds_Principal_From_Claims() throws Exception {
+        // given
+        String token = jwtTokenProvider.generateAccessToken(UserPrincipalDto.of(1L, "user", Roles.ADMIN));
+
+        // when
+        Authentication authentication = filter(token);
+
+        // then
+        verifyNoInteractions(userDetailsServiceImpl);
+        UserPrincipalDto principal = (UserPrincipalDto) authentication.getPrincipal();
+        assertThat(principal.getId()).isEqualTo(1L);
+        assertThat(principal.getIdentification()).isEqualTo("user");
+        assertThat(authentication.getAuthorities()).extracting("authority").containsExactly("ROLE_ADMIN");
+    }
+
+    /**
+     * Tests that stateless mode falls back to loading the user for tokens missing the role or ID claim, or with an
+     * unknown role.
+     */
+    @Test
+    void doFilter_Stateless_Falls_Back_For_Incomplete_Claims() throws Exception {
+        // given
+        UserPrincipalDto stored = UserPrincipalDto.of(1L, "user", Roles.USER);
+        when(userDetailsServiceImpl.loadUserByUsername("user")).thenReturn(stored);
+        String withoutRole = jwtTokenProvider.generateAccessToken(UserPrincipalDto.of(1L, "user", null));
+
+        // when & then
+        assertThat(filter(withoutRole).getPrincipal()).isSameAs(stored);
+        SecurityContextHolder.clearContext();
+        assertThat(filter(tokenWithClaims(null, "ADMIN")).getPrincipal()).isSameAs(stored);
+        SecurityContextHolder.clearContext();
+        assertThat(filter(tokenWithClaims(1L, "OWNER")).getPrincipal()).isSameAs(stored);
+        verify(userDetailsServiceImpl, times(3)).loadUserByUsername("user");
+    }
+
+    /**
+     * Tests that a token falling back to a user who no longer exists leaves the request unauthenticated.
+     */
+    @Test
+    void doFilter_Stateless_Rejects_Fallback_For_Missing_User() throws Exception {
+        // given
+        when(userDetailsServiceImpl.loadUserByUsername("user")).thenThrow(new UsernameNotFoundException("user"));
+        String withoutRole = jwtTokenProvider.generateAccessToken(UserPrincipalDto.of(1L, "user", null));
+
+        // when
+        Authentication authentication = filter(withoutRole);
+
+        // then
+        assertThat(authentication).isNull();
+    }
+
+    /**
+     * Tests that with stateless mode off, the principal is always loaded even when the claims are complete.
+     */
+    @Test
+    void doFilter_Stateful_Loads_User() throws Exception {
+        // given
+        ReflectionTestUtils.setField(jwtAuthenticationFilter, "statelessAuthentication", false);
+        UserPrincipalDto stored = UserPrincipalDto.of(1L, "user", Roles.USER);
+        when(userDetailsServiceImpl.loadUserByUsername("user")).thenReturn(stored);
+        String token = jwtTokenProvider.generateAccessToken(UserPrincipalDto.of(1L, "user", Roles.ADMIN));
+
+        // when
+        Authentication authentication = filter(token);
+
+        // then
+        verify(userDetailsServiceImpl).loadUserByUsername("user");
+        assertThat(authentication.getPrincipal()).isSameAs(stored);
+        assertThat(authentication.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+    }
+
+    /**
+     * Tests that a refresh token is not accepted as a bearer token, even for a user who still exists.
+     */
+    @Test
+    void doFilter_Ignores_Refresh_Token() throws Exception {
+        // given
+        when(userDetailsServiceImpl.loadUserByUsername("user")).thenReturn(UserPrincipalDto.of(1L, "user", Roles.USER));
+        Users user = Users.builder()
+                .identification("user")
+                .build();
+        String refreshToken = jwtTokenProvider.generateRefreshToken(
+                RefreshSession.openSession(user, LocalDateTime.now().plusDays(1)));
+
+        // when & then
+        assertThat(filter(refreshToken)).isNull();
+        ReflectionTestUtils.setField(jwtAuthenticationFilter, "statelessAuthentication", false);
+        assertThat(filter(refreshToken)).isNull();
+        verifyNoInteractions(userDetailsServiceImpl);
+    }
+
+    /**
+     * Tests that invalid tokens leave the request unauthenticated in either mode.
+     */
+    @Test
+    void doFilter_Ignores_Invalid_Token() throws Exception {
+        // when
+        Authentication authentication = filter("not-a-token");
+
+        // then
+        assertThat(authentication).isNull();
+        verifyNoInteractions(userDetailsServiceImpl);
+    }
+}
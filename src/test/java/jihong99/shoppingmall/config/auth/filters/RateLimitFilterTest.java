@@ -0,0 +1,210 @@
+package jihong99.shoppingmall.config.auth.filters;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jihong99.shoppingmall.config.auth.ratelimit.RateLimitRule;
+import jihong99.shoppingmall.config.auth.ratelimit.TokenBucketRateLimiter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.util.StreamUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+class RateLimitFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private RateLimitFilter rateLimitFilter;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        List<RateLimitRule> rules = List.of(RateLimitRule.of(HttpMethod.POST, "/api/login",
+                new TokenBucketRateLimiter(3, 1, 100),
+                new TokenBucketRateLimiter(1, 1, 100)));
+        rateLimitFilter = new RateLimitFilter(rules, objectMapper, meterRegistry);
+    }
+
+    private MockHttpServletRequest loginRequest(String remoteAddr, String identification) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/login");
+        request.setRemoteAddr(remoteAddr);
+        request.setContentType("application/json");
+        request.setContent(("{\"identification\":\"" + identification + "\",\"password\":\"pw\"}").getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private double rejected(String key) {
+        return meterRegistry.get("rate.limit.rejected").tag("endpoint", "/api/login").tag("key", key).counter().count();
+    }
+
+    /**
+     * Tests that the body is still readable downstream after the identification was inspected.
+     */
+    @Test
+    void doFilter_Passes_Body_Through() throws Exception {
+        // given
+        MockHttpServletRequest request = loginRequest("10.0.0.1", "user1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+
+        // when
+        rateLimitFilter.doFilter(request, response, filterChain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        String body = StreamUtils.copyToString(filterChain.getRequest().getInputStream(), StandardCharsets.UTF_8);
+        assertThat(body).contains("\"identification\":\"user1\"");
+    }
+
+    /**
+     * Tests that the body can be read downstream through a read listener.
+     */
+    @Test
+    void doFilter_Passes_Body_To_Read_Listener() throws Exception {
+        // given
+        MockHttpServletRequest request = loginRequest("10.0.0.1", "user1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+        rateLimitFilter.doFilter(request, response, filterChain);
+        ServletInputStream inputStream = filterChain.getRequest().getInputStream();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        AtomicBoolean allDataRead = new AtomicBoolean();
+
+        // when
+        inputStream.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                while (inputStream.isReady() && !inputStream.isFinished()) {
+                    body.write(inputStream.read());
+                }
+            }
+
+            @Override
+            public void onAllDataRead() {
+                allDataRead.set(true);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+            }
+        });
+
+        // then
+        assertThat(allDataRead).isTrue();
+        assertThat(body.toString(StandardCharsets.UTF_8)).contains("\"identification\":\"user1\"");
+    }
+
+    /**
+     * Tests that repeated logins for one identification are rejected even from different addresses.
+     */
+    @Test
+    void doFilter_Rejects_Per_Identification() throws Exception {
+        // given
+        rateLimitFilter.doFilter(loginRequest("10.0.0.1", "user1"), new MockHttpServletResponse(), new MockFilterChain());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        rateLimitFilter.doFilter(loginRequest("10.0.0.2", "user1"), response, new MockFilterChain());
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isNotNull();
+        assertThat(rejected("identification")).isEqualTo(1.0);
+        assertThat(rejected("ip")).isZero();
+    }
+
+    /**
+     * Tests that a burst from one address is rejected across identifications.
+     */
+    @Test
+    void doFilter_Rejects_Per_Ip() throws Exception {
+        // given
+        for (int i = 0; i < 3; i++) {
+            rateLimitFilter.doFilter(loginRequest("10.0.0.1", "user" + i), new MockHttpServletResponse(), new MockFilterChain());
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+
+        // when
+        rateLimitFilter.doFilter(loginRequest("10.0.0.1", "user9"), response, filterChain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(filterChain.getRequest()).isNull();
+        assertThat(rejected("ip")).isEqualTo(1.0);
+    }
+
+    /**
+     * Tests that endpoints without a rule are never limited.
+     */
+    @Test
+    void doFilter_Ignores_Other_Endpoints() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/categories");
+        request.setRemoteAddr("10.0.0.1");
+
+        for (int i = 0; i < 10; i++) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // when
+            rateLimitFilter.doFilter(request, response, new MockFilterChain());
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        }
+    }
+
+    /**
+     * Tests that a body over the cap is rejected with 413 before it is parsed, whether or not its length is declared.
+     */
+    @Test
+    void doFilter_Rejects_Oversized_Body() throws Exception {
+        // given
+        List<RateLimitRule> rules = List.of(RateLimitRule.of(HttpMethod.POST, "/api/login",
+                new TokenBucketRateLimiter(3, 1, 100),
+                new TokenBucketRateLimiter(1, 1, 100)));
+        RateLimitFilter cappedFilter = new RateLimitFilter(rules, new ObjectMapper().registerModule(new JavaTimeModule()),
+                meterRegistry, 64);
+        byte[] oversized = ("{\"identification\":\"" + "a".repeat(100) + "\"}").getBytes(StandardCharsets.UTF_8);
+        MockHttpServletRequest declared = loginRequest("10.0.0.1", "user1");
+        declared.setContent(oversized);
+        MockHttpServletRequest undeclared = new MockHttpServletRequest("POST", "/api/login") {
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        undeclared.setRemoteAddr("10.0.0.2");
+        undeclared.setContent(oversized);
+        MockHttpServletResponse declaredResponse = new MockHttpServletResponse();
+        MockHttpServletResponse undeclaredResponse = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+
+        // when
+        cappedFilter.doFilter(declared, declaredResponse, filterChain);
+        cappedFilter.doFilter(undeclared, undeclaredResponse, filterChain);
+
+        // then
+        assertThat(declaredResponse.getStatus()).isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE.value());
+        assertThat(undeclaredResponse.getStatus()).isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE.value());
+        assertThat(filterChain.getRequest()).isNull();
+    }
+}
@@ -0,0 +1,80 @@
+package jihong99.shoppingmall.config.auth.providers;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+class AccessTokenDenylistTest {
+
+    private AccessTokenDenylist accessTokenDenylist;
+
+    @BeforeEach
+    public void setUp() {
+        accessTokenDenylist = new AccessTokenDenylist();
+        ReflectionTestUtils.setField(accessTokenDenylist, "expectedSize", 1000L);
+        ReflectionTestUtils.setField(accessTokenDenylist, "falsePositiveRate", 0.01);
+        accessTokenDenylist.init();
+    }
+
+    private Date inOneHour() {
+        return new Date(System.currentTimeMillis() + 3600000);
+    }
+
+    /**
+     * Tests that only revoked token IDs are reported as revoked.
+     */
+    @Test
+    void isRevoked_Only_Revoked_Tokens() {
+        // given
+        String revoked = UUID.randomUUID().toString();
+        accessTokenDenylist.revoke(revoked, inOneHour());
+
+        // when & then
+        assertThat(accessTokenDenylist.isRevoked(revoked)).isTrue();
+        assertThat(accessTokenDenylist.isRevoked(UUID.randomUUID().toString())).isFalse();
+        assertThat(accessTokenDenylist.isRevoked(null)).isFalse();
+    }
+
+    /**
+     * Tests that tokens which already expired are not kept.
+     */
+    @Test
+    void revoke_Ignores_Expired_Tokens() {
+        // given
+        String expired = UUID.randomUUID().toString();
+
+        // when
+        accessTokenDenylist.revoke(expired, new Date(System.currentTimeMillis() - 1000));
+
+        // then
+        assertThat(accessTokenDenylist.isRevoked(expired)).isFalse();
+    }
+
+    /**
+     * Tests that revoked tokens survive a rebuild of the Bloom filter, even beyond the expected size.
+     */
+    @Test
+    void rebuildBloomFilter_Keeps_Revoked_Tokens() {
+        // given
+        String[] revoked = new String[3000];
+        for (int i = 0; i < revoked.length; i++) {
+            revoked[i] = UUID.randomUUID().toString();
+            accessTokenDenylist.revoke(revoked[i], inOneHour());
+        }
+
+        // when
+        accessTokenDenylist.rebuildBloomFilter();
+
+        // then
+        for (String jti : revoked) {
+            assertThat(accessTokenDenylist.isRevoked(jti)).isTrue();
+        }
+    }
+}
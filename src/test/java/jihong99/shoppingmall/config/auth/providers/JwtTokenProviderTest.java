@@ -0,0 +1,132 @@
+package jihong99.shoppingmall.config.auth.providers;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ActiveProfiles("test")
+class JwtTokenProviderTest {
+
+    private static final String SECRET_KEY = "customshoppingmallservice";
+
+    private static final String FORGED_KEY = "forgedshoppingmallservice";
+
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(jwtTokenProvider, "secretKey", SECRET_KEY);
+        ReflectionTestUtils.setField(jwtTokenProvider, "accessTokenExpirationTime", 1800000L);
+        ReflectionTestUtils.setField(jwtTokenProvider, "verifiedTokenCacheSize", 1000L);
+        jwtTokenProvider.init();
+    }
+
+    private String token(String secretKey, Date expiration) {
+        return Jwts.builder()
+                .setSubject("user")
+                .setId("token-id")
+                .setExpiration(expiration)
+                .signWith(SignatureAlgorithm.HS256, secretKey)
+                .compact();
+    }
+
+    private Date inOneHour() {
+        return new Date(System.currentTimeMillis() + 3600000);
+    }
+
+    private long cachedTokens() {
+        Cache<?, ?> cache = (Cache<?, ?>) ReflectionTestUtils.getField(jwtTokenProvider, "verifiedTokenCache");
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Tests that a token verified once is served from the cache without parsing it again.
+     */
+    @Test
+    void verifyToken_Cache_Hit_Skips_Verification() {
+        // given
+        JwtParser parser = spy((JwtParser) ReflectionTestUtils.getField(jwtTokenProvider, "jwtParser"));
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtParser", parser);
+        String token = token(SECRET_KEY, inOneHour());
+        VerifiedToken first = jwtTokenProvider.verifyToken(token);
+
+        // when
+        VerifiedToken second = jwtTokenProvider.verifyToken(token);
+
+        // then
+        verify(parser, times(1)).parseClaimsJws(anyString());
+        assertThat(second.isValid()).isTrue();
+        assertThat(second.getClaims()).isSameAs(first.getClaims());
+    }
+
+    /**
+     * Tests that a cached token stops being valid once its own expiration time passes.
+     */
+    @Test
+    void verifyToken_Cache_Entry_Expires_With_Token() throws InterruptedException {
+        // given
+        Date expiration = new Date(System.currentTimeMillis() + 2000);
+        String token = token(SECRET_KEY, expiration);
+        assertThat(jwtTokenProvider.verifyToken(token).isValid()).isTrue();
+
+        // when
+        Thread.sleep(Math.max(0, expiration.getTime() - System.currentTimeMillis()) + 200);
+
+        // then
+        assertThat(jwtTokenProvider.verifyToken(token).isValid()).isFalse();
+        assertThat(cachedTokens()).isZero();
+    }
+
+    /**
+     * Tests that malformed, expired and tampered tokens are rejected and never cached.
+     */
+    @Test
+    void verifyToken_Never_Caches_Invalid_Tokens() {
+        // given
+        String expired = token(SECRET_KEY, new Date(System.currentTimeMillis() - 60000));
+        String valid = token(SECRET_KEY, inOneHour());
+        String[] parts = valid.split("\\.");
+        String tamperedPayload = parts[0] + "." + parts[1].substring(0, parts[1].length() - 2) + "AA." + parts[2];
+
+        // when & then
+        assertThat(jwtTokenProvider.verifyToken("not-a-token").isValid()).isFalse();
+        assertThat(jwtTokenProvider.verifyToken(expired).isValid()).isFalse();
+        assertThat(jwtTokenProvider.verifyToken(tamperedPayload).isValid()).isFalse();
+        assertThat(jwtTokenProvider.verifyToken(token(FORGED_KEY, inOneHour())).isValid()).isFalse();
+        assertThat(cachedTokens()).isZero();
+    }
+
+    /**
+     * Tests that a token with the same claims as a cached one but a different signature is verified on its own.
+     */
+    @Test
+    void verifyToken_Same_Claims_Different_Signature_Do_Not_Collide() {
+        // given
+        Date expiration = inOneHour();
+        String genuine = token(SECRET_KEY, expiration);
+        String forged = token(FORGED_KEY, expiration);
+        assertThat(jwtTokenProvider.verifyToken(genuine).isValid()).isTrue();
+
+        // when
+        VerifiedToken verifiedForged = jwtTokenProvider.verifyToken(forged);
+
+        // then
+        assertThat(forged.substring(0, forged.lastIndexOf('.'))).isEqualTo(genuine.substring(0, genuine.lastIndexOf('.')));
+        assertThat(verifiedForged.isValid()).isFalse();
+        assertThat(jwtTokenProvider.verifyToken(genuine).isValid()).isTrue();
+        assertThat(cachedTokens()).isEqualTo(1);
+    }
+}
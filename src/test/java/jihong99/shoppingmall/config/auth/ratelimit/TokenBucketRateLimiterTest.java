@@ -0,0 +1,88 @@
+package jihong99.shoppingmall.config.auth.ratelimit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+class TokenBucketRateLimiterTest {
+
+    /**
+     * Tests that a bucket allows a burst of its capacity and then rejects until it refills.
+     */
+    @Test
+    void tryAcquire_Allows_Burst_Then_Refills() {
+        // given
+        AtomicLong clock = new AtomicLong(0);
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(3, 60, 100, clock::get);
+
+        // when & then
+        assertThat(limiter.tryAcquire("key")).isZero();
+        assertThat(limiter.tryAcquire("key")).isZero();
+        assertThat(limiter.tryAcquire("key")).isZero();
+        long wait = limiter.tryAcquire("key");
+        assertThat(wait).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+
+        clock.addAndGet(wait);
+        assertThat(limiter.tryAcquire("key")).isZero();
+        assertThat(limiter.tryAcquire("key")).isPositive();
+    }
+
+    /**
+     * Tests that keys are limited independently.
+     */
+    @Test
+    void tryAcquire_Keys_Are_Independent() {
+        // given
+        AtomicLong clock = new AtomicLong(0);
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 1, 100, clock::get);
+
+        // when & then
+        assertThat(limiter.tryAcquire("first")).isZero();
+        assertThat(limiter.tryAcquire("first")).isPositive();
+        assertThat(limiter.tryAcquire("second")).isZero();
+    }
+
+    /**
+     * Tests that concurrent requests on one key never take more tokens than the capacity.
+     */
+    @Test
+    void tryAcquire_Concurrent_Requests_Exact_Capacity() throws InterruptedException {
+        // given
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(50, 1, 100);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1000);
+        AtomicInteger acquired = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    if (limiter.tryAcquire("key") == 0) {
+                        acquired.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        done.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(acquired.get()).isEqualTo(50);
+    }
+}
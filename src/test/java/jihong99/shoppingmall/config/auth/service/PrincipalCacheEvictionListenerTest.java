@@ -0,0 +1,100 @@
+package jihong99.shoppingmall.config.auth.service;
+
+import jihong99.shoppingmall.entity.Users;
+import jihong99.shoppingmall.entity.enums.Roles;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class PrincipalCacheEvictionListenerTest {
+
+    private UserDetailsServiceImpl userDetailsService;
+
+    private PrincipalCacheEvictionListener listener;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        userDetailsService = mock(UserDetailsServiceImpl.class);
+        ObjectProvider<UserDetailsServiceImpl> provider = mock(ObjectProvider.class);
+        when(provider.getObject()).thenReturn(userDetailsService);
+        listener = new PrincipalCacheEvictionListener(provider);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    private Users createUser(String identification) {
+        return Users.builder()
+                .identification(identification)
+                .build();
+    }
+
+    private void commit() {
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+    }
+
+    /**
+     * Tests that a role change evicts the principal only once the transaction commits.
+     */
+    @Test
+    void afterUpdate_Evicts_After_Commit() {
+        // given
+        Users user = createUser("testuser");
+        user.updateRole(Roles.ADMIN);
+
+        // when
+        listener.afterUpdate(user);
+
+        // then
+        verifyNoInteractions(userDetailsService);
+        commit();
+        verify(userDetailsService).evictPrincipal("testuser");
+    }
+
+    /**
+     * Tests that the change flag is cleared once handled, so later unrelated updates do not evict again.
+     */
+    @Test
+    void afterUpdate_Clears_Principal_Changed() {
+        // given
+        Users user = createUser("testuser");
+        user.updatePassword("newPassword");
+
+        // when
+        listener.afterUpdate(user);
+        user.updatePoint(100);
+        listener.afterUpdate(user);
+        commit();
+
+        // then
+        assertThat(user.isPrincipalChanged()).isFalse();
+        verify(userDetailsService, times(1)).evictPrincipal("testuser");
+    }
+
+    /**
+     * Tests that a rolled back transaction leaves the cached principal in place.
+     */
+    @Test
+    void afterRemove_Does_Not_Evict_Without_Commit() {
+        // given
+        Users user = createUser("testuser");
+
+        // when
+        listener.afterRemove(user);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // then
+        verifyNoInteractions(userDetailsService);
+    }
+}
@@ -0,0 +1,102 @@
+package jihong99.shoppingmall.config.auth.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jihong99.shoppingmall.dto.UserPrincipalDto;
+import jihong99.shoppingmall.entity.Users;
+import jihong99.shoppingmall.entity.enums.Roles;
+import jihong99.shoppingmall.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ActiveProfiles("test")
+class UserDetailsServiceImplTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private UserDetailsServiceImpl userDetailsService;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        userDetailsService = new UserDetailsServiceImpl(userRepository, meterRegistry);
+        ReflectionTestUtils.setField(userDetailsService, "principalCacheMaximumSize", 100L);
+        ReflectionTestUtils.setField(userDetailsService, "principalCacheTimeToLive", 600000L);
+        userDetailsService.init();
+    }
+
+    private Users createUser(String identification) {
+        Users user = Users.builder()
+                .identification(identification)
+                .build();
+        user.updateRole(Roles.USER);
+        return user;
+    }
+
+    /**
+     * Tests that the principal is loaded from the repository once and then served from the cache.
+     */
+    @Test
+    void loadUserByUsername_Cached_After_First_Load() {
+        // given
+        when(userRepository.findByIdentification("testuser")).thenReturn(Optional.of(createUser("testuser")));
+
+        // when
+        UserDetails first = userDetailsService.loadUserByUsername("testuser");
+        UserDetails second = userDetailsService.loadUserByUsername("testuser");
+
+        // then
+        assertThat(first).isInstanceOf(UserPrincipalDto.class);
+        assertThat(first.getUsername()).isEqualTo("testuser");
+        assertThat(first.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+        assertThat(second).isSameAs(first);
+        verify(userRepository, times(1)).findByIdentification("testuser");
+        assertThat(meterRegistry.get("cache.hit.rate").tag("cache", "principalCache").gauge().value()).isEqualTo(0.5);
+    }
+
+    /**
+     * Tests that an evicted principal is reloaded from the repository.
+     */
+    @Test
+    void evictPrincipal_Reloads_From_Repository() {
+        // given
+        when(userRepository.findByIdentification("testuser")).thenReturn(Optional.of(createUser("testuser")));
+        userDetailsService.loadUserByUsername("testuser");
+
+        // when
+        userDetailsService.evictPrincipal("testuser");
+        userDetailsService.loadUserByUsername("testuser");
+
+        // then
+        verify(userRepository, times(2)).findByIdentification("testuser");
+    }
+
+    /**
+     * Tests handling of a UsernameNotFoundException when the user does not exist.
+     */
+    @Test
+    void loadUserByUsername_UsernameNotFoundException() {
+        // given
+        when(userRepository.findByIdentification("nonexistentuser")).thenReturn(Optional.empty());
+
+        // when & then
+        assertThrows(UsernameNotFoundException.class, () -> {
+            userDetailsService.loadUserByUsername("nonexistentuser");
+        });
+    }
+}
@@ -4,8 +4,10 @@ import jakarta.transaction.Transactional;
 import jihong99.shoppingmall.constants.Constants;
 import jihong99.shoppingmall.dto.CouponRequestDto;
 import jihong99.shoppingmall.entity.Coupon;
+import jihong99.shoppingmall.entity.CouponDistributionJob;
 import jihong99.shoppingmall.entity.UserCoupon;
 import jihong99.shoppingmall.entity.Users;
+import jihong99.shoppingmall.repository.CouponDistributionJobRepository;
 import jihong99.shoppingmall.repository.CouponRepository;
 import jihong99.shoppingmall.repository.DeliveryAddressRepository;
 import jihong99.shoppingmall.repository.UserCouponRepository;
@@ -49,6 +51,8 @@ class CouponControllerTest {
     private UserRepository userRepository;
     @Autowired
     private DeliveryAddressRepository deliveryAddressRepository;
+    @Autowired
+    private CouponDistributionJobRepository couponDistributionJobRepository;
 
     @BeforeEach
     void setUp() {
@@ -60,6 +64,7 @@ class CouponControllerTest {
 
     @AfterEach
     void tearDown() {
+        couponDistributionJobRepository.deleteAll();
         userCouponRepository.deleteAll();
         deliveryAddressRepository.deleteAll();
         userRepository.deleteAll();
@@ -305,7 +310,7 @@ class CouponControllerTest {
     }
 
     /**
-     * Test method to distribute a coupon to users by tier and return 200 OK.
+     * Test method to start distributing a coupon to users by tier and return 202 Accepted with the job.
      * @throws Exception if an error occurs during the test.
      */
     @Test
@@ -326,8 +331,12 @@ class CouponControllerTest {
                         .with(csrf())
                         .param("couponId", coupon.getId().toString())
                         .param("tier", IRON.name()))
-                .andExpect(status().isOk())
-                .andExpect(jsonPath("$.statusMessage").value(Constants.MESSAGE_200_DistributeCouponSuccess));
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.jobId").isNumber())
+                .andExpect(jsonPath("$.couponId").value(coupon.getId()))
+                .andExpect(jsonPath("$.tier").value(IRON.name()))
+                .andExpect(jsonPath("$.status").value("RUNNING"))
+                .andExpect(jsonPath("$.totalUsers").isNumber());
     }
 
     /**
@@ -373,7 +382,7 @@ class CouponControllerTest {
     }
 
     /**
-     * Test method to distribute a coupon to all users and return 200 OK.
+     * Test method to start distributing a coupon to all users and return 202 Accepted with the job.
      * @throws Exception if an error occurs during the test.
      */
     @Test
@@ -392,8 +401,11 @@ class CouponControllerTest {
         mockMvc.perform(post("/api/admin/coupons/distribute/all")
                         .with(csrf())
                         .param("couponId", coupon.getId().toString()))
-                .andExpect(status().isOk())
-                .andExpect(jsonPath("$.statusMessage").value(Constants.MESSAGE_200_DistributeCouponSuccess));
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.jobId").isNumber())
+                .andExpect(jsonPath("$.couponId").value(coupon.getId()))
+                .andExpect(jsonPath("$.status").value("RUNNING"))
+                .andExpect(jsonPath("$.processedUsers").value(0));
     }
 
     /**
@@ -431,4 +443,40 @@ class CouponControllerTest {
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.errorCode").value(HttpStatus.NOT_FOUND.name()));
     }
+
+    /**
+     * Test method to retrieve the progress of a coupon distribution job and return 200 OK.
+     * @throws Exception if an error occurs during the test.
+     */
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getDistributionJob_Return_OK() throws Exception {
+        // given
+        Coupon coupon = couponRepository.findByName("Welcome Coupon").get();
+        CouponDistributionJob job = couponDistributionJobRepository.save(
+                CouponDistributionJob.createJob(coupon.getId(), GOLD, 3));
+
+        // when & then
+        mockMvc.perform(get("/api/admin/coupons/distribute/jobs/" + job.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.jobId").value(job.getId()))
+                .andExpect(jsonPath("$.tier").value(GOLD.name()))
+                .andExpect(jsonPath("$.status").value("RUNNING"))
+                .andExpect(jsonPath("$.processedUsers").value(0))
+                .andExpect(jsonPath("$.totalUsers").value(3))
+                .andExpect(jsonPath("$.usersPerSecond").isNumber());
+    }
+
+    /**
+     * Test method to handle NotFoundException when retrieving a non-existent distribution job and return 404 Not Found.
+     * @throws Exception if an error occurs during the test.
+     */
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getDistributionJob_Return_NotFound_Handles_NotFoundException() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/admin/coupons/distribute/jobs/-1"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.errorMessage").value(Constants.MESSAGE_404_DistributionJobNotFound));
+    }
 }
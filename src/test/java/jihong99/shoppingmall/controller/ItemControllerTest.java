@@ -237,4 +237,160 @@ class ItemControllerTest {
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.errorCode").value(HttpStatus.NOT_FOUND.name()));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getItem_Return_Ok_Without_Authentication() throws Exception {
+        // given
+        Long categoryId = categoryService.createCategory(new CategoryRequestDto("Public Category")).getId();
+        Long itemId = itemService.createItem(new ItemRequestDto("Public Item", 1000, 10, "#public", Arrays.asList(categoryId))).getId();
+        // when & then
+        mockMvc.perform(get("/api/items/{itemId}", itemId))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Public Item"))
+                .andExpect(jsonPath("$.categoryNames[0]").value("Public Category"));
+    }
+
+    @Test
+    void getItem_Return_NotFound() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/items/{itemId}", -1L))
+                .andDo(print())
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.errorCode").value(HttpStatus.NOT_FOUND.name()));
+    }
+
+    @Test
+    void getItems_Return_Ok() throws Exception {
+        // given
+        Long categoryId = categoryService.createCategory(new CategoryRequestDto("Public Category")).getId();
+        Long firstId = itemService.createItem(new ItemRequestDto("First Item", 1000, 10, "#first", Arrays.asList(categoryId))).getId();
+        Long secondId = itemService.createItem(new ItemRequestDto("Second Item", 2000, 10, "#second", Arrays.asList(categoryId))).getId();
+        // when & then
+        mockMvc.perform(get("/api/items")
+                        .param("ids", String.valueOf(secondId), String.valueOf(firstId)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("Second Item"))
+                .andExpect(jsonPath("$[1].name").value("First Item"));
+    }
+
+    @Test
+    void getItems_Return_BadRequest_Too_Many_Ids() throws Exception {
+        // given
+        String[] ids = new String[101];
+        Arrays.fill(ids, "1");
+        // when & then
+        mockMvc.perform(get("/api/items")
+                        .param("ids", ids))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void importItems_Csv_Return_Ok() throws Exception {
+        // given
+        Long categoryId = categoryService.createCategory(new CategoryRequestDto("Import Category")).getId();
+        String csv = "name,price,inventory,keyword,categoryIds\n" +
+                "Imported Item,1000,10,#imported," + categoryId + "\n" +
+                "Bad Item,abc,10,#bad," + categoryId + "\n";
+        // when & then
+        mockMvc.perform(post("/api/admin/items/import")
+                        .with(csrf())
+                        .contentType("text/csv")
+                        .content(csv))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importedRows").value(1))
+                .andExpect(jsonPath("$.failedRows").value(1))
+                .andExpect(jsonPath("$.errors[0].row").value(2))
+                .andExpect(jsonPath("$.errors[0].errors.price").exists());
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void importItems_Ndjson_Return_Ok() throws Exception {
+        // given
+        Long categoryId = categoryService.createCategory(new CategoryRequestDto("Import Category")).getId();
+        String ndjson = asJsonString(new ItemRequestDto("First Item", 1000, 10, "#first", Arrays.asList(categoryId))) + "\n" +
+                asJsonString(new ItemRequestDto("Second Item", 2000, 20, "#second", Arrays.asList(categoryId))) + "\n";
+        // when & then
+        mockMvc.perform(post("/api/admin/items/import")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(ndjson))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importedRows").value(2))
+                .andExpect(jsonPath("$.failedRows").value(0));
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = "USER")
+    void importItems_Return_Forbidden() throws Exception {
+        // when & then
+        mockMvc.perform(post("/api/admin/items/import")
+                        .with(csrf())
+                        .contentType("text/csv")
+                        .content("name,price,inventory,keyword,categoryIds\n"))
+                .andDo(print())
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void searchItems_Return_Ok_Without_Authentication() throws Exception {
+        // given
+        Long categoryId = categoryService.createCategory(new CategoryRequestDto("Search Category")).getId();
+        itemService.createItem(new ItemRequestDto("Axolotl Mug", 1000, 10, "#mug", Arrays.asList(categoryId)));
+        itemService.createItem(new ItemRequestDto("Ceramic Mug", 2000, 10, "#axolotl", Arrays.asList(categoryId)));
+        // when & then
+        mockMvc.perform(get("/api/items/search")
+                        .param("query", "axolotl")
+                        .param("categoryIds", String.valueOf(categoryId))
+                        .param("size", "1"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalItems").value(2))
+                .andExpect(jsonPath("$.totalPages").value(2))
+                .andExpect(jsonPath("$.content[0].name").value("Axolotl Mug"));
+    }
+
+    @Test
+    void searchItems_Return_BadRequest_Blank_Query() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/items/search")
+                        .param("query", " "))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void suggestItems_Return_Ok_Without_Authentication() throws Exception {
+        // given
+        Long categoryId = categoryService.createCategory(new CategoryRequestDto("Suggest Category")).getId();
+        itemService.createItem(new ItemRequestDto("쿼카 머그컵", 1000, 10, "#mug", Arrays.asList(categoryId)));
+        // when & then
+        mockMvc.perform(get("/api/items/suggest")
+                        .param("prefix", "ㅋㅋ"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].name").value("쿼카 머그컵"));
+        mockMvc.perform(get("/api/items/suggest")
+                        .param("prefix", "쿼카 먹"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("쿼카 머그컵"));
+    }
+
+    @Test
+    void suggestItems_Return_BadRequest_Size_Out_Of_Range() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/items/suggest")
+                        .param("prefix", "쿼")
+                        .param("size", "21"))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -1,5 +1,6 @@
 package jihong99.shoppingmall.controller;
 
+import com.jayway.jsonpath.JsonPath;
 import jakarta.transaction.Transactional;
 import jihong99.shoppingmall.dto.DeliveryAddressDto;
 import jihong99.shoppingmall.dto.LoginRequestDto;
@@ -391,6 +392,45 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.statusMessage").value(MESSAGE_200_LogoutSuccess));
     }
 
+    /**
+     * Tests that the access token can no longer authenticate requests after logout.
+     * @throws Exception if an error occurs during the test.
+     */
+    @Test
+    @Transactional
+    public void logout_Revokes_Access_Token() throws Exception {
+        // given
+        SignUpDto signUpDto = new SignUpDto("abcd123", "abcd123!@#",
+                "abcd123!@#", "민지홍", "1999-12-30", "01012341234");
+        userService.signUpAccount(signUpDto);
+        String loginResponse = mockMvc.perform(post("/api/login")
+                        .contentType("application/json")
+                        .content(asJsonString(new LoginRequestDto("abcd123", "abcd123!@#"))))
+                .andReturn().getResponse().getContentAsString();
+        String accessToken = JsonPath.read(loginResponse, "$.accessToken");
+        Integer userId = JsonPath.read(loginResponse, "$.userId");
+        SecurityContextHolder.clearContext();
+
+        mockMvc.perform(get("/api/users")
+                        .param("userId", String.valueOf(userId))
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk());
+        SecurityContextHolder.clearContext();
+
+        // when
+        mockMvc.perform(post("/api/logout")
+                        .with(csrf())
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk());
+        SecurityContextHolder.clearContext();
+
+        // then
+        mockMvc.perform(get("/api/users")
+                        .param("userId", String.valueOf(userId))
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isForbidden());
+    }
+
     /**
      * Tests handling when no user is logged in during logout.
      * @throws Exception if an error occurs during the test.
@@ -1,19 +1,32 @@
 package jihong99.shoppingmall.service;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import jihong99.shoppingmall.config.auth.providers.AccessTokenDenylist;
 import jihong99.shoppingmall.config.auth.providers.JwtTokenProvider;
-import jihong99.shoppingmall.entity.Users;
+import jihong99.shoppingmall.config.auth.providers.VerifiedToken;
+import jihong99.shoppingmall.config.auth.service.UserDetailsServiceImpl;
+import jihong99.shoppingmall.dto.UserPrincipalDto;
+import jihong99.shoppingmall.entity.RefreshSession;
+import jihong99.shoppingmall.entity.enums.Roles;
 import jihong99.shoppingmall.exception.InvalidTokenException;
 import jihong99.shoppingmall.exception.NotFoundException;
 import jihong99.shoppingmall.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.Date;
 import java.util.Optional;
 
+import static jihong99.shoppingmall.constants.Constants.MESSAGE_400_InvalidRefreshToken;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
@@ -26,6 +39,15 @@ class AuthServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private IRefreshSessionService refreshSessionService;
+
+    @Mock
+    private UserDetailsServiceImpl userDetailsServiceImpl;
+
+    @Mock
+    private AccessTokenDenylist accessTokenDenylist;
+
     @InjectMocks
     private AuthServiceImpl authService;
 
@@ -34,6 +56,11 @@ class AuthServiceImplTest {
         MockitoAnnotations.openMocks(this);
     }
 
+    @AfterEach
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
     /**
      * Tests the successful refresh of an access token.
      * @throws Exception if an error occurs during the test.
@@ -43,28 +70,26 @@ class AuthServiceImplTest {
         // given
         String refreshToken = "validRefreshToken";
         String identification = "testuser";
-        String newAccessToken = "newAccessToken";
-
-        Users user = Users.builder()
-                .identification(identification)
-                .build();
+        UserPrincipalDto principal = UserPrincipalDto.of(1L, identification, Roles.USER);
+        RefreshSession rotated = mock(RefreshSession.class);
 
-        when(jwtTokenProvider.validateToken(refreshToken)).thenReturn(true);
-        when(jwtTokenProvider.getIdentificationFromToken(refreshToken)).thenReturn(identification);
-        when(userRepository.findByIdentification(identification)).thenReturn(Optional.of(user));
-        when(jwtTokenProvider.generateAccessToken(user)).thenReturn(newAccessToken);
+        when(jwtTokenProvider.verifyToken(refreshToken)).thenReturn(VerifiedToken.valid(refreshClaims("session-1")));
+        when(refreshSessionService.rotate("session-1")).thenReturn(rotated);
+        when(rotated.getIdentification()).thenReturn(identification);
+        when(userDetailsServiceImpl.getPrincipal(identification)).thenReturn(principal);
+        when(jwtTokenProvider.generateAccessToken(principal)).thenReturn("newAccessToken");
+        when(jwtTokenProvider.generateRefreshToken(rotated)).thenReturn("newRefreshToken");
 
         // when
         var response = authService.refreshAccessToken(refreshToken);
 
         // then
         assertThat(response).isNotNull();
-        assertThat(response.get("accessToken")).isEqualTo(newAccessToken);
+        assertThat(response.get("accessToken")).isEqualTo("newAccessToken");
+        assertThat(response.get("refreshToken")).isEqualTo("newRefreshToken");
 
-        verify(jwtTokenProvider, times(1)).validateToken(refreshToken);
-        verify(jwtTokenProvider, times(1)).getIdentificationFromToken(refreshToken);
-        verify(userRepository, times(1)).findByIdentification(identification);
-        verify(jwtTokenProvider, times(1)).generateAccessToken(user);
+        verify(refreshSessionService, times(1)).rotate("session-1");
+        verify(userRepository, never()).findByIdentification(anyString());
     }
 
     /**
@@ -81,10 +106,9 @@ class AuthServiceImplTest {
             authService.refreshAccessToken(invalidRefreshToken);
         });
 
-        verify(jwtTokenProvider, never()).validateToken(invalidRefreshToken);
-        verify(jwtTokenProvider, never()).getIdentificationFromToken(anyString());
-        verify(userRepository, never()).findByIdentification(anyString());
-        verify(jwtTokenProvider, never()).generateAccessToken(any(Users.class));
+        verify(jwtTokenProvider, never()).verifyToken(any());
+        verify(refreshSessionService, never()).rotate(anyString());
+        verify(jwtTokenProvider, never()).generateAccessToken(any(UserPrincipalDto.class));
     }
 
     /**
@@ -96,18 +120,73 @@ class AuthServiceImplTest {
         // given
         String invalidRefreshToken = "invalidRefreshToken";
 
-        when(jwtTokenProvider.validateToken(invalidRefreshToken)).thenReturn(false);
+        when(jwtTokenProvider.verifyToken(invalidRefreshToken)).thenReturn(VerifiedToken.invalid());
 
         // when & then
         assertThrows(InvalidTokenException.class, () -> {
             authService.refreshAccessToken(invalidRefreshToken);
         });
 
-        verify(jwtTokenProvider, times(1)).validateToken(invalidRefreshToken);
-        verify(jwtTokenProvider, never()).getIdentificationFromToken(anyString());
-        verify(userRepository, never()).findByIdentification(anyString());
-        verify(jwtTokenProvider, never()).generateAccessToken(any(Users.class));
+        verify(jwtTokenProvider, times(1)).verifyToken(invalidRefreshToken);
+        verify(refreshSessionService, never()).rotate(anyString());
+        verify(jwtTokenProvider, never()).generateAccessToken(any(UserPrincipalDto.class));
     }
+
+    /**
+     * Tests handling of an InvalidTokenException when the token carries no refresh session, e.g. an access token.
+     */
+    @Test
+    void refreshAccessToken_InvalidTokenException_No_Session() {
+        // given
+        String accessToken = "accessToken";
+
+        when(jwtTokenProvider.verifyToken(accessToken)).thenReturn(VerifiedToken.valid(refreshClaims(null)));
+
+        // when & then
+        assertThrows(InvalidTokenException.class, () -> {
+            authService.refreshAccessToken(accessToken);
+        });
+
+        verify(refreshSessionService, never()).rotate(anyString());
+    }
+
+    /**
+     * Tests that an access token is rejected by the refresh endpoint even though its ID could name a session.
+     */
+    @Test
+    void refreshAccessToken_InvalidTokenException_Access_Token() {
+        // given
+        String accessToken = "accessToken";
+
+        when(jwtTokenProvider.verifyToken(accessToken)).thenReturn(VerifiedToken.valid(accessClaims("session-1")));
+
+        // when & then
+        assertThrows(InvalidTokenException.class, () -> {
+            authService.refreshAccessToken(accessToken);
+        });
+
+        verify(refreshSessionService, never()).rotate(anyString());
+    }
+
+    /**
+     * Tests handling of an InvalidTokenException when the refresh session was already rotated.
+     */
+    @Test
+    void refreshAccessToken_InvalidTokenException_Reused_Session() {
+        // given
+        String refreshToken = "reusedRefreshToken";
+
+        when(jwtTokenProvider.verifyToken(refreshToken)).thenReturn(VerifiedToken.valid(refreshClaims("session-1")));
+        when(refreshSessionService.rotate("session-1")).thenThrow(new InvalidTokenException(MESSAGE_400_InvalidRefreshToken));
+
+        // when & then
+        assertThrows(InvalidTokenException.class, () -> {
+            authService.refreshAccessToken(refreshToken);
+        });
+
+        verify(jwtTokenProvider, never()).generateAccessToken(any(UserPrincipalDto.class));
+    }
+
     /**
      * Tests handling of a UserNotFoundException when the user associated with the token is not found.
      * @throws Exception if an error occurs during the test.
@@ -117,19 +196,104 @@ class AuthServiceImplTest {
         // given
         String refreshToken = "validRefreshToken";
         String identification = "nonexistentuser";
+        RefreshSession rotated = mock(RefreshSession.class);
 
-        when(jwtTokenProvider.validateToken(refreshToken)).thenReturn(true);
-        when(jwtTokenProvider.getIdentificationFromToken(refreshToken)).thenReturn(identification);
-        when(userRepository.findByIdentification(identification)).thenReturn(Optional.empty());
+        when(jwtTokenProvider.verifyToken(refreshToken)).thenReturn(VerifiedToken.valid(refreshClaims("session-1")));
+        when(refreshSessionService.rotate("session-1")).thenReturn(rotated);
+        when(rotated.getIdentification()).thenReturn(identification);
+        when(userDetailsServiceImpl.getPrincipal(identification)).thenThrow(new UsernameNotFoundException(identification));
 
         // when & then
         assertThrows(NotFoundException.class, () -> {
             authService.refreshAccessToken(refreshToken);
         });
 
-        verify(jwtTokenProvider, times(1)).validateToken(refreshToken);
-        verify(jwtTokenProvider, times(1)).getIdentificationFromToken(refreshToken);
-        verify(userRepository, times(1)).findByIdentification(identification);
-        verify(jwtTokenProvider, never()).generateAccessToken(any(Users.class));
+        verify(jwtTokenProvider, never()).generateAccessToken(any(UserPrincipalDto.class));
+    }
+
+    /**
+     * Tests that logout denylists the access token and revokes the refresh session.
+     */
+    @Test
+    void logout_Revokes_Access_Token_And_Refresh_Session() {
+        // given
+        Claims accessClaims = accessClaims("access-jti");
+        accessClaims.setExpiration(new Date(System.currentTimeMillis() + 60000));
+        when(jwtTokenProvider.verifyToken("accessToken")).thenReturn(VerifiedToken.valid(accessClaims));
+        when(jwtTokenProvider.verifyToken("refreshToken")).thenReturn(VerifiedToken.valid(refreshClaims("session-1")));
+
+        // when
+        authService.logout("accessToken", "refreshToken");
+
+        // then
+        verify(accessTokenDenylist, times(1)).revoke("access-jti", accessClaims.getExpiration());
+        verify(refreshSessionService, times(1)).revoke("session-1");
+    }
+
+    /**
+     * Tests that logout without a refresh token only denylists the access token.
+     */
+    @Test
+    void logout_Without_Refresh_Token() {
+        // given
+        Claims accessClaims = accessClaims("access-jti");
+        when(jwtTokenProvider.verifyToken("accessToken")).thenReturn(VerifiedToken.valid(accessClaims));
+        when(jwtTokenProvider.verifyToken(null)).thenReturn(VerifiedToken.invalid());
+
+        // when
+        authService.logout("accessToken", null);
+
+        // then
+        verify(accessTokenDenylist, times(1)).revoke(eq("access-jti"), any());
+        verify(refreshSessionService, never()).revoke(anyString());
+    }
+
+    /**
+     * Tests that the ownership check resolves the ID from a token principal without a repository call.
+     */
+    @Test
+    void hasId_Resolves_Id_From_Principal_Without_Repository() {
+        // given
+        UserPrincipalDto principal = UserPrincipalDto.of(1L, "testuser", Roles.USER);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        // when & then
+        assertThat(authService.hasId(1L)).isTrue();
+        assertThat(authService.hasId(2L)).isFalse();
+        verify(userRepository, never()).findByIdentification(anyString());
+    }
+
+    /**
+     * Tests that principals without an ID fall back to a lookup by identification.
+     */
+    @Test
+    void hasId_Falls_Back_To_Repository_For_Principal_Without_Id() {
+        // given
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("nonexistentuser", null));
+        when(userRepository.findByIdentification("nonexistentuser")).thenReturn(Optional.empty());
+
+        // when & then
+        assertThrows(NotFoundException.class, () -> {
+            authService.hasId(1L);
+        });
+        verify(userRepository, times(1)).findByIdentification("nonexistentuser");
+    }
+
+    private Claims refreshClaims(String sessionId) {
+        Claims claims = Jwts.claims();
+        claims.put(JwtTokenProvider.TOKEN_TYPE_CLAIM, JwtTokenProvider.REFRESH_TOKEN_TYPE);
+        claims.setSubject("testuser");
+        claims.setId(sessionId);
+        return claims;
+    }
+
+    private Claims accessClaims(String tokenId) {
+        Claims claims = Jwts.claims();
+        claims.put(JwtTokenProvider.TOKEN_TYPE_CLAIM, JwtTokenProvider.ACCESS_TOKEN_TYPE);
+        claims.setSubject("testuser");
+        claims.setId(tokenId);
+        return claims;
     }
 }
@@ -0,0 +1,89 @@
+package jihong99.shoppingmall.service;
+
+import jihong99.shoppingmall.dto.CouponRequestDto;
+import jihong99.shoppingmall.entity.Coupon;
+import jihong99.shoppingmall.repository.CouponRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CouponCatalogTest {
+
+    @Autowired
+    private CouponCatalog couponCatalog;
+    @Autowired
+    private ICouponService couponService;
+    @Autowired
+    private CouponRepository couponRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    public void tearDown() {
+        couponRepository.findByName("Catalog Coupon").ifPresent(couponRepository::delete);
+    }
+
+    /**
+     * Tests that the welcome coupon created at startup is served from the catalog.
+     */
+    @Test
+    void findByName_Welcome_Coupon_Loaded_At_Startup() {
+        // when & then
+        assertThat(couponCatalog.findByName("Welcome Coupon")).isPresent();
+        assertThat(couponCatalog.findAll(PageRequest.of(0, 10)).getContent())
+                .extracting(Coupon::getName)
+                .contains("Welcome Coupon");
+    }
+
+    /**
+     * Tests that a created coupon is added to the catalog, and removed again when it is deleted.
+     */
+    @Test
+    void createCoupon_Updates_Catalog() {
+        // given
+        CouponRequestDto requestDto = new CouponRequestDto("Catalog Coupon", "Cached coupon", LocalDate.now().plusDays(10));
+
+        // when
+        Long couponId = couponService.createCoupon(requestDto).getId();
+
+        // then
+        assertThat(couponCatalog.findByName("Catalog Coupon")).isPresent();
+        assertThat(couponCatalog.findById(couponId).get().getName()).isEqualTo("Catalog Coupon");
+
+        // when
+        couponRepository.deleteById(couponId);
+
+        // then
+        assertThat(couponCatalog.findById(couponId)).isEmpty();
+        assertThat(couponCatalog.findByName("Catalog Coupon")).isEmpty();
+    }
+
+    /**
+     * Tests that a coupon saved in a rolled-back transaction never reaches the catalog.
+     */
+    @Test
+    void save_Rolled_Back_Is_Not_Cached() {
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            couponRepository.save(Coupon.builder()
+                    .name("Catalog Coupon")
+                    .content("Rolled back")
+                    .expirationDate(LocalDate.now().plusDays(10))
+                    .build());
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(couponCatalog.findByName("Catalog Coupon")).isEmpty();
+    }
+}
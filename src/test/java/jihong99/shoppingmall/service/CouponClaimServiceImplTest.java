@@ -0,0 +1,215 @@
+package jihong99.shoppingmall.service;
+
+import jihong99.shoppingmall.entity.Coupon;
+import jihong99.shoppingmall.entity.Users;
+import jihong99.shoppingmall.exception.CouponClaimException;
+import jihong99.shoppingmall.exception.InvalidExpirationDateException;
+import jihong99.shoppingmall.exception.NotFoundException;
+import jihong99.shoppingmall.repository.CouponRepository;
+import jihong99.shoppingmall.repository.UserCouponRepository;
+import jihong99.shoppingmall.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static jihong99.shoppingmall.constants.Constants.MESSAGE_409_CouponSoldOut;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CouponClaimServiceImplTest {
+
+    @Autowired
+    private ICouponClaimService couponClaimService;
+    @Autowired
+    private CouponRepository couponRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+    @Autowired
+    private CouponCatalog couponCatalog;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final List<Users> users = new ArrayList<>();
+    private final List<Coupon> coupons = new ArrayList<>();
+
+    @AfterEach
+    public void tearDown() {
+        target().flushClaims();
+        userCouponRepository.deleteAll();
+        couponRepository.deleteAll(coupons);
+        userRepository.deleteAll(users);
+        users.clear();
+        coupons.clear();
+    }
+
+    private CouponClaimServiceImpl target() {
+        return AopTestUtils.getTargetObject(couponClaimService);
+    }
+
+    private Coupon saveCoupon(String name, Integer quantity, LocalDate expirationDate) {
+        Coupon coupon = couponRepository.save(Coupon.builder()
+                .name(name)
+                .content("First come, first served")
+                .expirationDate(expirationDate)
+                .quantity(quantity)
+                .build());
+        coupons.add(coupon);
+        return coupon;
+    }
+
+    private void saveUsers(int count) {
+        List<Users> created = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            created.add(Users.builder()
+                    .identification("claimUser" + i)
+                    .build());
+        }
+        users.addAll(userRepository.saveAll(created));
+    }
+
+    /**
+     * Stress test: concurrent claims by more users than the stock, each retried, issue exactly the stock.
+     */
+    @Test
+    void claimCoupon_Issues_Exactly_The_Quantity_Under_Contention() throws InterruptedException {
+        // given
+        int quantity = 100;
+        saveUsers(300);
+        Coupon coupon = saveCoupon("Limited Coupon", quantity, LocalDate.now().plusDays(1));
+        AtomicInteger claimed = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+
+        // when
+        for (Users user : users) {
+            for (int attempt = 0; attempt < 2; attempt++) {
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                        couponClaimService.claimCoupon(coupon.getId(), user.getId());
+                        claimed.incrementAndGet();
+                    } catch (CouponClaimException e) {
+                        rejected.incrementAndGet();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        target().flushClaims();
+
+        // then
+        assertThat(claimed.get()).isEqualTo(quantity);
+        assertThat(rejected.get()).isEqualTo(users.size() * 2 - quantity);
+        assertThat(userCouponRepository.countByCouponId(coupon.getId())).isEqualTo(quantity);
+        assertThat(userCouponRepository.findUserIdsByCouponId(coupon.getId())).doesNotHaveDuplicates();
+    }
+
+    /**
+     * Tests that a user cannot claim the same coupon twice.
+     */
+    @Test
+    void claimCoupon_CouponClaimException_Already_Claimed() {
+        // given
+        saveUsers(1);
+        Coupon coupon = saveCoupon("Limited Coupon", 10, LocalDate.now().plusDays(1));
+        couponClaimService.claimCoupon(coupon.getId(), users.get(0).getId());
+
+        // when & then
+        assertThrows(CouponClaimException.class,
+                () -> couponClaimService.claimCoupon(coupon.getId(), users.get(0).getId()));
+    }
+
+    /**
+     * Tests that claiming a coupon without a quantity limit throws NotFoundException.
+     */
+    @Test
+    void claimCoupon_NotFoundException_Unlimited_Coupon() {
+        // given
+        saveUsers(1);
+        Coupon coupon = saveCoupon("Unlimited Coupon", null, LocalDate.now().plusDays(1));
+
+        // when & then
+        assertThrows(NotFoundException.class,
+                () -> couponClaimService.claimCoupon(coupon.getId(), users.get(0).getId()));
+    }
+
+    /**
+     * Tests that claiming an expired coupon throws InvalidExpirationDateException.
+     */
+    @Test
+    void claimCoupon_InvalidExpirationDateException() {
+        // given
+        saveUsers(1);
+        Coupon coupon = saveCoupon("Expired Limited", 10, LocalDate.now().minusDays(1));
+
+        // when & then
+        assertThrows(InvalidExpirationDateException.class,
+                () -> couponClaimService.claimCoupon(coupon.getId(), users.get(0).getId()));
+    }
+
+    /**
+     * Tests that a batch failing on every attempt is split, the other claims are written, and the failing claim is
+     * dropped with its stock released.
+     */
+    @Test
+    void flushClaims_Drops_Failing_Claims_And_Releases_Their_Stock() {
+        // given
+        saveUsers(4);
+        Coupon coupon = saveCoupon("Limited Coupon", 3, LocalDate.now().plusDays(1));
+        Long failingUserId = users.get(1).getId();
+        UserCouponRepository failingRepository = mock(UserCouponRepository.class);
+        doThrow(new DataIntegrityViolationException("user_coupon")).when(failingRepository)
+                .batchInsert(eq(coupon.getId()), argThat((List<Long> userIds) -> userIds.contains(failingUserId)));
+        CouponClaimServiceImpl service = new CouponClaimServiceImpl(
+                couponCatalog, failingRepository, transactionTemplate);
+        ReflectionTestUtils.setField(service, "stockStripes", 1);
+        ReflectionTestUtils.setField(service, "flushBatchSize", 1000);
+        ReflectionTestUtils.setField(service, "maxFlushAttempts", 2);
+        for (int i = 0; i < 3; i++) {
+            service.claimCoupon(coupon.getId(), users.get(i).getId());
+        }
+
+        // when
+        service.flushClaims();
+        service.flushClaims();
+
+        // then
+        List<Long> claimedUserIds = List.of(users.get(0).getId(), failingUserId, users.get(2).getId());
+        verify(failingRepository, times(2)).batchInsert(coupon.getId(), claimedUserIds);
+        verify(failingRepository).batchInsert(coupon.getId(), List.of(users.get(0).getId()));
+        verify(failingRepository).batchInsert(coupon.getId(), List.of(failingUserId, users.get(2).getId()));
+        verify(failingRepository).batchInsert(coupon.getId(), List.of(failingUserId));
+        verify(failingRepository).batchInsert(coupon.getId(), List.of(users.get(2).getId()));
+        service.claimCoupon(coupon.getId(), users.get(3).getId());
+        CouponClaimException soldOut = assertThrows(CouponClaimException.class,
+                () -> service.claimCoupon(coupon.getId(), failingUserId));
+        assertThat(soldOut.getMessage()).isEqualTo(MESSAGE_409_CouponSoldOut);
+    }
+}
@@ -0,0 +1,59 @@
+package jihong99.shoppingmall.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CouponCodeGeneratorTest {
+
+    private final CouponCodeGenerator generator = new CouponCodeGenerator("test-secret");
+
+    /**
+     * Tests that codes of consecutive indexes and of different jobs never collide.
+     */
+    @Test
+    void generate_Unique_Across_Indexes_And_Jobs() {
+        // given
+        Set<String> codes = new HashSet<>();
+
+        // when
+        for (long jobId = 1; jobId <= 4; jobId++) {
+            for (long index = 0; index < 250_000; index++) {
+                codes.add(generator.generate(jobId, index));
+            }
+        }
+
+        // then
+        assertThat(codes).hasSize(1_000_000);
+    }
+
+    /**
+     * Tests that codes have a fixed length and use only Crockford's base32 alphabet.
+     */
+    @Test
+    void generate_Uses_Fixed_Length_Base32() {
+        // when
+        String code = generator.generate(1L, 0L);
+
+        // then
+        assertThat(code).hasSize(CouponCodeGenerator.CODE_LENGTH);
+        assertThat(code).matches("[0-9A-HJKMNP-TV-Z]+");
+    }
+
+    /**
+     * Tests that the codes depend on the secret and are stable for a given secret.
+     */
+    @Test
+    void generate_Depends_On_Secret() {
+        // given
+        CouponCodeGenerator sameSecret = new CouponCodeGenerator("test-secret");
+        CouponCodeGenerator otherSecret = new CouponCodeGenerator("other-secret");
+
+        // when & then
+        assertThat(sameSecret.generate(7L, 42L)).isEqualTo(generator.generate(7L, 42L));
+        assertThat(otherSecret.generate(7L, 42L)).isNotEqualTo(generator.generate(7L, 42L));
+    }
+}
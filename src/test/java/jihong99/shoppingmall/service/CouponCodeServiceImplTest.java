@@ -0,0 +1,219 @@
+package jihong99.shoppingmall.service;
+
+import jihong99.shoppingmall.dto.CouponCodeJobResponseDto;
+import jihong99.shoppingmall.entity.Coupon;
+import jihong99.shoppingmall.entity.CouponCodeJob;
+import jihong99.shoppingmall.entity.enums.CouponCodeJobStatus;
+import jihong99.shoppingmall.exception.NotFoundException;
+import jihong99.shoppingmall.repository.CouponCodeJobRepository;
+import jihong99.shoppingmall.repository.CouponCodeRepository;
+import jihong99.shoppingmall.repository.CouponRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CouponCodeServiceImplTest {
+
+    @Autowired
+    private ICouponCodeService couponCodeService;
+    @Autowired
+    private CouponCodeJobRepository couponCodeJobRepository;
+    @Autowired
+    private CouponCodeRepository couponCodeRepository;
+    @Autowired
+    private CouponRepository couponRepository;
+    @Autowired
+    private CouponCodeGenerator couponCodeGenerator;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private CouponCodeServiceImpl target;
+    private Coupon coupon;
+
+    @BeforeEach
+    public void setUp() {
+        target = AopTestUtils.getTargetObject(couponCodeService);
+        ReflectionTestUtils.setField(target, "batchSize", 1000);
+        coupon = couponRepository.save(Coupon.builder()
+                .name("Code Coupon")
+                .content("Redeemed with a generated code")
+                .expirationDate(LocalDate.now().plusDays(10))
+                .build());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ReflectionTestUtils.setField(target, "batchSize", 5000);
+        couponCodeRepository.deleteAll();
+        couponCodeJobRepository.deleteAll();
+        couponRepository.delete(coupon);
+    }
+
+    /**
+     * Tests that a job writes exactly the requested number of distinct codes across several chunks.
+     */
+    @Test
+    void runJob_Generates_Requested_Quantity() {
+        // given
+        CouponCodeJob job = couponCodeJobRepository.save(CouponCodeJob.createJob(coupon.getId(), 2500, 1000));
+
+        // when
+        target.runJob(job.getId());
+
+        // then
+        assertThat(couponCodeRepository.countByJobId(job.getId())).isEqualTo(2500L);
+        CouponCodeJob finished = couponCodeJobRepository.findById(job.getId()).get();
+        assertThat(finished.getStatus()).isEqualTo(CouponCodeJobStatus.COMPLETED);
+        assertThat(finished.getGeneratedCodes()).isEqualTo(2500L);
+        assertThat(finished.getFinishedAt()).isNotNull();
+    }
+
+    /**
+     * Tests that a job interrupted after committing a chunk out of order resumes with its own chunk size, even if
+     * the configured batch size changed, without writing that chunk again.
+     */
+    @Test
+    void runJob_Resumes_Skipping_Written_Chunks() {
+        // given
+        CouponCodeJob job = couponCodeJobRepository.save(CouponCodeJob.createJob(coupon.getId(), 2500, 1000));
+        List<String> secondChunk = new ArrayList<>();
+        for (int index = 1000; index < 2000; index++) {
+            secondChunk.add(couponCodeGenerator.generate(job.getId(), index));
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            couponCodeRepository.batchInsert(coupon.getId(), job.getId(), secondChunk);
+            couponCodeJobRepository.addGeneratedCodes(job.getId(), secondChunk.size());
+        });
+        ReflectionTestUtils.setField(target, "batchSize", 700);
+
+        // when
+        target.runJob(job.getId());
+
+        // then
+        assertThat(couponCodeRepository.countByJobId(job.getId())).isEqualTo(2500L);
+        CouponCodeJob finished = couponCodeJobRepository.findById(job.getId()).get();
+        assertThat(finished.getStatus()).isEqualTo(CouponCodeJobStatus.COMPLETED);
+        assertThat(finished.getGeneratedCodes()).isEqualTo(2500L);
+        assertThat(finished.getGeneratedAtStart()).isEqualTo(1000L);
+    }
+
+    /**
+     * Tests that a job whose chunk cannot be written is marked failed instead of completed with fewer codes.
+     */
+    @Test
+    void runJob_Fails_When_Codes_Fall_Short() {
+        // given
+        CouponCodeJob job = couponCodeJobRepository.save(CouponCodeJob.createJob(coupon.getId(), 2500, 1000));
+        List<String> secondChunk = new ArrayList<>();
+        for (int index = 1000; index < 2000; index++) {
+            secondChunk.add(couponCodeGenerator.generate(job.getId(), index));
+        }
+        couponCodeRepository.batchInsert(coupon.getId(), job.getId(), secondChunk);
+
+        // when
+        target.runJob(job.getId());
+
+        // then
+        CouponCodeJob finished = couponCodeJobRepository.findById(job.getId()).get();
+        assertThat(finished.getStatus()).isEqualTo(CouponCodeJobStatus.FAILED);
+        assertThat(finished.getGeneratedCodes()).isLessThan(2500L);
+    }
+
+    /**
+     * Tests that jobs left running by a previous start are resumed when the application is ready.
+     */
+    @Test
+    void resumeInterruptedJobs_Completes_Running_Jobs() throws InterruptedException {
+        // given
+        CouponCodeJob job = couponCodeJobRepository.save(CouponCodeJob.createJob(coupon.getId(), 1500, 1000));
+
+        // when
+        target.resumeInterruptedJobs();
+
+        // then
+        long deadline = System.currentTimeMillis() + 10000;
+        while (couponCodeJobRepository.findById(job.getId()).get().getStatus() == CouponCodeJobStatus.RUNNING
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(couponCodeJobRepository.findById(job.getId()).get().getStatus())
+                .isEqualTo(CouponCodeJobStatus.COMPLETED);
+        assertThat(couponCodeRepository.countByJobId(job.getId())).isEqualTo(1500L);
+    }
+
+    /**
+     * Tests that the export streams a header line followed by every code of the job.
+     */
+    @Test
+    void exportCodes_Writes_All_Codes_As_Csv() throws IOException {
+        // given
+        CouponCodeJob job = couponCodeJobRepository.save(CouponCodeJob.createJob(coupon.getId(), 2500, 1000));
+        target.runJob(job.getId());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        couponCodeService.exportCodes(job.getId(), outputStream);
+
+        // then
+        List<String> lines = outputStream.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines.get(0)).isEqualTo("code");
+        assertThat(lines.subList(1, lines.size())).hasSize(2500).doesNotHaveDuplicates();
+    }
+
+    /**
+     * Tests that the status of a job reports its progress.
+     */
+    @Test
+    void getJob_Success() {
+        // given
+        CouponCodeJob job = couponCodeJobRepository.save(CouponCodeJob.createJob(coupon.getId(), 10, 1000));
+        target.runJob(job.getId());
+
+        // when
+        CouponCodeJobResponseDto response = couponCodeService.getJob(job.getId());
+
+        // then
+        assertThat(response.getCouponId()).isEqualTo(coupon.getId());
+        assertThat(response.getStatus()).isEqualTo(CouponCodeJobStatus.COMPLETED);
+        assertThat(response.getGeneratedCodes()).isEqualTo(10L);
+        assertThat(response.getCodesPerSecond()).isNotNegative();
+    }
+
+    /**
+     * Tests that retrieving or exporting a non-existent job throws NotFoundException.
+     */
+    @Test
+    void getJob_NotFoundException() {
+        // when & then
+        assertThrows(NotFoundException.class, () -> couponCodeService.getJob(-1L));
+        assertThrows(NotFoundException.class, () -> couponCodeService.exportCodes(-1L, new ByteArrayOutputStream()));
+    }
+
+    /**
+     * Tests that starting a job for a non-existent coupon throws NotFoundException and records no job.
+     */
+    @Test
+    void startGeneration_NotFoundException_Coupon() {
+        // when & then
+        assertThrows(NotFoundException.class, () -> couponCodeService.startGeneration(-1L, 10));
+        assertThat(couponCodeJobRepository.count()).isZero();
+    }
+}
@@ -0,0 +1,268 @@
+package jihong99.shoppingmall.service;
+
+import jihong99.shoppingmall.dto.CouponDistributionJobResponseDto;
+import jihong99.shoppingmall.entity.Coupon;
+import jihong99.shoppingmall.entity.CouponDistributionJob;
+import jihong99.shoppingmall.entity.UserCoupon;
+import jihong99.shoppingmall.entity.Users;
+import jihong99.shoppingmall.entity.enums.DistributionJobStatus;
+import jihong99.shoppingmall.exception.CouponClaimException;
+import jihong99.shoppingmall.exception.NotFoundException;
+import jihong99.shoppingmall.repository.CouponDistributionJobRepository;
+import jihong99.shoppingmall.repository.CouponRepository;
+import jihong99.shoppingmall.repository.UserCouponRepository;
+import jihong99.shoppingmall.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static jihong99.shoppingmall.entity.enums.Tiers.GOLD;
+import static jihong99.shoppingmall.entity.enums.Tiers.SILVER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CouponDistributionJobServiceImplTest {
+
+    @Autowired
+    private ICouponDistributionJobService couponDistributionJobService;
+    @Autowired
+    private CouponDistributionJobRepository couponDistributionJobRepository;
+    @Autowired
+    private CouponRepository couponRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private CouponDistributionJobServiceImpl target;
+    private List<Users> silverUsers;
+    private Coupon coupon;
+
+    @BeforeEach
+    public void setUp() {
+        target = AopTestUtils.getTargetObject(couponDistributionJobService);
+        ReflectionTestUtils.setField(target, "distributionChunkSize", 2);
+        silverUsers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Users user = Users.builder()
+                    .identification("silverUser" + i)
+                    .build();
+            user.updateTier(SILVER);
+            silverUsers.add(userRepository.save(user));
+        }
+        coupon = couponRepository.save(Coupon.builder()
+                .name("Silver Coupon")
+                .content("Distributed by a background job")
+                .expirationDate(LocalDate.now().plusDays(10))
+                .build());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ReflectionTestUtils.setField(target, "distributionChunkSize", 1000);
+        couponDistributionJobRepository.deleteAll();
+        userCouponRepository.deleteAll();
+        userRepository.deleteAll(silverUsers);
+        couponRepository.delete(coupon);
+    }
+
+    /**
+     * Tests that a job issues the coupon to every user of the tier in chunks and completes.
+     */
+    @Test
+    void runJob_Distributes_To_All_Target_Users() {
+        // given
+        CouponDistributionJob job = couponDistributionJobRepository.save(
+                CouponDistributionJob.createJob(coupon.getId(), SILVER, silverUsers.size()));
+
+        // when
+        target.runJob(job.getId());
+
+        // then
+        for (Users user : silverUsers) {
+            assertThat(userCouponRepository.findByUsersId(user.getId())).hasSize(1);
+        }
+        CouponDistributionJob finished = couponDistributionJobRepository.findById(job.getId()).get();
+        assertThat(finished.getStatus()).isEqualTo(DistributionJobStatus.COMPLETED);
+        assertThat(finished.getProcessedUsers()).isEqualTo(5L);
+        assertThat(finished.getLastUserId()).isEqualTo(silverUsers.get(4).getId());
+        assertThat(finished.getFinishedAt()).isNotNull();
+    }
+
+    /**
+     * Tests that a tier job skips users who already hold the coupon and leaves users of other tiers out.
+     */
+    @Test
+    void runJob_Tier_Skips_Existing_Holders_And_Other_Tiers() {
+        // given
+        Users goldUser = userRepository.save(Users.builder()
+                .identification("goldUser")
+                .build());
+        goldUser.updateTier(GOLD);
+        userRepository.save(goldUser);
+        silverUsers.add(goldUser);
+        userCouponRepository.batchInsert(coupon.getId(), List.of(silverUsers.get(2).getId()));
+        CouponDistributionJob job = couponDistributionJobRepository.save(
+                CouponDistributionJob.createJob(coupon.getId(), SILVER, 5));
+
+        // when
+        target.runJob(job.getId());
+
+        // then
+        for (Users user : silverUsers.subList(0, 5)) {
+            assertThat(userCouponRepository.findByUsersId(user.getId())).hasSize(1);
+        }
+        assertThat(userCouponRepository.findByUsersId(goldUser.getId())).isEmpty();
+        CouponDistributionJob finished = couponDistributionJobRepository.findById(job.getId()).get();
+        assertThat(finished.getStatus()).isEqualTo(DistributionJobStatus.COMPLETED);
+        assertThat(finished.getProcessedUsers()).isEqualTo(5L);
+        assertThat(finished.getLastUserId()).isEqualTo(goldUser.getId());
+    }
+
+    /**
+     * Tests that a job without a tier issues the coupon once to every user, including users who already hold it.
+     */
+    @Test
+    void runJob_Distributes_To_All_Users_Once() {
+        // given
+        userCouponRepository.batchInsert(coupon.getId(), List.of(silverUsers.get(2).getId()));
+        CouponDistributionJob job = couponDistributionJobRepository.save(
+                CouponDistributionJob.createJob(coupon.getId(), null, userRepository.count()));
+
+        // when
+        target.runJob(job.getId());
+
+        // then
+        for (Users user : userRepository.findAll()) {
+            assertThat(userCouponRepository.findByUsersIdAndCouponId(user.getId(), coupon.getId())).isPresent();
+        }
+        CouponDistributionJob finished = couponDistributionJobRepository.findById(job.getId()).get();
+        assertThat(finished.getStatus()).isEqualTo(DistributionJobStatus.COMPLETED);
+        assertThat(finished.getProcessedUsers()).isEqualTo(userRepository.count());
+    }
+
+    /**
+     * Tests that a job interrupted after its first chunk resumes from the checkpoint without issuing duplicates.
+     */
+    @Test
+    void runJob_Resumes_From_Checkpoint_Without_Duplicates() {
+        // given
+        CouponDistributionJob job = couponDistributionJobRepository.save(
+                CouponDistributionJob.createJob(coupon.getId(), SILVER, silverUsers.size()));
+        List<Long> firstChunk = List.of(silverUsers.get(0).getId(), silverUsers.get(1).getId());
+        transactionTemplate.executeWithoutResult(status -> {
+            couponDistributionJobRepository.advanceCheckpoint(job.getId(), 0L, firstChunk.get(1), firstChunk.size());
+            userCouponRepository.batchInsert(coupon.getId(), firstChunk);
+        });
+
+        // when
+        target.runJob(job.getId());
+
+        // then
+        for (Users user : silverUsers) {
+            List<UserCoupon> userCoupons = userCouponRepository.findByUsersId(user.getId());
+            assertThat(userCoupons).hasSize(1);
+        }
+        CouponDistributionJob finished = couponDistributionJobRepository.findById(job.getId()).get();
+        assertThat(finished.getStatus()).isEqualTo(DistributionJobStatus.COMPLETED);
+        assertThat(finished.getProcessedUsers()).isEqualTo(5L);
+        assertThat(finished.getProcessedAtStart()).isEqualTo(2L);
+    }
+
+    /**
+     * Tests that a completed job is not run again.
+     */
+    @Test
+    void runJob_Ignores_Finished_Job() {
+        // given
+        CouponDistributionJob job = couponDistributionJobRepository.save(
+                CouponDistributionJob.createJob(coupon.getId(), SILVER, silverUsers.size()));
+        target.runJob(job.getId());
+
+        // when
+        target.runJob(job.getId());
+
+        // then
+        for (Users user : silverUsers) {
+            assertThat(userCouponRepository.findByUsersId(user.getId())).hasSize(1);
+        }
+    }
+
+    /**
+     * Tests that the status of a job reports its progress.
+     */
+    @Test
+    void getJob_Success() {
+        // given
+        CouponDistributionJob job = couponDistributionJobRepository.save(
+                CouponDistributionJob.createJob(coupon.getId(), SILVER, silverUsers.size()));
+        target.runJob(job.getId());
+
+        // when
+        CouponDistributionJobResponseDto response = couponDistributionJobService.getJob(job.getId());
+
+        // then
+        assertThat(response.getJobId()).isEqualTo(job.getId());
+        assertThat(response.getCouponId()).isEqualTo(coupon.getId());
+        assertThat(response.getStatus()).isEqualTo(DistributionJobStatus.COMPLETED);
+        assertThat(response.getProcessedUsers()).isEqualTo(5L);
+        assertThat(response.getTotalUsers()).isEqualTo(5L);
+        assertThat(response.getUsersPerSecond()).isNotNegative();
+    }
+
+    /**
+     * Tests that retrieving a non-existent job throws NotFoundException.
+     */
+    @Test
+    void getJob_NotFoundException() {
+        // when & then
+        assertThrows(NotFoundException.class, () -> couponDistributionJobService.getJob(-1L));
+    }
+
+    /**
+     * Tests that starting a job for a non-existent coupon throws NotFoundException and records no job.
+     */
+    @Test
+    void startDistribution_NotFoundException_Coupon() {
+        // when & then
+        assertThrows(NotFoundException.class, () -> couponDistributionJobService.startDistribution(-1L, SILVER));
+        assertThat(couponDistributionJobRepository.count()).isZero();
+    }
+
+    /**
+     * Tests that starting a job for a limited coupon throws CouponClaimException and records no job.
+     */
+    @Test
+    void startDistribution_CouponClaimException_Limited() {
+        // given
+        Coupon limited = couponRepository.save(Coupon.builder()
+                .name("Limited Silver Coupon")
+                .content("First come, first served")
+                .expirationDate(LocalDate.now().plusDays(10))
+                .quantity(1)
+                .build());
+
+        // when & then
+        try {
+            assertThrows(CouponClaimException.class,
+                    () -> couponDistributionJobService.startDistribution(limited.getId(), SILVER));
+            assertThat(couponDistributionJobRepository.count()).isZero();
+        } finally {
+            couponRepository.delete(limited);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package jihong99.shoppingmall.service;
+
+import jihong99.shoppingmall.entity.Coupon;
+import jihong99.shoppingmall.entity.UserCoupon;
+import jihong99.shoppingmall.entity.Users;
+import jihong99.shoppingmall.entity.enums.DiscountType;
+import jihong99.shoppingmall.repository.CouponRepository;
+import jihong99.shoppingmall.repository.UserCouponRepository;
+import jihong99.shoppingmall.repository.UserRepository;
+import jihong99.shoppingmall.service.CouponRules.CartLine;
+import jihong99.shoppingmall.service.CouponRules.CouponDiscount;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static jihong99.shoppingmall.entity.enums.Tiers.IRON;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CouponRuleEngineTest {
+
+    @Autowired
+    private CouponRuleEngine couponRuleEngine;
+    @Autowired
+    private CouponRepository couponRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+
+    private final List<Coupon> coupons = new ArrayList<>();
+    private Users user;
+
+    @AfterEach
+    public void tearDown() {
+        userCouponRepository.deleteAll();
+        couponRepository.deleteAll(coupons);
+        userRepository.delete(user);
+        coupons.clear();
+    }
+
+    private Coupon saveCoupon(String name, int discountValue) {
+        Coupon coupon = couponRepository.save(Coupon.builder()
+                .name(name)
+                .content("Fixed discount")
+                .expirationDate(LocalDate.now().plusDays(10))
+                .discountType(DiscountType.FIXED)
+                .discountValue(discountValue)
+                .build());
+        coupons.add(coupon);
+        return coupon;
+    }
+
+    /**
+     * Tests that the best discount is chosen among the user's valid coupons only.
+     */
+    @Test
+    void findBestDiscount_Uses_Valid_Held_Coupons() {
+        // given
+        user = userRepository.save(Users.builder()
+                .identification("ruleUser")
+                .build());
+        Coupon held = saveCoupon("Held Rule Coupon", 2_000);
+        Coupon invalid = saveCoupon("Invalid Rule Coupon", 5_000);
+        saveCoupon("Unheld Rule Coupon", 7_000);
+        userCouponRepository.save(UserCoupon.createUserCoupon(user, held));
+        UserCoupon invalidUserCoupon = UserCoupon.createUserCoupon(user, invalid);
+        invalidUserCoupon.updateToInvalid();
+        userCouponRepository.save(invalidUserCoupon);
+        List<CartLine> cart = List.of(new CartLine(10_000, 1, new long[0]));
+
+        // when
+        Optional<CouponDiscount> discount = couponRuleEngine.findBestDiscount(user.getId(), IRON, cart);
+
+        // then
+        assertThat(discount).contains(new CouponDiscount(held.getId(), 2_000));
+    }
+}
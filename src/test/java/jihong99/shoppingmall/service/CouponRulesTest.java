@@ -0,0 +1,97 @@
+package jihong99.shoppingmall.service;
+
+import jihong99.shoppingmall.entity.Coupon;
+import jihong99.shoppingmall.entity.enums.DiscountType;
+import jihong99.shoppingmall.entity.enums.Tiers;
+import jihong99.shoppingmall.service.CouponRules.CartLine;
+import jihong99.shoppingmall.service.CouponRules.CouponDiscount;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CouponRulesTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 6, 1);
+
+    private static Coupon.CouponBuilder coupon(long id) {
+        return Coupon.builder()
+                .id(id)
+                .name("Coupon " + id)
+                .content("Rule coupon")
+                .expirationDate(TODAY.plusDays(10));
+    }
+
+    private static final List<CartLine> CART = List.of(
+            new CartLine(10_000, 2, new long[]{1L}),
+            new CartLine(5_000, 1, new long[]{2L}));
+
+    /**
+     * Tests that the coupon with the largest discount wins, and that a percentage applies to the cart total.
+     */
+    @Test
+    void findBestDiscount_Picks_Largest_Discount() {
+        // given
+        CouponRules rules = CouponRules.compile(List.of(
+                coupon(1).discountType(DiscountType.FIXED).discountValue(3_000).build(),
+                coupon(2).discountType(DiscountType.PERCENTAGE).discountValue(20).build()));
+
+        // when
+        Optional<CouponDiscount> discount = rules.findBestDiscount(Tiers.IRON, new long[]{1L, 2L}, CART, TODAY);
+
+        // then
+        assertThat(discount).contains(new CouponDiscount(2L, 5_000));
+    }
+
+    /**
+     * Tests that a category coupon is applied only to the subtotal of the items in its category.
+     */
+    @Test
+    void findBestDiscount_Category_Coupon_Uses_Category_Subtotal() {
+        // given
+        CouponRules rules = CouponRules.compile(List.of(
+                coupon(1).categoryId(2L).discountType(DiscountType.PERCENTAGE).discountValue(50).build()));
+
+        // when
+        Optional<CouponDiscount> discount = rules.findBestDiscount(Tiers.IRON, new long[]{1L}, CART, TODAY);
+
+        // then
+        assertThat(discount).contains(new CouponDiscount(1L, 2_500));
+    }
+
+    /**
+     * Tests that coupons not held, expired, for another tier, or above the cart total are not applied.
+     */
+    @Test
+    void findBestDiscount_Skips_Inapplicable_Coupons() {
+        // given
+        CouponRules rules = CouponRules.compile(List.of(
+                coupon(1).discountType(DiscountType.FIXED).discountValue(1_000).build(),
+                coupon(2).expirationDate(TODAY.minusDays(1)).discountType(DiscountType.FIXED).discountValue(9_000).build(),
+                coupon(3).tier(Tiers.GOLD).discountType(DiscountType.FIXED).discountValue(9_000).build(),
+                coupon(4).minimumAmount(50_000L).discountType(DiscountType.FIXED).discountValue(9_000).build(),
+                coupon(5).discountType(DiscountType.FIXED).discountValue(9_000).build(),
+                coupon(6).discountType(DiscountType.FIXED).discountValue(100).tier(Tiers.IRON).build()));
+
+        // when
+        Optional<CouponDiscount> discount = rules.findBestDiscount(Tiers.IRON, new long[]{1L, 2L, 3L, 4L, 6L}, CART, TODAY);
+
+        // then
+        assertThat(discount).contains(new CouponDiscount(1L, 1_000));
+    }
+
+    /**
+     * Tests that a coupon without a discount never applies.
+     */
+    @Test
+    void findBestDiscount_Empty_Without_Discount() {
+        // given
+        CouponRules rules = CouponRules.compile(List.of(coupon(1).build()));
+
+        // when & then
+        assertThat(rules.findBestDiscount(Tiers.IRON, new long[]{1L}, CART, TODAY)).isEmpty();
+    }
+}
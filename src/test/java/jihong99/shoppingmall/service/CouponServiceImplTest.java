@@ -6,7 +6,7 @@ import jihong99.shoppingmall.dto.CouponResponseDto;
 import jihong99.shoppingmall.entity.Coupon;
 import jihong99.shoppingmall.entity.UserCoupon;
 import jihong99.shoppingmall.entity.Users;
-import jihong99.shoppingmall.entity.enums.Tiers;
+import jihong99.shoppingmall.exception.CouponClaimException;
 import jihong99.shoppingmall.exception.DuplicateNameException;
 import jihong99.shoppingmall.exception.InvalidExpirationDateException;
 import jihong99.shoppingmall.exception.NotFoundException;
@@ -18,15 +18,16 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
 
 import java.time.LocalDate;
 import java.util.List;
 
-import static jihong99.shoppingmall.entity.enums.Tiers.IRON;
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -145,6 +146,76 @@ class CouponServiceImplTest {
         });
     }
 
+    /**
+     * Test method to retrieve user coupons page by page.
+     * Ensures invalid coupons are filtered before paging, so pages are full and the total is exact.
+     */
+    @Test
+    @Transactional
+    void getUserCoupons_Paginates_Only_Valid_Coupons() {
+        // given
+        Users user = userRepository.save(Users.builder()
+                .identification("pagedUser")
+                .build());
+        for (int i = 0; i < 4; i++) {
+            Coupon coupon = couponRepository.save(Coupon.builder()
+                    .name("Paged Coupon " + i)
+                    .content("Paged coupon")
+                    .expirationDate(LocalDate.now().plusDays(10))
+                    .build());
+            UserCoupon userCoupon = UserCoupon.createUserCoupon(user, coupon);
+            if (i == 0) {
+                userCoupon.updateToInvalid();
+            }
+            userCouponRepository.save(userCoupon);
+        }
+
+        // when
+        Page<CouponResponseDto> firstPage = couponService.getUserCoupons(user.getId(), PageRequest.of(0, 2));
+        Page<CouponResponseDto> secondPage = couponService.getUserCoupons(user.getId(), PageRequest.of(1, 2));
+
+        // then
+        assertThat(firstPage.getTotalElements()).isEqualTo(3);
+        assertThat(firstPage.getContent()).extracting(CouponResponseDto::getName)
+                .containsExactly("Paged Coupon 1", "Paged Coupon 2");
+        assertThat(secondPage.getContent()).extracting(CouponResponseDto::getName)
+                .containsExactly("Paged Coupon 3");
+    }
+
+    /**
+     * Test method to sweep expired coupons.
+     * Ensures only user coupons of expired coupons are marked invalid.
+     */
+    @Test
+    void expireUserCoupons_Invalidates_Expired_Coupons() {
+        // given
+        Users user = userRepository.save(Users.builder()
+                .identification("sweepUser")
+                .build());
+        Coupon validCoupon = couponRepository.findByName("Welcome Coupon").get();
+        Coupon expiredCoupon = couponRepository.save(Coupon.builder()
+                .name("Swept Coupon")
+                .content("This coupon expired yesterday.")
+                .expirationDate(LocalDate.now().minusDays(1))
+                .build());
+        userCouponRepository.save(UserCoupon.createUserCoupon(user, validCoupon));
+        userCouponRepository.save(UserCoupon.createUserCoupon(user, expiredCoupon));
+        CouponServiceImpl target = AopTestUtils.getTargetObject(couponService);
+
+        try {
+            // when
+            target.expireUserCoupons();
+
+            // then
+            assertThat(userCouponRepository.findByUsersIdAndCouponId(user.getId(), validCoupon.getId()).get().getIsValid()).isTrue();
+            assertThat(userCouponRepository.findByUsersIdAndCouponId(user.getId(), expiredCoupon.getId()).get().getIsValid()).isFalse();
+        } finally {
+            userCouponRepository.deleteAll();
+            couponRepository.delete(expiredCoupon);
+            userRepository.delete(user);
+        }
+    }
+
     /**
      * Test method to successfully create a new coupon.
      * Ensures the coupon is created with the correct details.
@@ -269,113 +340,72 @@ class CouponServiceImplTest {
     }
 
     /**
-     * Test method to distribute a coupon to users by their tier successfully.
-     * Ensures the users in the specified tier receive the coupon.
+     * Test method to distribute the same coupon to a user twice.
+     * Ensures the second distribution does not issue a duplicate coupon.
      */
     @Test
     @Transactional
-    void distributeCouponToUsersByTier_Success() {
+    void distributeCouponToUser_Twice_Issues_Once() {
         // given
-        Users user = Users.builder()
+        Users savedUser = userRepository.save(Users.builder()
                 .identification("user1")
-                .build();
-        Users savedUser = userRepository.save(user);
-        savedUser.updateTier(IRON);
-
+                .build());
         Coupon coupon = couponRepository.findByName("Welcome Coupon").get();
+        couponService.distributeCouponToUser(coupon.getId(), savedUser.getId());
 
         // when
-        couponService.distributeCouponToUsersByTier(coupon.getId(), IRON);
+        couponService.distributeCouponToUser(coupon.getId(), savedUser.getId());
 
         // then
-        List<UserCoupon> userCoupons = userCouponRepository.findByUsersId(savedUser.getId());
-        assertThat(userCoupons).isNotEmpty();
-        assertThat(userCoupons.get(0).getCoupon().getName()).isEqualTo("Welcome Coupon");
-    }
-
-    /**
-     * Test method to handle NotFoundException when no users are found in the specified tier.
-     */
-    @Test
-    void distributeCouponToUsersByTier_NotFoundException_User() {
-        // given
-        Coupon coupon = couponRepository.findByName("Welcome Coupon").get();
-
-        // when & then
-        assertThrows(NotFoundException.class, () -> {
-            couponService.distributeCouponToUsersByTier(coupon.getId(), Tiers.GOLD);
-        });
+        assertThat(userCouponRepository.findByUsersId(savedUser.getId())).hasSize(1);
     }
 
     /**
-     * Test method to handle NotFoundException when distributing a non-existent coupon to users by their tier.
+     * Test method to distribute a limited coupon to a user.
+     * Ensures it is rejected, since limited coupons are issued only by claiming.
      */
     @Test
-    @Transactional
-    void distributeCouponToUsersByTier_NotFoundException_Coupon() {
+    void distributeCouponToUser_CouponClaimException_Limited() {
         // given
-        Users user = Users.builder()
+        Users savedUser = userRepository.save(Users.builder()
                 .identification("user1")
-                .build();
-        Users savedUser = userRepository.save(user);
-        savedUser.updateTier(IRON);
+                .build());
+        Coupon limited = couponRepository.save(Coupon.builder()
+                .name("Limited Coupon")
+                .content("First come, first served")
+                .expirationDate(LocalDate.now().plusDays(1))
+                .quantity(1)
+                .build());
 
         // when & then
-        assertThrows(NotFoundException.class, () -> {
-            couponService.distributeCouponToUsersByTier(-1L, IRON);
-        });
+        try {
+            assertThrows(CouponClaimException.class, () -> {
+                couponService.distributeCouponToUser(limited.getId(), savedUser.getId());
+            });
+            assertThat(userCouponRepository.findByUsersId(savedUser.getId())).isEmpty();
+        } finally {
+            couponRepository.delete(limited);
+            userRepository.delete(savedUser);
+        }
     }
 
     /**
-     * Test method to distribute a coupon to all users successfully.
-     * Ensures all users receive the coupon.
+     * Test method to save a duplicate user coupon directly.
+     * Ensures the unique key on (user_id, coupon_id) rejects it.
      */
     @Test
     @Transactional
-    void distributeCouponToAllUsers_Success() {
+    void saveUserCoupon_DataIntegrityViolationException_Duplicate() {
         // given
-        Users user = Users.builder()
+        Users savedUser = userRepository.save(Users.builder()
                 .identification("user1")
-                .build();
-        Users savedUser = userRepository.save(user);
-
+                .build());
         Coupon coupon = couponRepository.findByName("Welcome Coupon").get();
+        userCouponRepository.saveAndFlush(UserCoupon.createUserCoupon(savedUser, coupon));
 
-        // when
-        couponService.distributeCouponToAllUsers(coupon.getId());
-
-        // then
-        List<UserCoupon> userCoupons = userCouponRepository.findByUsersId(savedUser.getId());
-        assertThat(userCoupons).isNotNull();
-        assertThat(userCoupons.get(0).getCoupon().getName()).isEqualTo("Welcome Coupon");
-    }
-
-    /**
-     * Test method to handle NotFoundException when distributing a coupon to all users but no users are found.
-     */
-    @Test
-    void distributeCouponToAllUsers_NotFoundException_User() {
         // when & then
-        assertThrows(NotFoundException.class, () -> {
-            couponService.distributeCouponToAllUsers(-1L);
-        });
-    }
-
-    /**
-     * Test method to handle NotFoundException when distributing a non-existent coupon to all users.
-     */
-    @Test
-    @Transactional
-    void distributeCouponToAllUsers_NotFoundException_Coupon() {
-        // given
-        Users user = Users.builder()
-                .identification("user1")
-                .build();
-        userRepository.save(user);
-
-        // when & then
-        assertThrows(NotFoundException.class, () -> {
-            couponService.distributeCouponToAllUsers(-1L);
+        assertThrows(DataIntegrityViolationException.class, () -> {
+            userCouponRepository.saveAndFlush(UserCoupon.createUserCoupon(savedUser, coupon));
         });
     }
 }
@@ -0,0 +1,100 @@
+package jihong99.shoppingmall.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CouponStockTest {
+
+    /**
+     * Tests that the stock is split across stripes without losing any unit.
+     */
+    @Test
+    void remaining_Sums_All_Stripes() {
+        // when
+        CouponStock stock = new CouponStock(10, 4, List.of());
+
+        // then
+        assertThat(stock.remaining()).isEqualTo(10);
+    }
+
+    /**
+     * Tests that a user can hold only one claim, and that a released claim can be made again.
+     */
+    @Test
+    void addClaim_Rejects_Same_User() {
+        // given
+        CouponStock stock = new CouponStock(10, 4, List.of(1L));
+
+        // when & then
+        assertThat(stock.addClaim(1L)).isFalse();
+        assertThat(stock.addClaim(2L)).isTrue();
+        stock.removeClaim(2L);
+        assertThat(stock.addClaim(2L)).isTrue();
+    }
+
+    /**
+     * Tests that a released unit can be acquired again after the stock sold out.
+     */
+    @Test
+    void release_Returns_A_Unit_To_The_Stock() {
+        // given
+        CouponStock stock = new CouponStock(1, 4, List.of());
+        assertThat(stock.tryAcquire()).isTrue();
+        assertThat(stock.tryAcquire()).isFalse();
+
+        // when
+        stock.release();
+
+        // then
+        assertThat(stock.remaining()).isEqualTo(1);
+        assertThat(stock.tryAcquire()).isTrue();
+    }
+
+    /**
+     * Stress test: many threads claim far more units than the stock holds, and exactly the stock is issued.
+     */
+    @Test
+    void tryAcquire_Issues_Exactly_The_Stock_Under_Contention() throws InterruptedException {
+        // given
+        int quantity = 10000;
+        int threads = 32;
+        int attemptsPerThread = 2000;
+        CouponStock stock = new CouponStock(quantity, 8, List.of());
+        AtomicInteger acquired = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < attemptsPerThread; i++) {
+                    if (stock.tryAcquire()) {
+                        acquired.incrementAndGet();
+                    }
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        // then
+        assertThat(acquired.get()).isEqualTo(quantity);
+        assertThat(stock.remaining()).isZero();
+        assertThat(stock.tryAcquire()).isFalse();
+    }
+}
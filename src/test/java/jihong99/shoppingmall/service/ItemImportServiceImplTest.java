@@ -0,0 +1,135 @@
+package jihong99.shoppingmall.service;
+
+import jihong99.shoppingmall.dto.ItemImportResultDto;
+import jihong99.shoppingmall.dto.ItemImportResultDto.RowError;
+import jihong99.shoppingmall.entity.Category;
+import jihong99.shoppingmall.repository.CategoryItemRepository;
+import jihong99.shoppingmall.repository.CategoryRepository;
+import jihong99.shoppingmall.repository.ItemRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {"item.import.chunk-size=2", "item.import.max-reported-errors=2"})
+@ActiveProfiles("test")
+class ItemImportServiceImplTest {
+
+    @Autowired
+    private IItemImportService itemImportService;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private CategoryItemRepository categoryItemRepository;
+
+    private Category category1;
+    private Category category2;
+
+    @BeforeEach
+    public void setUp() {
+        category1 = categoryRepository.save(new Category(null, "Import Category 1"));
+        category2 = categoryRepository.save(new Category(null, "Import Category 2"));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        categoryItemRepository.deleteAll();
+        itemRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+
+    private static InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Tests that valid CSV rows are imported across several chunks, with quoted fields and their categories.
+     */
+    @Test
+    void importCsv_Imports_Valid_Rows_In_Chunks() {
+        // given
+        String csv = "name,price,inventory,keyword,categoryIds\n" +
+                "First Item,1000,10,#first," + category1.getId() + "\n" +
+                "\"Second, Item\",2000,20,#second," + category1.getId() + ";" + category2.getId() + "\r\n" +
+                "Third Item,3000,30,#third,\"" + category2.getId() + "\"\n";
+
+        // when
+        ItemImportResultDto result = itemImportService.importCsv(body(csv));
+
+        // then
+        assertThat(result.getTotalRows()).isEqualTo(3);
+        assertThat(result.getImportedRows()).isEqualTo(3);
+        assertThat(result.getFailedRows()).isZero();
+        assertThat(result.getErrors()).isEmpty();
+        assertThat(itemRepository.count()).isEqualTo(3);
+        assertThat(categoryItemRepository.count()).isEqualTo(4);
+        assertThat(itemRepository.findAll()).extracting("name")
+                .containsExactlyInAnyOrder("First Item", "Second, Item", "Third Item");
+    }
+
+    /**
+     * Tests that invalid CSV rows are reported by row number and field, while the other rows are imported.
+     */
+    @Test
+    void importCsv_Reports_Invalid_Rows() {
+        // given
+        String csv = "name,price,inventory,keyword,categoryIds\n" +
+                "Valid Item,1000,10,#valid," + category1.getId() + "\n" +
+                "Bad Price,abc,10,#price," + category1.getId() + "\n" +
+                "No,1000,10,#short," + category1.getId() + "\n" +
+                "Missing Category,1000,10,#missing,-1\n";
+
+        // when
+        ItemImportResultDto result = itemImportService.importCsv(body(csv));
+
+        // then
+        assertThat(result.getTotalRows()).isEqualTo(4);
+        assertThat(result.getImportedRows()).isEqualTo(1);
+        assertThat(result.getFailedRows()).isEqualTo(3);
+        assertThat(result.getErrors()).hasSize(2);
+        assertThat(result.getErrorsTruncated()).isTrue();
+        RowError badPrice = result.getErrors().get(0);
+        assertThat(badPrice.getRow()).isEqualTo(2);
+        assertThat(badPrice.getErrors()).containsKey("price");
+        RowError shortName = result.getErrors().get(1);
+        assertThat(shortName.getRow()).isEqualTo(3);
+        assertThat(shortName.getErrors()).containsEntry("name", "Name must be between 3 and 50 characters.");
+        assertThat(itemRepository.count()).isEqualTo(1);
+    }
+
+    /**
+     * Tests that NDJSON lines are imported, and that malformed and invalid lines are reported by line number.
+     */
+    @Test
+    void importNdjson_Imports_Valid_Lines_And_Reports_Invalid_Ones() {
+        // given
+        String ndjson = "{\"name\":\"First Item\",\"price\":1000,\"inventory\":10,\"keyword\":\"#first\",\"categoryIds\":[" + category1.getId() + "]}\n" +
+                "\n" +
+                "{not json}\n" +
+                "{\"name\":\"Second Item\",\"price\":-1,\"inventory\":10,\"keyword\":\"#second\",\"categoryIds\":[" + category1.getId() + "]}\n" +
+                "{\"name\":\"Third Item\",\"price\":3000,\"inventory\":30,\"keyword\":\"#third\",\"categoryIds\":[" + category1.getId() + "," + category2.getId() + "]}";
+
+        // when
+        ItemImportResultDto result = itemImportService.importNdjson(body(ndjson));
+
+        // then
+        assertThat(result.getTotalRows()).isEqualTo(4);
+        assertThat(result.getImportedRows()).isEqualTo(2);
+        assertThat(result.getFailedRows()).isEqualTo(2);
+        assertThat(result.getErrors()).extracting(RowError::getRow).containsExactly(3L, 4L);
+        assertThat(result.getErrors().get(0).getErrors()).containsKey("row");
+        assertThat(result.getErrors().get(1).getErrors()).containsEntry("price", "Price must be greater than or equal to 0.");
+        assertThat(itemRepository.count()).isEqualTo(2);
+        assertThat(categoryItemRepository.count()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,131 @@
+package jihong99.shoppingmall.service;
+
+import jihong99.shoppingmall.service.ItemSearchIndex.SearchResult;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ItemSearchIndexTest {
+
+    private static final long[] ALL_CATEGORIES = new long[0];
+
+    /**
+     * Tests that names and keywords are split into lower-case tokens of letters and digits.
+     */
+    @Test
+    void tokenize_Splits_On_Non_Alphanumeric() {
+        // when & then
+        assertThat(ItemSearchIndex.tokenize("Summer T-Shirt, 2024")).containsExactly("summer", "t", "shirt", "2024");
+        assertThat(ItemSearchIndex.tokenize("#summer#sale#summer")).containsExactly("summer", "sale");
+        assertThat(ItemSearchIndex.tokenize(null)).isEmpty();
+    }
+
+    /**
+     * Tests that only items containing every query token match, and that name matches rank above keyword matches.
+     */
+    @Test
+    void search_Matches_All_Tokens_And_Ranks_Name_First() {
+        // given
+        ItemSearchIndex index = new ItemSearchIndex();
+        index.index(1L, "Blue Shirt", "#summer#cotton", new long[]{10L});
+        index.index(2L, "Cotton Summer Shirt", "#sale", new long[]{10L});
+        index.index(3L, "Red Shirt", "#winter", new long[]{20L});
+
+        // when
+        SearchResult result = index.search("summer cotton", ALL_CATEGORIES, 0, 10);
+
+        // then
+        assertThat(result.totalHits()).isEqualTo(2);
+        assertThat(result.itemIds()).containsExactly(2L, 1L);
+        assertThat(index.search("shirt winter", ALL_CATEGORIES, 0, 10).itemIds()).containsExactly(3L);
+        assertThat(index.search("shirt missing", ALL_CATEGORIES, 0, 10).totalHits()).isZero();
+    }
+
+    /**
+     * Tests that the category filter keeps items in any of the given categories.
+     */
+    @Test
+    void search_Filters_By_Category() {
+        // given
+        ItemSearchIndex index = new ItemSearchIndex();
+        index.index(1L, "Blue Shirt", "#shirt", new long[]{10L, 30L});
+        index.index(2L, "Red Shirt", "#shirt", new long[]{20L});
+        index.index(3L, "Green Shirt", "#shirt", new long[]{40L});
+
+        // when
+        SearchResult result = index.search("shirt", new long[]{30L, 20L}, 0, 10);
+
+        // then
+        assertThat(result.totalHits()).isEqualTo(2);
+        assertThat(result.itemIds()).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    /**
+     * Tests that pages follow the ranking, with equal scores ordered by the most recently indexed item.
+     */
+    @Test
+    void search_Pages_Through_Ranked_Results() {
+        // given
+        ItemSearchIndex index = new ItemSearchIndex();
+        for (long itemId = 1; itemId <= 25; itemId++) {
+            index.index(itemId, "Plain Item " + itemId, "#plain", new long[]{1L});
+        }
+
+        // when
+        SearchResult first = index.search("plain", ALL_CATEGORIES, 0, 10);
+        SearchResult last = index.search("plain", ALL_CATEGORIES, 20, 10);
+
+        // then
+        assertThat(first.totalHits()).isEqualTo(25);
+        assertThat(first.itemIds()).containsExactly(25L, 24L, 23L, 22L, 21L, 20L, 19L, 18L, 17L, 16L);
+        assertThat(last.itemIds()).containsExactly(5L, 4L, 3L, 2L, 1L);
+        assertThat(index.search("plain", ALL_CATEGORIES, 30, 10).itemIds()).isEmpty();
+    }
+
+    /**
+     * Tests that updates replace the indexed text while keeping categories, and that removed items no longer match.
+     */
+    @Test
+    void updateText_And_Remove_Change_Results() {
+        // given
+        ItemSearchIndex index = new ItemSearchIndex();
+        index.index(1L, "Old Name", "#old", new long[]{10L});
+        index.index(2L, "Other Item", "#other", new long[]{10L});
+
+        // when
+        index.updateText(1L, "New Name", "#new");
+        index.remove(2L);
+
+        // then
+        assertThat(index.search("old", ALL_CATEGORIES, 0, 10).totalHits()).isZero();
+        assertThat(index.search("new", new long[]{10L}, 0, 10).itemIds()).containsExactly(1L);
+        assertThat(index.search("other", ALL_CATEGORIES, 0, 10).totalHits()).isZero();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    /**
+     * Tests that results stay correct after enough changes to compact the index.
+     */
+    @Test
+    void search_After_Compaction() {
+        // given
+        ItemSearchIndex index = new ItemSearchIndex();
+        for (long itemId = 1; itemId <= 3000; itemId++) {
+            index.index(itemId, "Item " + itemId, itemId % 2 == 0 ? "#even" : "#odd", new long[]{itemId % 3});
+        }
+
+        // when
+        for (long itemId = 1; itemId <= 2000; itemId++) {
+            index.remove(itemId);
+        }
+        index.updateText(2999L, "Renamed Item", "#even");
+
+        // then
+        assertThat(index.size()).isEqualTo(1000);
+        assertThat(index.search("even", ALL_CATEGORIES, 0, 10).totalHits()).isEqualTo(501);
+        assertThat(index.search("odd", ALL_CATEGORIES, 0, 10).totalHits()).isEqualTo(499);
+        assertThat(index.search("renamed", new long[]{2999L % 3}, 0, 10).itemIds()).containsExactly(2999L);
+        assertThat(index.search("item 3000", ALL_CATEGORIES, 0, 10).itemIds()).containsExactly(3000L);
+        assertThat(index.search("item 1", ALL_CATEGORIES, 0, 10).totalHits()).isZero();
+    }
+}
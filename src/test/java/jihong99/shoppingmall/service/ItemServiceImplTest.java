@@ -3,6 +3,7 @@ package jihong99.shoppingmall.service;
 import jakarta.transaction.Transactional;
 import jihong99.shoppingmall.dto.ItemRequestDto;
 import jihong99.shoppingmall.dto.ItemResponseDto;
+import jihong99.shoppingmall.dto.ItemSuggestionDto;
 import jihong99.shoppingmall.entity.Category;
 import jihong99.shoppingmall.entity.Item;
 import jihong99.shoppingmall.exception.NotFoundException;
@@ -14,9 +15,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.Arrays;
+import java.util.List;
 
 import static jihong99.shoppingmall.constants.Constants.MESSAGE_404_ItemNotFound;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -83,6 +87,38 @@ class ItemServiceImplTest {
     }
 
 
+    @Test
+    void createItem_NotFoundException_Reports_All_Missing_Ids() {
+        // given
+        Category category = categoryRepository.save(new Category(null,"Category 1"));
+        ItemRequestDto itemRequestDto = new ItemRequestDto("Sample Item", 1000, 10, "#keyword", Arrays.asList(-2L, category.getId(), -1L));
+        long itemCount = itemRepository.count();
+
+        // when
+        NotFoundException exception = assertThrows(NotFoundException.class, () -> {
+            itemService.createItem(itemRequestDto);
+        });
+
+        // then
+        assertThat(exception.getMessage()).contains("-2", "-1");
+        assertThat(itemRepository.count()).isEqualTo(itemCount);
+    }
+
+    @Test
+    @Transactional
+    void createItem_Associates_Each_Category_Once() {
+        // given
+        Category category = categoryRepository.save(new Category(null,"Category 1"));
+        ItemRequestDto itemRequestDto = new ItemRequestDto("Sample Item", 1000, 10, "#keyword", Arrays.asList(category.getId(), category.getId()));
+
+        // when
+        ItemResponseDto itemResponseDto = itemService.createItem(itemRequestDto);
+
+        // then
+        assertThat(itemResponseDto.getCategoryNames()).containsExactly("Category 1");
+        assertThat(categoryItemRepository.findByItemId(itemResponseDto.getId())).hasSize(1);
+    }
+
     @Test
     @Transactional
     void updateItem_Success() {
@@ -141,7 +177,129 @@ class ItemServiceImplTest {
         });
     }
 
+    @Test
+    void getItem_Served_From_Cache(){
+        // given
+        Category category = categoryRepository.save(new Category(null,"Category 1"));
+        Long itemId = itemService.createItem(new ItemRequestDto("Cached Item", 1500, 20, "#cached", Arrays.asList(category.getId()))).getId();
+        ItemResponseDto first = itemService.getItem(itemId);
+        // when
+        ItemResponseDto second = itemService.getItem(itemId);
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(second.getName()).isEqualTo("Cached Item");
+        assertThat(second.getCategoryNames()).containsExactly("Category 1");
+    }
 
+    @Test
+    void updateItem_Evicts_Cached_Item(){
+        // given
+        Category category = categoryRepository.save(new Category(null,"Category 1"));
+        Long itemId = itemService.createItem(new ItemRequestDto("Cached Item", 1500, 20, "#cached", Arrays.asList(category.getId()))).getId();
+        itemService.getItem(itemId);
+        // when
+        itemService.updateItem(itemId, new ItemRequestDto("Updated Item", 2000, 20, "#updated", Arrays.asList(category.getId())));
+        // then
+        ItemResponseDto item = itemService.getItem(itemId);
+        assertThat(item.getName()).isEqualTo("Updated Item");
+        assertThat(item.getPrice()).isEqualTo(2000);
+    }
 
+    @Test
+    void deleteItem_Evicts_Cached_Item(){
+        // given
+        Category category = categoryRepository.save(new Category(null,"Category 1"));
+        Long itemId = itemService.createItem(new ItemRequestDto("Cached Item", 1500, 20, "#cached", Arrays.asList(category.getId()))).getId();
+        itemService.getItem(itemId);
+        // when
+        itemService.deleteItem(itemId);
+        // then
+        assertThrows(NotFoundException.class, () -> {
+            itemService.getItem(itemId);
+        });
+    }
 
+    @Test
+    void getItems_Skips_Missing_And_Keeps_Order(){
+        // given
+        Category category = categoryRepository.save(new Category(null,"Category 1"));
+        Long firstId = itemService.createItem(new ItemRequestDto("First Item", 1000, 10, "#first", Arrays.asList(category.getId()))).getId();
+        Long secondId = itemService.createItem(new ItemRequestDto("Second Item", 2000, 10, "#second", Arrays.asList(category.getId()))).getId();
+        itemService.getItem(firstId);
+        // when
+        List<ItemResponseDto> items = itemService.getItems(Arrays.asList(secondId, -1L, firstId, secondId));
+        // then
+        assertThat(items).extracting(ItemResponseDto::getName).containsExactly("Second Item", "First Item");
+    }
+
+    @Test
+    void getItem_NotFoundException(){
+        // when & then
+        assertThrows(NotFoundException.class, () -> {
+            itemService.getItem(-1L);
+        });
+    }
+
+    @Test
+    void searchItems_Finds_Created_Items_By_Name_And_Keyword(){
+        // given
+        Category category1 = categoryRepository.save(new Category(null,"Category 1"));
+        Category category2 = categoryRepository.save(new Category(null,"Category 2"));
+        Long keywordMatchId = itemService.createItem(new ItemRequestDto("Plain Jacket", 1000, 10, "#zephyr", Arrays.asList(category1.getId()))).getId();
+        Long nameMatchId = itemService.createItem(new ItemRequestDto("Zephyr Jacket", 2000, 10, "#jacket", Arrays.asList(category2.getId()))).getId();
+
+        // when
+        Page<ItemResponseDto> all = itemService.searchItems("zephyr", null, PageRequest.of(0, 10));
+        Page<ItemResponseDto> inCategory1 = itemService.searchItems("zephyr", List.of(category1.getId()), PageRequest.of(0, 10));
+
+        // then
+        assertThat(all.getTotalElements()).isEqualTo(2);
+        assertThat(all.getContent()).extracting(ItemResponseDto::getId).containsExactly(nameMatchId, keywordMatchId);
+        assertThat(inCategory1.getContent()).extracting(ItemResponseDto::getId).containsExactly(keywordMatchId);
+    }
+
+    @Test
+    void searchItems_Follows_Update_And_Delete(){
+        // given
+        Category category = categoryRepository.save(new Category(null,"Category 1"));
+        Long itemId = itemService.createItem(new ItemRequestDto("Quokka Lamp", 1000, 10, "#lamp", Arrays.asList(category.getId()))).getId();
+
+        // when
+        itemService.updateItem(itemId, new ItemRequestDto("Wombat Lamp", 1000, 10, "#lamp", Arrays.asList(category.getId())));
+
+        // then
+        assertThat(itemService.searchItems("quokka", null, PageRequest.of(0, 10)).getTotalElements()).isZero();
+        assertThat(itemService.searchItems("wombat", List.of(category.getId()), PageRequest.of(0, 10)).getContent())
+                .extracting(ItemResponseDto::getName).containsExactly("Wombat Lamp");
+
+        // when
+        itemService.deleteItem(itemId);
+
+        // then
+        assertThat(itemService.searchItems("wombat", null, PageRequest.of(0, 10)).getTotalElements()).isZero();
+    }
+
+    @Test
+    void suggestItems_Follows_Create_Update_And_Delete(){
+        // given
+        Category category = categoryRepository.save(new Category(null,"Category 1"));
+        Long itemId = itemService.createItem(new ItemRequestDto("웜뱃 램프", 1000, 10, "#lamp", Arrays.asList(category.getId()))).getId();
+
+        // when & then
+        assertThat(itemService.suggestItems("웜배", 10)).extracting(ItemSuggestionDto::getId).containsExactly(itemId);
+        assertThat(itemService.suggestItems("ㅇㅂㄹ", 10)).extracting(ItemSuggestionDto::getName).containsExactly("웜뱃 램프");
+
+        // when
+        itemService.updateItem(itemId, new ItemRequestDto("판다 램프", 1000, 10, "#lamp", Arrays.asList(category.getId())));
+
+        // then
+        assertThat(itemService.suggestItems("웜배", 10)).isEmpty();
+        assertThat(itemService.suggestItems("판다 램", 10)).extracting(ItemSuggestionDto::getId).containsExactly(itemId);
+
+        // when
+        itemService.deleteItem(itemId);
+
+        // then
+        assertThat(itemService.suggestItems("판다 램", 10)).isEmpty();
+    }
 }
@@ -0,0 +1,145 @@
+package jihong99.shoppingmall.service;
+
+import jihong99.shoppingmall.service.ItemSuggestIndex.Candidate;
+import jihong99.shoppingmall.service.ItemSuggestIndex.Suggestion;
+import jihong99.shoppingmall.utils.HangulJamo;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ItemSuggestIndexTest {
+
+    private static final long UNLIMITED = Long.MAX_VALUE;
+
+    /**
+     * Tests that syllables are decomposed into the jamo typed for them, compound vowels and finals included.
+     */
+    @Test
+    void decompose_Splits_Syllables_Into_Typed_Jamo() {
+        // when & then
+        assertThat(HangulJamo.decompose("나이키")).isEqualTo("ㄴㅏㅇㅣㅋㅣ");
+        assertThat(HangulJamo.decompose("과")).isEqualTo("ㄱㅗㅏ");
+        assertThat(HangulJamo.decompose("닭")).isEqualTo("ㄷㅏㄹㄱ");
+        assertThat(HangulJamo.decompose("  Nike   Air ")).isEqualTo("nike air");
+        assertThat(HangulJamo.initials("나이키 Air")).isEqualTo("ㄴㅇㅋair");
+    }
+
+    /**
+     * Tests that prefixes typed halfway through a syllable and initial consonant queries match.
+     */
+    @Test
+    void suggest_Matches_Partial_Syllables_And_Initials() {
+        // given
+        ItemSuggestIndex index = new ItemSuggestIndex(UNLIMITED, 30);
+        index.load(List.of(
+                new Candidate(1L, "나이키 운동화", 10L),
+                new Candidate(2L, "나무 의자", 20L),
+                new Candidate(3L, "닭가슴살", 5L)));
+
+        // when & then
+        assertThat(itemIds(index.suggest("낭", 10))).containsExactly(1L);
+        assertThat(itemIds(index.suggest("나잌", 10))).containsExactly(1L);
+        assertThat(itemIds(index.suggest("ㄴㅇㅋ", 10))).containsExactly(1L);
+        assertThat(itemIds(index.suggest("달", 10))).containsExactly(3L);
+        assertThat(itemIds(index.suggest("나", 10))).containsExactly(2L, 1L);
+        assertThat(index.suggest("ㅇ", 10)).isEmpty();
+    }
+
+    /**
+     * Tests that only the most popular matches are returned, most popular first.
+     */
+    @Test
+    void suggest_Returns_Top_Matches_By_Popularity() {
+        // given
+        ItemSuggestIndex index = new ItemSuggestIndex(UNLIMITED, 30);
+        index.load(List.of(
+                new Candidate(1L, "가방", 1L),
+                new Candidate(2L, "가위", 9L),
+                new Candidate(3L, "가구", 5L),
+                new Candidate(4L, "나비", 100L)));
+
+        // when
+        List<Suggestion> suggestions = index.suggest("가", 2);
+
+        // then
+        assertThat(suggestions).containsExactly(new Suggestion(2L, "가위"), new Suggestion(3L, "가구"));
+    }
+
+    /**
+     * Tests that changes are suggested before a rebuild, and that a rebuild folds them in with the gained popularity.
+     */
+    @Test
+    void put_And_Remove_Are_Visible_Before_And_After_Rebuild() {
+        // given
+        ItemSuggestIndex index = new ItemSuggestIndex(UNLIMITED, 30);
+        index.load(List.of(
+                new Candidate(1L, "나이키 운동화", 10L),
+                new Candidate(2L, "나이키 모자", 30L)));
+
+        // when
+        index.put(3L, "나이키 양말");
+        index.put(1L, "아디다스 운동화");
+        index.remove(2L);
+
+        // then
+        assertThat(itemIds(index.suggest("나이키", 10))).containsExactly(3L);
+        assertThat(itemIds(index.suggest("아디", 10))).containsExactly(1L);
+        assertThat(index.pendingChanges()).isEqualTo(3);
+
+        // when
+        index.rebuild(Map.of(3L, 50L));
+        index.put(4L, "나이키 가방");
+
+        // then
+        assertThat(index.pendingChanges()).isEqualTo(1);
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(itemIds(index.suggest("나이키", 10))).containsExactly(3L, 4L);
+        assertThat(itemIds(index.suggest("아디", 10))).containsExactly(1L);
+    }
+
+    /**
+     * Tests that the least popular items are left out when the items do not fit in the memory budget.
+     */
+    @Test
+    void load_Leaves_Out_Least_Popular_Over_Budget() {
+        // given
+        ItemSuggestIndex index = new ItemSuggestIndex(400L, 30);
+
+        // when
+        index.load(List.of(
+                new Candidate(1L, "가방", 1L),
+                new Candidate(2L, "가위", 9L),
+                new Candidate(3L, "가구", 5L)));
+
+        // then
+        assertThat(index.droppedItems()).isEqualTo(1);
+        assertThat(itemIds(index.suggest("가", 10))).containsExactly(2L, 3L);
+    }
+
+    /**
+     * Tests that an item left out over the memory budget comes back once it gains enough popularity.
+     */
+    @Test
+    void rebuild_Restores_Dropped_Item_That_Gained_Popularity() {
+        // given
+        ItemSuggestIndex index = new ItemSuggestIndex(400L, 30);
+        index.load(List.of(
+                new Candidate(1L, "가방", 1L),
+                new Candidate(2L, "가위", 9L),
+                new Candidate(3L, "가구", 5L)));
+
+        // when
+        index.rebuild(Map.of(1L, 10L));
+
+        // then
+        assertThat(index.droppedItems()).isEqualTo(1);
+        assertThat(itemIds(index.suggest("가", 10))).containsExactly(1L, 2L);
+    }
+
+    private static List<Long> itemIds(List<Suggestion> suggestions) {
+        return suggestions.stream().map(Suggestion::itemId).toList();
+    }
+}
@@ -0,0 +1,134 @@
+package jihong99.shoppingmall.service;
+
+import jihong99.shoppingmall.entity.RefreshSession;
+import jihong99.shoppingmall.entity.Users;
+import jihong99.shoppingmall.exception.InvalidTokenException;
+import jihong99.shoppingmall.repository.RefreshSessionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ActiveProfiles("test")
+class RefreshSessionServiceImplTest {
+
+    @Mock
+    private RefreshSessionRepository refreshSessionRepository;
+
+    private RefreshSessionServiceImpl refreshSessionService;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        refreshSessionService = new RefreshSessionServiceImpl(refreshSessionRepository);
+        ReflectionTestUtils.setField(refreshSessionService, "refreshTokenExpirationTime", 86400000L);
+        ReflectionTestUtils.setField(refreshSessionService, "sessionCacheSize", 100L);
+        refreshSessionService.init();
+        when(refreshSessionRepository.save(any(RefreshSession.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    private Users createUser() {
+        Users user = Users.builder()
+                .identification("testuser")
+                .build();
+        ReflectionTestUtils.setField(user, "id", 1L);
+        return user;
+    }
+
+    /**
+     * Tests that each login opens a session of its own family.
+     */
+    @Test
+    void openSession_Opens_New_Family_Per_Login() {
+        // when
+        RefreshSession first = refreshSessionService.openSession(createUser());
+        RefreshSession second = refreshSessionService.openSession(createUser());
+
+        // then
+        assertThat(first.getFamilyId()).isNotEqualTo(second.getFamilyId());
+        assertThat(first.getUserId()).isEqualTo(1L);
+        assertThat(first.isRevoked()).isFalse();
+    }
+
+    /**
+     * Tests that rotating an active session serves it from memory and keeps the family.
+     */
+    @Test
+    void rotate_Active_Session_From_Memory() {
+        // given
+        RefreshSession session = refreshSessionService.openSession(createUser());
+        when(refreshSessionRepository.revokeIfActive(session.getId())).thenReturn(1);
+
+        // when
+        RefreshSession rotated = refreshSessionService.rotate(session.getId());
+
+        // then
+        assertThat(rotated.getId()).isNotEqualTo(session.getId());
+        assertThat(rotated.getFamilyId()).isEqualTo(session.getFamilyId());
+        assertThat(rotated.getIdentification()).isEqualTo("testuser");
+        verify(refreshSessionRepository, never()).findById(anyString());
+        verify(refreshSessionRepository, never()).revokeFamily(anyString());
+    }
+
+    /**
+     * Tests that presenting an already rotated session revokes the whole family.
+     */
+    @Test
+    void rotate_Reused_Session_Revokes_Family() {
+        // given
+        RefreshSession session = refreshSessionService.openSession(createUser());
+        when(refreshSessionRepository.revokeIfActive(session.getId())).thenReturn(1, 0);
+        RefreshSession rotated = refreshSessionService.rotate(session.getId());
+        when(refreshSessionRepository.findById(session.getId())).thenReturn(Optional.of(session));
+
+        // when & then
+        assertThrows(InvalidTokenException.class, () -> refreshSessionService.rotate(session.getId()));
+        verify(refreshSessionRepository, times(1)).revokeFamily(session.getFamilyId());
+
+        when(refreshSessionRepository.findById(rotated.getId())).thenReturn(Optional.empty());
+        assertThrows(InvalidTokenException.class, () -> refreshSessionService.rotate(rotated.getId()));
+    }
+
+    /**
+     * Tests that revoking a session drops its family from memory and keeps the other families cached.
+     */
+    @Test
+    void revoke_Drops_Only_Its_Family_From_Memory() {
+        // given
+        RefreshSession revoked = refreshSessionService.openSession(createUser());
+        RefreshSession other = refreshSessionService.openSession(createUser());
+        when(refreshSessionRepository.findById(revoked.getId())).thenReturn(Optional.empty());
+        when(refreshSessionRepository.revokeIfActive(other.getId())).thenReturn(1);
+
+        // when
+        refreshSessionService.revoke(revoked.getId());
+
+        // then
+        verify(refreshSessionRepository, times(1)).revokeFamily(revoked.getFamilyId());
+        assertThrows(InvalidTokenException.class, () -> refreshSessionService.rotate(revoked.getId()));
+        RefreshSession rotated = refreshSessionService.rotate(other.getId());
+        assertThat(rotated.getFamilyId()).isEqualTo(other.getFamilyId());
+        verify(refreshSessionRepository, never()).findById(other.getId());
+    }
+
+    /**
+     * Tests that an unknown session is rejected.
+     */
+    @Test
+    void rotate_Unknown_Session_InvalidTokenException() {
+        // given
+        when(refreshSessionRepository.findById("unknown")).thenReturn(Optional.empty());
+
+        // when & then
+        assertThrows(InvalidTokenException.class, () -> refreshSessionService.rotate("unknown"));
+        verify(refreshSessionRepository, never()).revokeIfActive(anyString());
+    }
+}
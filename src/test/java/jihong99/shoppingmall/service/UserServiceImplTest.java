@@ -3,12 +3,14 @@ import jakarta.transaction.Transactional;
 import jihong99.shoppingmall.config.auth.providers.JwtTokenProvider;
 import jihong99.shoppingmall.dto.*;
 import jihong99.shoppingmall.entity.Coupon;
+import jihong99.shoppingmall.entity.RefreshSession;
 import jihong99.shoppingmall.entity.Users;
 import jihong99.shoppingmall.exception.DuplicateNameException;
 import jihong99.shoppingmall.exception.PasswordMismatchException;
 import jihong99.shoppingmall.exception.NotFoundException;
 import jihong99.shoppingmall.repository.CouponRepository;
 import jihong99.shoppingmall.repository.DeliveryAddressRepository;
+import jihong99.shoppingmall.repository.RefreshSessionRepository;
 import jihong99.shoppingmall.repository.UserCouponRepository;
 import jihong99.shoppingmall.repository.UserRepository;
 import org.junit.jupiter.api.AfterEach;
@@ -57,6 +59,8 @@ class UserServiceImplTest {
     private UserCouponRepository userCouponRepository;
     @Autowired
     private CouponRepository couponRepository;
+    @Autowired
+    private RefreshSessionRepository refreshSessionRepository;
 
     @BeforeEach
     public void setUp(){
@@ -67,6 +71,7 @@ class UserServiceImplTest {
     public void tearDown(){
         deliveryAddressRepository.deleteAll();
         userCouponRepository.deleteAll();
+        refreshSessionRepository.deleteAll();
         userRepository.deleteAll();
     }
 
@@ -177,18 +182,21 @@ class UserServiceImplTest {
      * Test method while signing up a new user account with no welcome coupon.
      */
     @Test
-    @Transactional
     public void signUpAccount_RunTimeException(){
         // given
         SignUpDto signUpDto = new SignUpDto("abcd123","abcd123!@#","abcd123!@#",
                 "민지홍","1999-12-30","01012341234");
         // when
+        userCouponRepository.deleteAll();
         couponRepository.deleteAll();
         // then
-        assertThrows(RuntimeException.class, () -> {
-            userService.signUpAccount(signUpDto);
-        });
-        createWelcomeCoupon();
+        try {
+            assertThrows(RuntimeException.class, () -> {
+                userService.signUpAccount(signUpDto);
+            });
+        } finally {
+            createWelcomeCoupon();
+        }
     }
 
     private void createWelcomeCoupon() {
@@ -262,7 +270,7 @@ class UserServiceImplTest {
 
         Users loggedInUser = userRepository.findById(user.getId()).orElse(null);
         assertThat(loggedInUser).isNotNull();
-        assertThat(loggedInUser.getRefreshToken()).isNotNull();
+        assertThat(loggedInUser.getRefreshToken()).isNull();
     }
 
     /**
@@ -384,6 +392,11 @@ class UserServiceImplTest {
         // then
         assertThat(refreshToken).isNotNull();
         assertThat(jwtTokenProvider.validateToken(refreshToken)).isTrue();
+        String sessionId = jwtTokenProvider.verifyToken(refreshToken).getClaims().getId();
+        RefreshSession session = refreshSessionRepository.findById(sessionId).orElse(null);
+        assertThat(session).isNotNull();
+        assertThat(session.getUserId()).isEqualTo(findUser.getId());
+        assertThat(session.isRevoked()).isFalse();
     }
 
     @Test